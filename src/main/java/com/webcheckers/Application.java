@@ -1,13 +1,19 @@
 package com.webcheckers;
 
 import java.io.InputStream;
+import java.nio.file.Paths;
 import java.util.Objects;
 import java.util.logging.LogManager;
 import java.util.logging.Logger;
 
 import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.webcheckers.ui.AssetPipeline;
 import com.webcheckers.ui.WebServer;
+import com.webcheckers.util.JsonAdapters;
 
+import freemarker.template.Configuration;
+import freemarker.template.TemplateModelException;
 import spark.TemplateEngine;
 import spark.template.freemarker.FreeMarkerEngine;
 
@@ -20,6 +26,19 @@ import spark.template.freemarker.FreeMarkerEngine;
 public final class Application {
   private static final Logger LOG = Logger.getLogger(Application.class.getName());
 
+  /**
+   * Set this property to 'true' to handle each request on a virtual thread,
+   * which needs Java 21 or newer.
+   */
+  private static final String VIRTUAL_THREADS_PROPERTY = "virtualThreads";
+
+  /**
+   * Set this property to a directory to archive ended games to, and keep
+   * them in across restarts. Without it, each server archives them to a new
+   * temporary directory of its own.
+   */
+  private static final String ARCHIVE_DIRECTORY_PROPERTY = "archiveDirectory";
+
   /**
    * Queries whether the application is being run in demo-mode.
    *
@@ -88,15 +107,34 @@ public final class Application {
     // The application uses FreeMarker templates to generate the HTML
     // responses sent back to the client. This will be the engine processing
     // the templates and associated data.
-    final TemplateEngine templateEngine = new FreeMarkerEngine();
+    // bundle the scripts and style sheets, and tell every template where they are.
+    final AssetPipeline assets = new AssetPipeline(Application.class.getClassLoader());
+    final Configuration templateConfiguration = new Configuration(Configuration.VERSION_2_3_23);
+    templateConfiguration.setClassForTemplateLoading(FreeMarkerEngine.class, "");
+    try {
+      templateConfiguration.setSharedVariable(AssetPipeline.TEMPLATE_VARIABLE, assets.getUrls());
+    } catch (TemplateModelException e) {
+      throw new IllegalStateException("Could not share the asset URLs with the templates.", e);
+    }
+    final TemplateEngine templateEngine = new FreeMarkerEngine(templateConfiguration);
 
     // The application uses Gson to generate JSON representations of Java objects.
     // This should be used by your Ajax Routes to generate JSON for the HTTP
-    // response to Ajax requests.
-    final Gson gson = new Gson();
+    // response to Ajax requests. The values sent on every Ajax call are
+    // converted by hand-written adapters rather than by reflection.
+    final Gson gson = JsonAdapters.register(new GsonBuilder()).create();
+
+    // Requests run on Jetty's platform threads unless virtual threads are
+    // asked for.
+    final boolean useVirtualThreads = Boolean.getBoolean(VIRTUAL_THREADS_PROPERTY);
+
+    // Ended games are archived to a directory of this server's own unless
+    // one is given.
+    final String archiveDirectory = System.getProperty(ARCHIVE_DIRECTORY_PROPERTY);
 
     // inject the game center and freemarker engine into web server
-    final WebServer webServer = new WebServer(templateEngine, gson);
+    final WebServer webServer = new WebServer(templateEngine, gson, assets, useVirtualThreads,
+        archiveDirectory == null ? null : Paths.get(archiveDirectory));
 
     // inject web server into application
     final Application app = new Application(webServer);
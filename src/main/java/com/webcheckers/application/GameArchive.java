@@ -0,0 +1,459 @@
+package com.webcheckers.application;
+
+import com.webcheckers.model.ArchivedGame;
+import com.webcheckers.model.Color;
+import com.webcheckers.model.GameSummary;
+
+import java.io.*;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A place to keep Checkers games once they've ended, without keeping them on
+ * the heap forever.
+ *
+ * <p>
+ * Each ended game is frozen into an {@link ArchivedGame} record and written
+ * to its own file on local disk. Only a {@link GameSummary} of every game
+ * stays in memory, along with a bounded, least-recently-used set of records
+ * that have been looked at recently. Any other record is read back from disk
+ * when asked for. A recently used record also keeps the {@link GameCenter} it
+ * was rebuilt into, so pages and polls on an ended game don't replay it each
+ * time.
+ * </p>
+ *
+ * <p>
+ * An archive locks its directory for as long as it's open, so two servers
+ * never write to the same one. Games already archived in the directory are
+ * listed again when it's opened, so a server that restarts with the same
+ * directory keeps its ended games.
+ * </p>
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+public class GameArchive {
+    private static final Logger LOG = Logger.getLogger(GameArchive.class.getName());
+
+    /** Changes whenever the layout of an archive file changes. */
+    private static final int FORMAT = 2;
+
+    private static final String FILE_PREFIX = "game-";
+    private static final String FILE_SUFFIX = ".dat";
+
+    /** The start of the name of a directory an archive creates for itself. */
+    private static final String TEMPORARY_DIRECTORY_PREFIX = "webcheckers-archive-";
+
+    /** The file locked while an archive has its directory open. */
+    private static final String LOCK_FILE = ".lock";
+
+    /** The directory archive files are written to. */
+    private final Path directory;
+
+    /** The lock held on the directory, until the archive is closed. */
+    private final FileLock lock;
+
+    /** Whether the archive created its directory, and removes it once closed. */
+    private boolean temporary;
+
+    /** A summary of every archived game, ordered by gameID. */
+    private final ConcurrentNavigableMap<Integer, GameSummary> index = new ConcurrentSkipListMap<>();
+
+    /** The summaries of each player's archived games, by username, ordered by gameID. */
+    private final ConcurrentMap<String, ConcurrentNavigableMap<Integer, GameSummary>> indexByPlayer =
+            new ConcurrentHashMap<>();
+
+    /** Records that couldn't be written to disk, kept here so they aren't lost. */
+    private final ConcurrentMap<Integer, ArchivedGame> unwritten = new ConcurrentSkipListMap<>();
+
+    /** The most recently used records, guarded by its own lock. */
+    private final Map<Integer, RecentGame> recentGames;
+
+    /**
+     * Instantiates an archive that writes to the directory provided, which
+     * is created if it doesn't exist. Games already archived in it are
+     * listed again, and new games should be given IDs from
+     * {@link #getNextGameID()} on, so they don't write over them.
+     *
+     * @param directory: The directory to write archive files to.
+     * @param capacity: How many recently used records to keep in memory.
+     * @throws IllegalStateException if another archive has the directory
+     * open.
+     */
+    public GameArchive(Path directory, final int capacity) {
+        this.directory = directory;
+        this.recentGames = new LinkedHashMap<Integer, RecentGame>(capacity * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, RecentGame> eldest) {
+                return size() > capacity;
+            }
+        };
+        try {
+            Files.createDirectories(directory);
+            this.lock = lock(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not prepare the game archive.", e);
+        }
+        try {
+            resume();
+        } catch (IOException e) {
+            close();
+            throw new UncheckedIOException("Could not read the game archive.", e);
+        }
+    }
+
+    /**
+     * Instantiates an archive that writes to a new directory of its own,
+     * under the system's temporary directory. The directory is removed when
+     * the server stops.
+     *
+     * @param capacity: How many recently used records to keep in memory.
+     */
+    public GameArchive(final int capacity) {
+        this(createTemporaryDirectory(), capacity);
+        this.temporary = true;
+        Runtime.getRuntime().addShutdownHook(new Thread(this::close));
+    }
+
+    private static Path createTemporaryDirectory() {
+        try {
+            return Files.createTempDirectory(TEMPORARY_DIRECTORY_PREFIX);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create a directory for the game archive.", e);
+        }
+    }
+
+    /**
+     * Lock a directory for one archive, without waiting for it.
+     *
+     * @param directory: The directory to lock.
+     * @return the lock, held until it's released.
+     */
+    private static FileLock lock(Path directory) throws IOException {
+        FileChannel channel = FileChannel.open(directory.resolve(LOCK_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        FileLock lock;
+        try {
+            lock = channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            // this server already has the directory open.
+            lock = null;
+        }
+        if (lock == null) {
+            channel.close();
+            throw new IllegalStateException("The game archive in " + directory
+                    + " is already in use.");
+        }
+        return lock;
+    }
+
+    /**
+     * List the games already archived in the directory, and remove any file
+     * left behind by a write that never finished.
+     */
+    private void resume() throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, FILE_PREFIX + "*")) {
+            for (Path file : files) {
+                if (!file.getFileName().toString().endsWith(FILE_SUFFIX)) {
+                    Files.deleteIfExists(file);
+                    continue;
+                }
+                try {
+                    addSummary(new GameSummary(read(file)));
+                } catch (IOException | RuntimeException e) {
+                    LOG.log(Level.WARNING, "Could not read archive file " + file + ", skipping it.", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Close the archive, so another one can open its directory. A directory
+     * the archive created for itself is removed, along with its files.
+     * Calling this more than once is harmless.
+     */
+    public synchronized void close() {
+        if (!lock.isValid()) {
+            return;
+        }
+        try {
+            lock.release();
+            lock.channel().close();
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "Could not unlock the game archive in " + directory + ".", e);
+        }
+        if (temporary) {
+            removeDirectory();
+        }
+    }
+
+    /**
+     * Remove a directory this archive created, along with its files.
+     */
+    private void removeDirectory() {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+            Files.deleteIfExists(directory);
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "Could not remove the game archive in " + directory + ".", e);
+        }
+    }
+
+    /**
+     * Archive a game that has ended. The record stays in memory as a
+     * recently used game, since its players are likely to look at it again
+     * right away.
+     *
+     * @param game: The record of the game that has ended.
+     */
+    public void store(ArchivedGame game) {
+        int gameID = game.getGameID();
+        synchronized (recentGames) {
+            recentGames.put(gameID, new RecentGame(game));
+        }
+        try {
+            write(game);
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "Could not archive game " + gameID + ", keeping it in memory.", e);
+            unwritten.put(gameID, game);
+        }
+        addSummary(new GameSummary(game));
+    }
+
+    private void addSummary(GameSummary summary) {
+        if (index.putIfAbsent(summary.getGameID(), summary) == null) {
+            indexByPlayer(summary.getRedPlayerName(), summary);
+            indexByPlayer(summary.getWhitePlayerName(), summary);
+        }
+    }
+
+    private void indexByPlayer(String playerName, GameSummary summary) {
+        indexByPlayer.computeIfAbsent(playerName, name -> new ConcurrentSkipListMap<>())
+                .put(summary.getGameID(), summary);
+    }
+
+    /**
+     * Find an archived game by its unique ID, reading it back from disk if it
+     * hasn't been used recently.
+     *
+     * @param gameID: The unique gameID of the game being searched for.
+     * @return the record of the game, or null if no such game has been
+     * archived.
+     */
+    public ArchivedGame load(int gameID) {
+        return load(gameID, true);
+    }
+
+    /**
+     * Find an archived game by its unique ID, reading it back from disk if it
+     * hasn't been used recently.
+     *
+     * @param gameID: The unique gameID of the game being searched for.
+     * @param remember: Whether to keep a record read from disk as recently
+     *                used. Reading many games in a row shouldn't push out
+     *                the ones players are looking at.
+     * @return the record of the game, or null if no such game has been
+     * archived.
+     */
+    public ArchivedGame load(int gameID, boolean remember) {
+        if (!index.containsKey(gameID)) {
+            return null;
+        }
+        ArchivedGame game = unwritten.get(gameID);
+        if (game != null) {
+            return game;
+        }
+        synchronized (recentGames) {
+            RecentGame recent = recentGames.get(gameID);
+            if (recent != null) {
+                return recent.record;
+            }
+        }
+        try {
+            game = read(fileFor(gameID));
+        } catch (IOException e) {
+            LOG.log(Level.WARNING, "Could not read archived game " + gameID + ".", e);
+            return null;
+        }
+        if (remember) {
+            synchronized (recentGames) {
+                // another request may have read the same record meanwhile.
+                RecentGame recent = recentGames.putIfAbsent(gameID, new RecentGame(game));
+                if (recent != null) {
+                    return recent.record;
+                }
+            }
+        }
+        return game;
+    }
+
+    /**
+     * Find an archived game by its unique ID, rebuilt into a
+     * {@link GameCenter} that shows how it ended. While the record is used
+     * recently, the same GameCenter is handed out each time, so it must only
+     * be read.
+     *
+     * @param gameID: The unique gameID of the game being searched for.
+     * @return the rebuilt game, or null if no such game has been archived.
+     */
+    GameCenter loadGame(int gameID) {
+        ArchivedGame record = load(gameID, true);
+        if (record == null) {
+            return null;
+        }
+        synchronized (recentGames) {
+            RecentGame recent = recentGames.get(gameID);
+            if (recent != null && recent.record == record && recent.game != null) {
+                return recent.game;
+            }
+        }
+        // rebuilding replays every move, so it's done outside the lock.
+        GameCenter game = new GameCenter(record);
+        synchronized (recentGames) {
+            RecentGame recent = recentGames.get(gameID);
+            if (recent != null && recent.record == record) {
+                if (recent.game == null) {
+                    recent.game = game;
+                }
+                return recent.game;
+            }
+        }
+        return game;
+    }
+
+    /**
+     * Accessor for the first gameID no archived game has, so new games
+     * don't write over the ones already in the directory.
+     *
+     * @return one more than the highest archived gameID, or 0 if no game has
+     * been archived.
+     */
+    public int getNextGameID() {
+        return index.isEmpty() ? 0 : index.lastKey() + 1;
+    }
+
+    /**
+     * Accessor for a summary of every archived game.
+     *
+     * @return An ArrayList containing a summary of each game, in order of
+     * their gameIDs.
+     */
+    public ArrayList<GameSummary> getArchivedGames() {
+        return new ArrayList<>(index.values());
+    }
+
+    /**
+     * Accessor for one page of archived games, in order of their gameIDs.
+     * Only the games on the page are visited.
+     *
+     * @param after: The gameID the page starts after, or null to start at
+     *             the first game.
+     * @param pageSize: The most games to put on the page.
+     * @param playerName: Only list games this player played in, or null to
+     *                  list every game.
+     * @return an ArrayList containing up to pageSize summaries.
+     */
+    public ArrayList<GameSummary> getArchivedGamePage(Integer after, int pageSize,
+                                                      String playerName) {
+        ConcurrentNavigableMap<Integer, GameSummary> games =
+                playerName == null ? index : indexByPlayer.get(playerName);
+        return GameLibrary.page(games, after, pageSize);
+    }
+
+    /**
+     * Get the file a game is archived in.
+     *
+     * @param gameID: The unique gameID of the game.
+     * @return the Path of the game's archive file.
+     */
+    private Path fileFor(int gameID) {
+        return directory.resolve(FILE_PREFIX + gameID + FILE_SUFFIX);
+    }
+
+    /**
+     * Write a record to its archive file. Position hashes aren't written,
+     * since they're worked out again from the moves when the record is read.
+     *
+     * @param game: The record to write.
+     */
+    private void write(ArchivedGame game) throws IOException {
+        Path tempFile = Files.createTempFile(directory, FILE_PREFIX, ".tmp");
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+            out.writeInt(FORMAT);
+            out.writeInt(game.getGameID());
+            out.writeUTF(game.getRedPlayerName());
+            out.writeUTF(game.getWhitePlayerName());
+            out.writeBoolean(game.getResult() != null);
+            if (game.getResult() != null) {
+                out.writeUTF(game.getResult());
+            }
+            out.writeByte(game.getFinalTurn().ordinal());
+            out.writeLong(game.getStartTime());
+            out.writeLong(game.getEndTime());
+            out.writeShort(game.getMoveCount());
+            for (int i = 0; i < game.getMoveCount(); i++) {
+                out.writeShort(game.getMove(i));
+            }
+        }
+        // only replace the archive file once it has been completely written.
+        Files.move(tempFile, fileFor(game.getGameID()), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Read a record back from its archive file.
+     *
+     * @param file: The archive file of the game.
+     * @return the record read from the archive file.
+     */
+    private ArchivedGame read(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != FORMAT) {
+                throw new IOException("Unknown archive format in " + file + ".");
+            }
+            int storedID = in.readInt();
+            String redPlayerName = in.readUTF();
+            String whitePlayerName = in.readUTF();
+            String result = in.readBoolean() ? in.readUTF() : null;
+            Color finalTurn = Color.values()[in.readByte()];
+            long startTime = in.readLong();
+            long endTime = in.readLong();
+            short[] moves = new short[in.readUnsignedShort()];
+            for (int i = 0; i < moves.length; i++) {
+                moves[i] = in.readShort();
+            }
+            return new ArchivedGame(storedID, redPlayerName, whitePlayerName, result,
+                    finalTurn, startTime, endTime, moves);
+        }
+    }
+
+    /**
+     * A recently used record, and the game rebuilt from it once it's asked
+     * for. Guarded by the lock of the recent games.
+     */
+    private static final class RecentGame {
+        private final ArchivedGame record;
+        private GameCenter game;
+
+        private RecentGame(ArchivedGame record) {
+            this.record = record;
+        }
+    }
+}
@@ -3,7 +3,17 @@ package com.webcheckers.application;
 import com.webcheckers.model.*;
 import com.webcheckers.util.Message;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * A class to hold data for a game of Checkers. Things like the game board,
@@ -13,12 +23,12 @@ import java.util.LinkedList;
  * @author Neha Ghanta, ng8975@rit.edu
  */
 public class GameCenter {
+    private static final Logger LOG = Logger.getLogger(GameCenter.class.getName());
 
     private final int gameID;
 
     private Color currentTurn;
     private BoardView checkersBoard;
-    private BoardView rotatedBoard;
     private String resignStatus;
 
     private Player redPlayer;
@@ -28,7 +38,36 @@ public class GameCenter {
     private MoveValidator singleJumpMoveValidator;
 
     /** Used to keep track of all moves made during this game. */
-    private LinkedList<BoardView> movesMade;
+    private LinkedList<Move> movesMade;
+
+    /** When this game started, in milliseconds since the epoch. */
+    private final long startTime;
+
+    /** The moves each Player has validated so far during their current turn. */
+    private final Map<String, ArrayList<Move>> turnBuffers;
+
+    /** Runs every change to this game one at a time. */
+    private final GameMailbox mailbox;
+
+    /** The latest state of this game published for readers. */
+    private volatile GameSnapshot snapshot;
+
+    /** How many of the moves made had been published in the latest snapshot. */
+    private int publishedMoveCount;
+
+    /** The latest snapshots published, oldest first, for clients catching up. */
+    private final Deque<GameSnapshot> recentSnapshots = new ArrayDeque<>(RECENT_SNAPSHOTS);
+
+    /** Told about every snapshot published for this game. */
+    private final List<GameListener> listeners = new CopyOnWriteArrayList<>();
+
+    public static final String CAPTURED_ALL_PIECES = "%s has captured all of the pieces";
+    public static final String PIECES_BLOCKED = "%s's pieces are all blocked";
+    public static final String RESIGNED = "%s has resigned.";
+    public static final String GAME_ENDED = "This game has already ended.";
+
+    /** How many of the latest snapshots are kept for {@link #getSnapshotsSince}. */
+    static final int RECENT_SNAPSHOTS = 8;
 
     static final String VALID_MOVE = "Valid move.";
     static final String INVALID_JUMP = "This isn't a valid jump move.";
@@ -36,6 +75,12 @@ public class GameCenter {
     static final String JUMP_AVAILABLE = "There is a jump move available, you must make that move.";
     static final String BIG_JUMP = "You can't jump that far.";
     static final String NON_DIAGONAL = "You must move diagonally.";
+    static final String TURN_SUBMITTED = "Turn Submitted.";
+    static final String NOT_YOUR_TURN = "It isn't your turn.";
+    static final String NO_MOVES = "You haven't made any moves yet.";
+    static final String TURN_IN_PROGRESS = "Submit or back up the moves you've already made first.";
+    static final String BROKEN_PATH = "Only a jump can follow a jump, from where the last one landed.";
+    static final String JUMP_REMAINING = "A jump move still exists that you must make.";
 
     /**
      * Set up a new game board, and set the active player to RED.
@@ -43,19 +88,237 @@ public class GameCenter {
     public GameCenter(int gameID, Player redPlayer, Player whitePlayer) {
         this.gameID = gameID;
         this.checkersBoard = new BoardView();
-        this.rotatedBoard = new BoardView();
         this.currentTurn = Color.RED;
         this.resignStatus = null;
         this.redPlayer = redPlayer;
         this.whitePlayer = whitePlayer;
         this.simpleMoveValidator = new SimpleMoveValidator(checkersBoard);
         this.singleJumpMoveValidator = new SingleJumpMoveValidator(checkersBoard);
+        this.turnBuffers = new ConcurrentHashMap<>(2);
+        this.mailbox = new GameMailbox();
         simpleMoveValidator.findValidMoves();
         singleJumpMoveValidator.findValidMoves();
         movesMade = new LinkedList<>();
-        // add a new BoardView to act as the original state of the board
-        // in replay mode.
-        movesMade.add(new BoardView());
+        startTime = System.currentTimeMillis();
+        publishSnapshot();
+    }
+
+    /**
+     * Rebuild a game that has ended from its {@link ArchivedGame} record, so
+     * Players and spectators still on the game page can see how it ended.
+     * The Players of a rebuilt game have no Session, since they're only
+     * needed by name, and the result of the game is shown as its
+     * resignation status.
+     *
+     * @param record: The record of the ended game.
+     */
+    GameCenter(ArchivedGame record) {
+        this.gameID = record.getGameID();
+        this.checkersBoard = record.getBoard(record.getMoveCount());
+        this.currentTurn = record.getFinalTurn();
+        this.resignStatus = record.getResult();
+        this.redPlayer = new Player(record.getRedPlayerName(), null);
+        this.whitePlayer = new Player(record.getWhitePlayerName(), null);
+        whitePlayer.setColor(Color.WHITE);
+        this.simpleMoveValidator = new SimpleMoveValidator(checkersBoard);
+        this.singleJumpMoveValidator = new SingleJumpMoveValidator(checkersBoard);
+        this.turnBuffers = new ConcurrentHashMap<>(2);
+        this.mailbox = new GameMailbox();
+        simpleMoveValidator.findValidMoves();
+        singleJumpMoveValidator.findValidMoves();
+        this.movesMade = new LinkedList<>();
+        for (int i = 0; i < record.getMoveCount(); i++) {
+            movesMade.add(ArchivedGame.unpack(record.getMove(i)));
+        }
+        this.startTime = record.getStartTime();
+        this.publishedMoveCount = movesMade.size();
+        publishSnapshot();
+    }
+
+    /**
+     * Freeze this game into a compact {@link ArchivedGame} record, once it
+     * has ended.
+     *
+     * @return a record of this game, ending now.
+     */
+    public ArchivedGame archive() {
+        return new ArchivedGame(gameID, redPlayer.getName(), whitePlayer.getName(),
+                snapshot.getResult(), currentTurn, startTime, System.currentTimeMillis(),
+                movesMade);
+    }
+
+    /**
+     * Run a command that changes this game once every earlier command for
+     * this game has finished. Requests that modify the board, the turn, or
+     * the record of moves should go through here so they never interleave.
+     *
+     * @param command: The command to run against this game.
+     * @return the value returned by the command.
+     */
+    public <T> T submit(Supplier<T> command) {
+        return mailbox.submit(command);
+    }
+
+    /**
+     * Accessor for the moves a {@link Player} has validated so far during
+     * their current turn, in the order they were made.
+     *
+     * @param player: The Player whose turn is in progress.
+     * @return the Player's turn buffer, empty if they haven't moved yet.
+     */
+    public ArrayList<Move> getTurnBuffer(Player player) {
+        return turnBuffers.computeIfAbsent(player.getName(), name -> new ArrayList<>());
+    }
+
+    /**
+     * Empty a {@link Player}'s turn buffer, once their turn has been submitted.
+     *
+     * @param player: The Player whose turn is over.
+     */
+    public void clearTurnBuffer(Player player) {
+        getTurnBuffer(player).clear();
+    }
+
+    /**
+     * Checks if a {@link Player} has validated moves they haven't submitted
+     * yet, in which case the board differs from the latest snapshot.
+     *
+     * @return true if a turn is in progress, false otherwise.
+     */
+    public boolean isTurnInProgress() {
+        for (ArrayList<Move> turnBuffer : turnBuffers.values()) {
+            if (!turnBuffer.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Accessor for the version of this game's state. It goes up by one every
+     * time a turn is committed, a Player resigns, or the game ends, and is
+     * the version of the latest {@link GameSnapshot}.
+     *
+     * @return the current version of this game.
+     */
+    public long getVersion() {
+        return this.snapshot.getVersion();
+    }
+
+    /**
+     * Accessor for the latest {@link GameSnapshot} of this game. Snapshots are
+     * only published once a turn is over, so readers never see a turn that
+     * is still in progress, and don't need to go through {@link #submit}.
+     *
+     * @return the most recently published snapshot of this game.
+     */
+    public GameSnapshot getSnapshot() {
+        return this.snapshot;
+    }
+
+    /**
+     * Accessor for every snapshot published after a given version, so a
+     * client that has seen that version can catch up on just what changed.
+     * Only the latest few snapshots are kept.
+     *
+     * @param version: The version of the last snapshot the client has seen.
+     * @return the snapshots published since, oldest first, or null if some
+     * of them are no longer kept, or the version was never published.
+     */
+    public List<GameSnapshot> getSnapshotsSince(long version) {
+        synchronized (recentSnapshots) {
+            long latest = recentSnapshots.getLast().getVersion();
+            long oldest = recentSnapshots.getFirst().getVersion();
+            if (version < 0 || version > latest || version < oldest - 1) {
+                return null;
+            }
+            List<GameSnapshot> since = new ArrayList<>((int) (latest - version));
+            for (GameSnapshot published : recentSnapshots) {
+                if (published.getVersion() > version) {
+                    since.add(published);
+                }
+            }
+            return since;
+        }
+    }
+
+    /**
+     * Start telling a {@link GameListener} about every snapshot published
+     * for this game.
+     *
+     * @param listener: The listener to add.
+     */
+    public void addGameListener(GameListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Stop telling a {@link GameListener} about this game.
+     *
+     * @param listener: The listener to remove.
+     */
+    public void removeGameListener(GameListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Take a copy of the board, whose turn it is, and the result of the game,
+     * and publish it to readers as this game's latest {@link GameSnapshot}.
+     * This is done automatically each time the turn changes, or a Player
+     * resigns. Every {@link GameListener} is told about the new snapshot.
+     * Once the game has ended, both Players are taken out of it.
+     */
+    public void publishSnapshot() {
+        GameSnapshot previous = this.snapshot;
+        long version = previous == null ? 0 : previous.getVersion() + 1;
+        // moves are only taken back during a turn, so every published move
+        // is still in the list.
+        List<Move> lastTurn = movesMade.subList(
+                Math.min(publishedMoveCount, movesMade.size()), movesMade.size());
+        GameSnapshot published = new GameSnapshot(new BoardView(checkersBoard),
+                currentTurn, version, findResult(), lastTurn);
+        this.publishedMoveCount = movesMade.size();
+        if (published.isGameOver() && (previous == null || !previous.isGameOver())) {
+            // the game has just ended, so its players are free to start another.
+            redPlayer.setInGame(false);
+            whitePlayer.setInGame(false);
+            resetPlayerCaptures();
+        }
+        synchronized (recentSnapshots) {
+            if (recentSnapshots.size() == RECENT_SNAPSHOTS) {
+                recentSnapshots.removeFirst();
+            }
+            recentSnapshots.addLast(published);
+        }
+        this.snapshot = published;
+        for (GameListener listener : listeners) {
+            try {
+                listener.snapshotPublished(gameID, published);
+            } catch (RuntimeException e) {
+                LOG.log(Level.WARNING, "A listener of game " + gameID + " failed.", e);
+            }
+        }
+    }
+
+    /**
+     * Works out how the game ended: all pieces captured, then pieces
+     * blocked, then a resignation. Unlike {@link #capturedAllPieces()}, this
+     * doesn't change anything.
+     *
+     * @return a message describing how the game ended, or null if the game
+     * is still in progress.
+     */
+    private String findResult() {
+        if (redPlayer.getCaptures() == 12) {
+            return String.format(CAPTURED_ALL_PIECES, redPlayer.getName());
+        } else if (whitePlayer.getCaptures() == 12) {
+            return String.format(CAPTURED_ALL_PIECES, whitePlayer.getName());
+        } else if (blockedPiecesRed()) {
+            return String.format(PIECES_BLOCKED, redPlayer.getName());
+        } else if (blockedPiecesWhite()) {
+            return String.format(PIECES_BLOCKED, whitePlayer.getName());
+        }
+        return resignStatus;
     }
 
     /**
@@ -87,12 +350,13 @@ public class GameCenter {
     }
 
     /**
-     * Get the game board for this specific game, rotated 180 degrees.
+     * Get the game board for this specific game, rotated 180 degrees. A new
+     * board is built each time, so this game isn't changed.
      *
      * @return a {@link BoardView} rotated 180 degrees for this checkers game.
      */
     public BoardView getRotatedBoard() {
-        BoardView rotatedDeepCopy = rotatedBoard;
+        BoardView rotatedDeepCopy = new BoardView();
         for (int i = 0; i < 8; i++) {
             for (int j = 0; j < 8; j++) {
                 // start bottom right corner of checkersBoard, working backwards.
@@ -141,6 +405,32 @@ public class GameCenter {
         this.resignStatus = status;
         redPlayer.setInGame(false);
         whitePlayer.setInGame(false);
+        publishSnapshot();
+    }
+
+    /**
+     * Resign a Player from the game. If it was the Player's turn, the turn is
+     * handed over so the opponent's page refreshes. Readers see a single
+     * snapshot with both the result and the new turn.
+     *
+     * @param player: The Player who is resigning.
+     * @param status: a String containing information about the resignation
+     *              from the game.
+     * @return true if the Player resigned, false if the game was already
+     * over.
+     */
+    public boolean resign(Player player, String status) {
+        if (snapshot.isGameOver()) {
+            return false;
+        }
+        this.resignStatus = status;
+        redPlayer.setInGame(false);
+        whitePlayer.setInGame(false);
+        if (player.equals(currentTurn == Color.RED ? redPlayer : whitePlayer)) {
+            flipTurn();
+        }
+        publishSnapshot();
+        return true;
     }
 
     /**
@@ -157,10 +447,10 @@ public class GameCenter {
     /**
      * Accessor for the record of all moves made during this game.
      *
-     * @return A LinkedList containing BoardView objects containing different
-     * states of the game board to represent moves that were made.
+     * @return A LinkedList containing every Move made during this game, in
+     * order, using the positions of the board model.
      */
-    public LinkedList<BoardView> getMovesMade() {
+    public LinkedList<Move> getMovesMade() {
         return this.movesMade;
     }
 
@@ -220,14 +510,22 @@ public class GameCenter {
     /**
      * Update the currentTurn attribute to reflect who's turn it is.
      * This method works like a 'flip-flop' method, where each time it's called
-     * it should switch who's turn it is.
+     * it should switch who's turn it is. The finished turn is then published
+     * to readers.
      */
     public void makeMove() {
+        flipTurn();
+        publishSnapshot();
+    }
+
+    /** Switch whose turn it is, without publishing the change. */
+    private void flipTurn() {
         if (currentTurn == Color.RED) {
             this.currentTurn = Color.WHITE;
         } else {
             this.currentTurn = Color.RED;
         }
+        refreshMoveValidators();
     }
 
     /**
@@ -335,6 +633,94 @@ public class GameCenter {
         return moveStatus;
     }
 
+    /**
+     * Validate and commit a whole turn at once: a simple move, or every hop
+     * of a jump sequence. Each move is validated against the board left by
+     * the ones before it, and the sequence must end where no further jump is
+     * possible. Either the whole turn is committed and handed to the other
+     * player, or, if any move fails, the board is left as it was.
+     * Runs inside the game's mailbox.
+     *
+     * @param player: The Player submitting their turn.
+     * @param moves: The moves of the turn, in order, as sent by the client.
+     * @return a {@link Message} with information about the submission. If
+     * the turn was turned away, it says which move was wrong.
+     */
+    public Message submitFullTurn(Player player, List<Move> moves) {
+        Color color = player.equals(redPlayer) ? Color.RED
+                : player.equals(whitePlayer) ? Color.WHITE : null;
+        if (color != currentTurn) {
+            return Message.error(NOT_YOUR_TURN);
+        }
+        if (!getTurnBuffer(player).isEmpty()) {
+            return Message.error(TURN_IN_PROGRESS);
+        }
+        if (moves.isEmpty()) {
+            return Message.error(NO_MOVES);
+        }
+
+        // jumps change the board as they're validated, so keep what to put back.
+        BoardView before = new BoardView(checkersBoard);
+        int redCaptures = redPlayer.getCaptures();
+        int whiteCaptures = whitePlayer.getCaptures();
+        int movesMadeCount = movesMade.size();
+
+        Message status = null;
+        Move previous = null;
+        for (Move move : moves) {
+            if (previous != null && !(previous.isJump() && move.isJump()
+                    && previous.getEnd().getRow() == move.getStart().getRow()
+                    && previous.getEnd().getCell() == move.getStart().getCell())) {
+                status = Message.error(BROKEN_PATH);
+                break;
+            }
+            status = validateMove(player, move);
+            if (status.getType() == Message.Type.ERROR) {
+                break;
+            }
+            previous = move;
+        }
+        if (status.getType() == Message.Type.INFO && previous.isJump()
+                && checkForJumpMove(player, previous)) {
+            status = Message.error(JUMP_REMAINING);
+        }
+
+        if (status.getType() == Message.Type.ERROR) {
+            restore(before, redCaptures, whiteCaptures, movesMadeCount);
+            return status;
+        }
+        if (!previous.isJump()) {
+            updateModel(player, previous, false);
+        }
+        // promote before the turn changes, so the published board is final.
+        checkersBoard.promotePiece(checkersBoard);
+        makeMove();
+        return Message.info(TURN_SUBMITTED);
+    }
+
+    /**
+     * Put the board, the capture counts and the record of moves back the way
+     * they were before a turn that was turned away.
+     */
+    private void restore(BoardView before, int redCaptures, int whiteCaptures,
+                         int movesMadeCount) {
+        for (int row = 0; row < 8; row++) {
+            for (int cell = 0; cell < 8; cell++) {
+                checkersBoard.getRow(row).getSpace(cell).setPiece(before.getPiece(row, cell));
+            }
+        }
+        while (redPlayer.getCaptures() > redCaptures) {
+            redPlayer.revertCapture();
+        }
+        while (whitePlayer.getCaptures() > whiteCaptures) {
+            whitePlayer.revertCapture();
+        }
+        while (movesMade.size() > movesMadeCount) {
+            movesMade.removeLast();
+        }
+        refreshMoveValidators();
+    }
+
     /**
      * Update the board model to reflect the move that was made.
      *
@@ -386,7 +772,7 @@ public class GameCenter {
         }
         // when the model is updated, the move is valid, so we need
         // to add this move to the linked list.
-        movesMade.add(new BoardView(checkersBoard));
+        movesMade.add(move);
     }
 
     /**
@@ -1,33 +1,63 @@
 package com.webcheckers.application;
 
+import com.webcheckers.model.ArchivedGame;
 import com.webcheckers.model.Color;
+import com.webcheckers.model.GameSummary;
 import com.webcheckers.model.Player;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * A place used to store Checkers Games to be accessed while they're being
  * played, or for access after they've ended.
  *
+ * <p>
+ * The library is shared by every request thread, so active games are kept
+ * in a {@link ConcurrentNavigableMap} ordered by gameID: lookups never lock,
+ * and game IDs are handed out atomically. Games that have ended are handed
+ * to a {@link GameArchive}, so they don't stay on the heap for as long as
+ * the server runs. Active games are also indexed by player, so either list
+ * can be read a page at a time.
+ * </p>
+ *
  * @author Andrew Frank, ajf8248@rit.edu
  */
 public class GameLibrary {
-    /** A static integer to increment each time a game is started, this is a
+    /** A static counter to increment each time a game is started, this is a
      * unique identifier for each game.
      */
-    private static int ID = 0;
+    private static final AtomicInteger ID = new AtomicInteger();
+
+    /** Goes up each time a game starts or ends, so lists of games can be reused until then. */
+    private static final AtomicLong GAME_LIST_VERSION = new AtomicLong();
 
-    /** A static list to keep all active games stored in. */
-    private static HashMap<Integer, GameCenter> activeGameList;
+    /** A static index to keep all active games stored in, ordered by gameID. */
+    private static ConcurrentNavigableMap<Integer, GameCenter> activeGameIndex;
 
-    /** A static list to keep all ended games stored in. */
-    private static HashMap<Integer, GameCenter> endedGameList;
+    /** Each player's active games, by username, ordered by gameID. */
+    private static ConcurrentMap<String, ConcurrentNavigableMap<Integer, GameCenter>> activeGamesByPlayer;
 
-    public GameLibrary(HashMap<Integer, GameCenter> activeGameMap,
-                       HashMap<Integer, GameCenter> endedGameMap) {
-        activeGameList = activeGameMap;
-        endedGameList = endedGameMap;
+    /** A static archive to keep all ended games stored in. */
+    private static GameArchive endedGameArchive;
+
+    public GameLibrary(ConcurrentNavigableMap<Integer, GameCenter> activeGameMap,
+                       GameArchive endedGameArchive) {
+        activeGameIndex = activeGameMap;
+        activeGamesByPlayer = new ConcurrentHashMap<>();
+        for (GameCenter game : activeGameMap.values()) {
+            indexByPlayer(game.getRedPlayer().getName(), game);
+            indexByPlayer(game.getWhitePlayer().getName(), game);
+        }
+        GameLibrary.endedGameArchive = endedGameArchive;
+        // carry on after the games a previous run left in the archive.
+        ID.accumulateAndGet(endedGameArchive.getNextGameID(), Math::max);
+        GAME_LIST_VERSION.incrementAndGet();
     }
 
     /**
@@ -40,39 +70,123 @@ public class GameLibrary {
      * of checkers.
      */
     public static GameCenter createGame(Player playerOne, Player playerTwo) {
-        GameCenter newGame = new GameCenter(ID, playerOne, playerTwo);
+        GameCenter newGame = new GameCenter(ID.getAndIncrement(), playerOne, playerTwo);
         playerOne.setColor(Color.RED);
         playerTwo.setColor(Color.WHITE);
-        activeGameList.put(ID, newGame);
-        ID++;
+        index(newGame);
+        GAME_LIST_VERSION.incrementAndGet();
         return newGame;
     }
 
+    private static void index(GameCenter game) {
+        activeGameIndex.put(game.getGameID(), game);
+        indexByPlayer(game.getRedPlayer().getName(), game);
+        indexByPlayer(game.getWhitePlayer().getName(), game);
+    }
+
+    private static void indexByPlayer(String playerName, GameCenter game) {
+        // the player's map is only created and removed inside compute, so a
+        // game is never put in a map that's just been dropped.
+        activeGamesByPlayer.compute(playerName, (name, games) -> {
+            if (games == null) {
+                games = new ConcurrentSkipListMap<>();
+            }
+            games.put(game.getGameID(), game);
+            return games;
+        });
+    }
+
+    private static void unindex(GameCenter game) {
+        activeGameIndex.remove(game.getGameID(), game);
+        unindexByPlayer(game.getRedPlayer().getName(), game);
+        unindexByPlayer(game.getWhitePlayer().getName(), game);
+    }
+
+    private static void unindexByPlayer(String playerName, GameCenter game) {
+        activeGamesByPlayer.computeIfPresent(playerName, (name, games) -> {
+            games.remove(game.getGameID(), game);
+            return games.isEmpty() ? null : games;
+        });
+    }
+
     /**
-     * A lookup method for games by using their unique ID.
+     * A lookup method for games by using their unique ID. Games that have
+     * ended are rebuilt from their {@link ArchivedGame} record, so Players
+     * and spectators still on the game page can see how the game ended. A
+     * game rebuilt this way is shared, and must only be read; anything that
+     * changes a game uses {@link #getActiveGameByID(int)}.
      *
      * @param ID: The unique gameID for the game being searched for.
      * @return the GameCenter with the uniqueID provided.
      */
     public static GameCenter getGameByID(int ID) {
-        if (activeGameList.containsKey(ID)) {
-            return activeGameList.get(ID);
-        } else {
-            return endedGameList.get(ID);
+        GameCenter game = activeGameIndex.get(ID);
+        if (game != null) {
+            return game;
         }
+        return endedGameArchive.loadGame(ID);
+    }
+
+    /**
+     * A lookup method for games that are still in progress.
+     *
+     * @param ID: The unique gameID for the game being searched for.
+     * @return the GameCenter with the uniqueID provided, or null if the game
+     * has ended.
+     */
+    public static GameCenter getActiveGameByID(int ID) {
+        return activeGameIndex.get(ID);
+    }
+
+    /**
+     * A lookup method for the records of games that have ended.
+     *
+     * @param ID: The unique gameID for the game being searched for.
+     * @return the {@link ArchivedGame} record of the game, or null if the
+     * game hasn't ended.
+     */
+    public static ArchivedGame getArchivedGame(int ID) {
+        return endedGameArchive.load(ID);
+    }
+
+    /**
+     * A lookup method for the records of games that have ended, for reading
+     * many of them in a row, such as to export them. Records read from disk
+     * aren't kept as recently used, so they don't push out the ones players
+     * are looking at.
+     *
+     * @param ID: The unique gameID for the game being searched for.
+     * @return the {@link ArchivedGame} record of the game, or null if the
+     * game hasn't ended.
+     */
+    public static ArchivedGame readArchivedGame(int ID) {
+        return endedGameArchive.load(ID, false);
     }
 
     /**
      * Used to move a game that has just ended from the list of active games,
      * to the list of games that have ended.
      *
+     * <p>
+     * The game is archived before it is taken out of the active list, so a
+     * concurrent {@link #getGameByID(int)} always finds it in one of the two.
+     * Calling this more than once for the same game is harmless.
+     * </p>
+     *
      * @param ID: The gameID of this Game.
      */
     public static void gameHasEnded(int ID) {
-        if (activeGameList.containsKey(ID)) {
-            GameCenter endedGame = activeGameList.get(ID);
-            activeGameList.remove(ID);
-            endedGameList.put(ID, endedGame);
+        GameCenter endedGame = activeGameIndex.get(ID);
+        if (endedGame != null) {
+            // archive through the game's mailbox, so no move is half written.
+            endedGame.submit(() -> {
+                if (activeGameIndex.get(ID) == endedGame) {
+                    endedGameArchive.store(endedGame.archive());
+                    unindex(endedGame);
+                    GAME_LIST_VERSION.incrementAndGet();
+                }
+                return null;
+            });
         }
     }
 
@@ -82,15 +196,87 @@ public class GameLibrary {
      * @return An ArrayList containing all active games.
      */
     public static ArrayList<GameCenter> getActiveGameList() {
-        return new ArrayList<>(activeGameList.values());
+        return new ArrayList<>(activeGameIndex.values());
     }
 
     /**
      * Accessor for a list of all games that have ended.
      *
-     * @return An ArrayList containing all games that have already ended.
+     * @return An ArrayList containing a summary of each game that has
+     * already ended.
+     */
+    public static ArrayList<GameSummary> getEndedGameList() {
+        return endedGameArchive.getArchivedGames();
+    }
+
+    /**
+     * Accessor for one page of the games in progress, in order of their
+     * gameIDs. Only the games on the page are visited.
+     *
+     * @param after: The gameID the page starts after, or null to start at
+     *             the first game.
+     * @param pageSize: The most games to put on the page.
+     * @param playerName: Only list games this player is playing in, or null
+     *                  to list every game.
+     * @return An ArrayList containing up to pageSize active games.
+     */
+    public static ArrayList<GameCenter> getActiveGamePage(Integer after, int pageSize,
+                                                          String playerName) {
+        ConcurrentNavigableMap<Integer, GameCenter> games =
+                playerName == null ? activeGameIndex : activeGamesByPlayer.get(playerName);
+        return page(games, after, pageSize);
+    }
+
+    /**
+     * Accessor for one page of the games that have ended, in order of their
+     * gameIDs.
+     *
+     * @param after: The gameID the page starts after, or null to start at
+     *             the first game.
+     * @param pageSize: The most games to put on the page.
+     * @param playerName: Only list games this player played in, or null to
+     *                  list every game.
+     * @return An ArrayList containing a summary of up to pageSize games that
+     * have already ended.
+     */
+    public static ArrayList<GameSummary> getEndedGamePage(Integer after, int pageSize,
+                                                          String playerName) {
+        return endedGameArchive.getArchivedGamePage(after, pageSize, playerName);
+    }
+
+    /**
+     * Copy one page of games out of an index ordered by gameID.
+     *
+     * @param games: The index to read, or null if it's empty.
+     * @param after: The gameID the page starts after, or null to start at
+     *             the first game.
+     * @param pageSize: The most games to put on the page.
+     * @return An ArrayList containing up to pageSize games.
+     */
+    static <T> ArrayList<T> page(ConcurrentNavigableMap<Integer, T> games, Integer after,
+                                 int pageSize) {
+        ArrayList<T> page = new ArrayList<>(pageSize);
+        if (games == null) {
+            return page;
+        }
+        for (T game : (after == null ? games : games.tailMap(after, false)).values()) {
+            if (page.size() == pageSize) {
+                break;
+            }
+            page.add(game);
+        }
+        return page;
+    }
+
+    /**
+     * Accessor for the version of the lists of games. It goes up each time a
+     * game starts or ends, after the lists have changed, so anything built
+     * from {@link #getActiveGameList()} and {@link #getEndedGameList()} can
+     * be reused for as long as the version stays the same.
+     *
+     * @return the current version of the lists of games.
      */
-    public static ArrayList<GameCenter> getEndedGameList() {
-        return new ArrayList<>(endedGameList.values());
+    public static long getGameListVersion() {
+        return GAME_LIST_VERSION.get();
     }
 }
@@ -0,0 +1,23 @@
+package com.webcheckers.application;
+
+import com.webcheckers.model.GameSnapshot;
+
+/**
+ * Something that wants to know as soon as a Checkers game changes, rather
+ * than checking on the game every so often.
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+public interface GameListener {
+
+    /**
+     * Called each time a {@link GameCenter} publishes a new snapshot: when a
+     * turn is committed, or when the game ends. It's called while the game
+     * is locked, so it should hand any slow work, such as network writes,
+     * off to another thread.
+     *
+     * @param gameID: The unique gameID of the game that changed.
+     * @param snapshot: The snapshot that was just published.
+     */
+    void snapshotPublished(int gameID, GameSnapshot snapshot);
+}
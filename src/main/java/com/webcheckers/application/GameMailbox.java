@@ -0,0 +1,93 @@
+package com.webcheckers.application;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * A mailbox that runs the commands for a single Checkers game one at a time.
+ *
+ * <p>
+ * Commands are queued, and whichever request thread finds the mailbox idle
+ * runs every queued command in order before handing the mailbox back. No
+ * thread is dedicated to a game, and mailboxes for different games never
+ * block each other.
+ * </p>
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+public class GameMailbox {
+
+    /** The commands waiting to be run, in the order they were submitted. */
+    private final Queue<FutureTask<?>> commands = new ConcurrentLinkedQueue<>();
+
+    /** The thread currently running commands, or null if the mailbox is idle. */
+    private final AtomicReference<Thread> owner = new AtomicReference<>();
+
+    /**
+     * Run a command after every command submitted before it, and wait for
+     * its result.
+     *
+     * @param command: The command to run against the game.
+     * @return the value returned by the command.
+     */
+    public <T> T submit(Supplier<T> command) {
+        // a command that submits another command runs it in place, otherwise
+        // it would wait on itself.
+        if (owner.get() == Thread.currentThread()) {
+            return command.get();
+        }
+        FutureTask<T> task = new FutureTask<>(command::get);
+        commands.add(task);
+        drain();
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting on the game.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Run a command that has no result after every command submitted
+     * before it.
+     *
+     * @param command: The command to run against the game.
+     */
+    public void execute(Runnable command) {
+        submit(() -> {
+            command.run();
+            return null;
+        });
+    }
+
+    /**
+     * Take ownership of the mailbox if it's idle, and run commands until the
+     * queue is empty. Re-checks the queue after letting go, so a command added
+     * just as the previous owner finished is never left behind.
+     */
+    private void drain() {
+        Thread current = Thread.currentThread();
+        while (!commands.isEmpty() && owner.compareAndSet(null, current)) {
+            try {
+                FutureTask<?> task;
+                while ((task = commands.poll()) != null) {
+                    task.run();
+                }
+            } finally {
+                owner.set(null);
+            }
+        }
+    }
+}
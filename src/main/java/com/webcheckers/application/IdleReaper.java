@@ -0,0 +1,204 @@
+package com.webcheckers.application;
+
+import com.webcheckers.model.Color;
+import com.webcheckers.model.Player;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Logger;
+
+/**
+ * Cleans up after Players who leave without signing out, such as by closing
+ * their browser tab.
+ *
+ * <p>
+ * Each Player and each game being played has a {@link TimingWheel.Timeout}.
+ * A Player's timeout is touched by every request they make, and once it
+ * expires they're signed out of the {@link PlayerLobby}. A game's timeout is
+ * a regular check on whoever's turn it is: if that Player hasn't made a
+ * request in a while, they've abandoned the game, and it's ended by
+ * resigning them.
+ * </p>
+ *
+ * <p>
+ * A Player thinking about their turn makes no requests at all, so a Player
+ * who still has a connection open for their game's events is never idle,
+ * however quiet it is. They're last seen when it closes.
+ * </p>
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+public class IdleReaper {
+    private static final Logger LOG = Logger.getLogger(IdleReaper.class.getName());
+
+    public static final String ABANDONED_MSG = "%s has left the game.";
+
+    private final TimingWheel timingWheel;
+    private final PlayerLobby playerLobby;
+    private final MatchmakingQueue matchmakingQueue;
+
+    /** How long a Player can go without making a request, in milliseconds. */
+    private final long playerTimeout;
+
+    /** How long the Player whose turn it is can go without making a request, in milliseconds. */
+    private final long gameTimeout;
+
+    /** The timeout of each signed in Player, by username. */
+    private final ConcurrentMap<String, TimingWheel.Timeout> idlePlayers = new ConcurrentHashMap<>();
+
+    /** How many connections each Player has open, by username. */
+    private final ConcurrentMap<String, Integer> connections = new ConcurrentHashMap<>();
+
+    /** The timeout of each game being played, by gameID. */
+    private final ConcurrentMap<Integer, TimingWheel.Timeout> idleGames = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiates a reaper that runs its timeouts on the wheel provided.
+     *
+     * @param timingWheel: The {@link TimingWheel} to schedule timeouts on.
+     * @param playerLobby: The {@link PlayerLobby} idle Players are signed out of.
+     * @param matchmakingQueue: The {@link MatchmakingQueue} idle Players are
+     *                        taken out of.
+     * @param playerTimeout: How long a Player can go without making a request
+     *                     before they're signed out, in milliseconds.
+     * @param gameTimeout: How long the Player whose turn it is can go without
+     *                   making a request before they're resigned, in
+     *                   milliseconds.
+     */
+    public IdleReaper(TimingWheel timingWheel, PlayerLobby playerLobby,
+                      MatchmakingQueue matchmakingQueue, long playerTimeout, long gameTimeout) {
+        this.timingWheel = timingWheel;
+        this.playerLobby = playerLobby;
+        this.matchmakingQueue = matchmakingQueue;
+        this.playerTimeout = playerTimeout;
+        this.gameTimeout = gameTimeout;
+    }
+
+    /**
+     * Record that a Player has just made a request.
+     *
+     * @param player: The Player who made the request.
+     */
+    public void playerActive(Player player) {
+        touch(player.getName());
+    }
+
+    /**
+     * Record that a Player has opened a connection, such as a WebSocket, that
+     * they're sent their game's events on. They aren't idle until every one
+     * they've opened is closed.
+     *
+     * @param player: The Player who connected.
+     */
+    public void playerConnected(Player player) {
+        connections.merge(player.getName(), 1, Integer::sum);
+        touch(player.getName());
+    }
+
+    /**
+     * Record that a Player has closed a connection opened with
+     * {@link #playerConnected(Player)}.
+     *
+     * @param player: The Player who disconnected.
+     */
+    public void playerDisconnected(Player player) {
+        connections.computeIfPresent(player.getName(), (name, count) -> count == 1 ? null : count - 1);
+        touch(player.getName());
+    }
+
+    private void touch(String name) {
+        TimingWheel.Timeout timeout = idlePlayers.get(name);
+        if (timeout == null || !timeout.touch()) {
+            TimingWheel.Timeout newTimeout = timingWheel.schedule(playerTimeout,
+                    expired -> playerIdle(name, expired));
+            TimingWheel.Timeout oldTimeout = idlePlayers.put(name, newTimeout);
+            if (oldTimeout != null) {
+                oldTimeout.cancel();
+            }
+        }
+    }
+
+    /**
+     * Start watching a game for a Player who abandons it. Watching a game
+     * that's already being watched does nothing.
+     *
+     * @param gameID: The unique gameID of the game being played.
+     */
+    public void watchGame(int gameID) {
+        if (!idleGames.containsKey(gameID)) {
+            idleGames.computeIfAbsent(gameID, id -> scheduleGameCheck(gameID));
+        }
+    }
+
+    /**
+     * Checks if a Player has made a request recently enough to still be
+     * signed in.
+     *
+     * @param player: The Player to check.
+     * @return true if the Player is still active, false otherwise.
+     */
+    public boolean isActive(Player player) {
+        return idlePlayers.containsKey(player.getName());
+    }
+
+    /**
+     * Sign out a Player whose timeout has expired.
+     */
+    private void playerIdle(String name, TimingWheel.Timeout expired) {
+        if (!idlePlayers.remove(name, expired)) {
+            return;
+        }
+        if (connections.containsKey(name)) {
+            touch(name);
+            return;
+        }
+        Player player = playerLobby.getPlayerByName(name);
+        if (player != null) {
+            LOG.fine(name + " has been idle, signing them out.");
+            playerLobby.signOut(name, player);
+            matchmakingQueue.leave(player);
+        }
+    }
+
+    private TimingWheel.Timeout scheduleGameCheck(int gameID) {
+        return timingWheel.schedule(gameTimeout, expired -> checkGame(gameID, expired));
+    }
+
+    /**
+     * Check on a game whose timeout has expired. The Player whose turn it is
+     * is resigned if they have no connection open and have been idle for
+     * longer than the game's timeout, otherwise the game is checked again
+     * later.
+     */
+    private void checkGame(int gameID, TimingWheel.Timeout expired) {
+        GameCenter gameCenter = GameLibrary.getActiveGameByID(gameID);
+        if (gameCenter == null) {
+            idleGames.remove(gameID, expired);
+            return;
+        }
+        long idleSince = timingWheel.currentTime() - gameTimeout;
+        boolean gameOver = gameCenter.submit(() -> {
+            if (gameCenter.getSnapshot().isGameOver()) {
+                return true;
+            }
+            Player player = gameCenter.getCurrentTurn() == Color.RED ?
+                    gameCenter.getRedPlayer() : gameCenter.getWhitePlayer();
+            TimingWheel.Timeout playerTimeout = idlePlayers.get(player.getName());
+            if (connections.containsKey(player.getName())
+                    || (playerTimeout != null && playerTimeout.getLastTouched() > idleSince)) {
+                return false;
+            }
+            LOG.fine(player.getName() + " has abandoned game " + gameID + ".");
+            // it's the player's turn, so it's handed over to the opponent.
+            gameCenter.resign(player, String.format(ABANDONED_MSG, player.getName()));
+            return true;
+        });
+        if (gameOver) {
+            idleGames.remove(gameID, expired);
+            GameLibrary.gameHasEnded(gameID);
+        } else {
+            idleGames.computeIfPresent(gameID,
+                    (id, timeout) -> timeout == expired ? scheduleGameCheck(gameID) : timeout);
+        }
+    }
+}
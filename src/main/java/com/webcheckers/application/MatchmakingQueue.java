@@ -0,0 +1,80 @@
+package com.webcheckers.application;
+
+import com.webcheckers.model.Player;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A queue used to pair up Players who want to play anyone, without them
+ * having to pick an opponent from the lobby.
+ *
+ * <p>
+ * At most one Player is ever left waiting, since the next Player to arrive
+ * is paired with them straight away. The waiting Player is kept in a single
+ * atomic slot, so pairing never locks, and both Players are claimed with
+ * {@link Player#tryEnterGame()} so neither can end up in two games.
+ * </p>
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+public class MatchmakingQueue {
+
+    /** The Player waiting for an opponent, or null if no one is waiting. */
+    private final AtomicReference<Player> waitingPlayer = new AtomicReference<>();
+
+    /**
+     * Pair a Player with the Player who is waiting, or leave them waiting if
+     * no one else is. The Player arriving second plays RED.
+     *
+     * @param player: The Player looking for a game.
+     * @return the new GameCenter if the Player was paired, null if they are
+     * now waiting, or are already in a game.
+     */
+    public GameCenter quickPlay(Player player) {
+        while (!player.getInGameStatus()) {
+            Player waiting = waitingPlayer.get();
+            if (waiting == null) {
+                if (waitingPlayer.compareAndSet(null, player)) {
+                    return null;
+                }
+            } else if (waiting.equals(player)) {
+                return null;
+            } else if (waitingPlayer.compareAndSet(waiting, null)) {
+                // the waiting Player may have been challenged since they
+                // joined, in which case they're dropped and we try again.
+                if (!waiting.tryEnterGame()) {
+                    continue;
+                }
+                if (!player.tryEnterGame()) {
+                    // this Player was challenged in the meantime, so give the
+                    // waiting Player back their place, or pair them with
+                    // whoever has taken it since.
+                    waiting.setInGame(false);
+                    quickPlay(waiting);
+                    return null;
+                }
+                return GameLibrary.createGame(player, waiting);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Take a Player out of the queue, if they're the one waiting.
+     *
+     * @param player: The Player who no longer wants a game.
+     */
+    public void leave(Player player) {
+        waitingPlayer.compareAndSet(player, null);
+    }
+
+    /**
+     * Checks if a Player is waiting for an opponent.
+     *
+     * @param player: The Player to check.
+     * @return true if the Player is waiting, false otherwise.
+     */
+    public boolean isWaiting(Player player) {
+        return player.equals(waitingPlayer.get());
+    }
+}
@@ -0,0 +1,189 @@
+package com.webcheckers.application;
+
+import com.webcheckers.model.ArchivedGame;
+import com.webcheckers.model.Color;
+import com.webcheckers.model.Move;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.TimeZone;
+
+/**
+ * Writes ended games in PDN (Portable Draughts Notation), the standard text
+ * format for checkers games, one game at a time, so any number of them can
+ * be streamed without holding more than one in memory.
+ *
+ * <p>
+ * In PDN the side that moves first is Black, so the Red player is written
+ * as Black. Squares are numbered 1 to 32 from Black's side of the board,
+ * and a turn of several jumps is written as one move, such as
+ * {@code 9x18x27}. The result is written with Black's score first.
+ * </p>
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+public class PdnWriter {
+
+    static final String BLACK_WINS = "1-0";
+    static final String WHITE_WINS = "0-1";
+    static final String UNKNOWN_RESULT = "*";
+
+    /** The PDN game type of English checkers on an 8x8 board. */
+    private static final String GAME_TYPE = "21";
+
+    private static final String SITE = "Web Checkers";
+
+    /** The longest line of moves written, as PDN suggests. */
+    private static final int LINE_LENGTH = 79;
+
+    private final Writer out;
+    private final SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy.MM.dd");
+
+    /**
+     * Create a writer of games. It isn't safe to share between threads.
+     *
+     * @param out: Where to write the games. It isn't flushed or closed.
+     */
+    public PdnWriter(Writer out) {
+        this.out = out;
+        dateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
+    }
+
+    /**
+     * Write one game: its tags, its moves and its result, followed by a blank
+     * line to separate it from the next game.
+     *
+     * @param game: The record of the game.
+     * @throws IOException if the game can't be written.
+     */
+    public void write(ArchivedGame game) throws IOException {
+        String result = result(game);
+        writeTag("Event", SITE + " game " + game.getGameID());
+        writeTag("Site", SITE);
+        writeTag("Date", dateFormat.format(new Date(game.getStartTime())));
+        writeTag("Round", "-");
+        writeTag("Black", game.getRedPlayerName());
+        writeTag("White", game.getWhitePlayerName());
+        writeTag("Result", result);
+        writeTag("GameType", GAME_TYPE);
+        out.write('\n');
+
+        MoveText moveText = new MoveText();
+        int turn = 0;
+        StringBuilder move = new StringBuilder();
+        Move previous = null;
+        for (int i = 0; i < game.getMoveCount(); i++) {
+            Move hop = ArchivedGame.unpack(game.getMove(i));
+            // a jump from where the last jump landed is the same turn.
+            if (previous != null && previous.isJump() && hop.isJump()
+                    && previous.getEnd().getRow() == hop.getStart().getRow()
+                    && previous.getEnd().getCell() == hop.getStart().getCell()) {
+                move.append('x').append(square(hop.getEnd().getRow(), hop.getEnd().getCell()));
+            } else {
+                if (move.length() > 0) {
+                    moveText.add(move.toString());
+                }
+                if (turn % 2 == 0) {
+                    moveText.add((turn / 2 + 1) + ".");
+                }
+                turn++;
+                move.setLength(0);
+                move.append(square(hop.getStart().getRow(), hop.getStart().getCell()))
+                        .append(hop.isJump() ? 'x' : '-')
+                        .append(square(hop.getEnd().getRow(), hop.getEnd().getCell()));
+            }
+            previous = hop;
+        }
+        if (move.length() > 0) {
+            moveText.add(move.toString());
+        }
+        if (game.getResult() != null) {
+            moveText.add("{" + game.getResult().replace('}', ')') + "}");
+        }
+        moveText.add(result);
+        moveText.end();
+        out.write('\n');
+    }
+
+    /**
+     * Number a dark Space of the board model the way PDN does: 1 to 4 along
+     * the Red player's back row, up to 29 to 32 along the White player's.
+     *
+     * @param row: The row of the Space in the board model.
+     * @param cell: The column of the Space in the board model.
+     * @return the square's number.
+     */
+    static int square(int row, int cell) {
+        return (7 - row) * 4 + (7 - cell) / 2 + 1;
+    }
+
+    /**
+     * Work out who won from how the game ended.
+     *
+     * @param game: The record of the game.
+     * @return Black's and White's scores, or {@value #UNKNOWN_RESULT} if it
+     * isn't known how the game ended.
+     */
+    static String result(ArchivedGame game) {
+        Color winner = null;
+        String result = game.getResult();
+        if (result != null) {
+            String red = game.getRedPlayerName();
+            String white = game.getWhitePlayerName();
+            if (result.equals(String.format(GameCenter.CAPTURED_ALL_PIECES, red))) {
+                winner = Color.RED;
+            } else if (result.equals(String.format(GameCenter.CAPTURED_ALL_PIECES, white))) {
+                winner = Color.WHITE;
+            } else if (endedBy(red, result)) {
+                winner = Color.WHITE;
+            } else if (endedBy(white, result)) {
+                winner = Color.RED;
+            }
+        }
+        if (winner == null) {
+            return UNKNOWN_RESULT;
+        }
+        return winner == Color.RED ? BLACK_WINS : WHITE_WINS;
+    }
+
+    /** Check if a player lost by being blocked, resigning or leaving. */
+    private static boolean endedBy(String playerName, String result) {
+        return result.equals(String.format(GameCenter.PIECES_BLOCKED, playerName))
+                || result.equals(String.format(GameCenter.RESIGNED, playerName))
+                || result.equals(String.format(IdleReaper.ABANDONED_MSG, playerName));
+    }
+
+    private void writeTag(String name, String value) throws IOException {
+        out.write('[');
+        out.write(name);
+        out.write(" \"");
+        out.write(value.replace("\\", "\\\\").replace("\"", "\\\""));
+        out.write("\"]\n");
+    }
+
+    /**
+     * Writes the tokens of a game's moves, wrapping lines before they get
+     * too long.
+     */
+    private final class MoveText {
+        private int lineLength = 0;
+
+        private void add(String token) throws IOException {
+            if (lineLength > 0 && lineLength + 1 + token.length() > LINE_LENGTH) {
+                out.write('\n');
+                lineLength = 0;
+            } else if (lineLength > 0) {
+                out.write(' ');
+                lineLength++;
+            }
+            out.write(token);
+            lineLength += token.length();
+        }
+
+        private void end() throws IOException {
+            out.write('\n');
+        }
+    }
+}
@@ -3,28 +3,41 @@ package com.webcheckers.application;
 import com.webcheckers.model.Player;
 
 import java.util.ArrayList;
-import java.util.Map;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * The lobby where players will be placed when they sign-in.
  *
+ * <p>
+ * Players sign in and out from many request threads at once, so they are
+ * kept in a {@link ConcurrentNavigableMap} sorted by username. A username is
+ * claimed atomically when a player signs in, and the lobby can be read a
+ * page at a time without copying every player.
+ * </p>
+ *
  * @author Andrew Frank, ajf8248@rit.edu
  */
 public class PlayerLobby {
 
     /** A list to keep track of signed in players, only allowing new players in
-     * if their userName is unique.
+     * if their userName is unique. Sorted by userName.
      */
-    private Map<String, Player> playerList;
+    private final ConcurrentNavigableMap<String, Player> playerList;
+
+    /** The number of signed in players, since counting the map isn't cheap. */
+    private final AtomicInteger numberOfPlayers = new AtomicInteger();
 
     /**
      * Instantiates a new PlayerLobby.
      *
-     * @param playerList: a Map containing key, value pairs of player names
-     *                  along with their respective {@link Player} objects.
+     * @param playerList: a sorted, concurrent Map containing key, value pairs
+     *                  of player names along with their respective
+     *                  {@link Player} objects.
      */
-    public PlayerLobby(Map<String, Player> playerList) {
+    public PlayerLobby(ConcurrentNavigableMap<String, Player> playerList) {
         this.playerList = playerList;
+        this.numberOfPlayers.set(playerList.size());
     }
 
     /**
@@ -39,22 +52,83 @@ public class PlayerLobby {
     }
 
     /**
-     * Add a new {@link Player} to the list of active players.
+     * Add a new {@link Player} to the list of active players, only if no
+     * other player is using their username.
      * @param userName: The username of the new {@link Player}.
      * @param player: The new {@link Player} being added to the list of active
      *              players.
+     * @return true if the player was signed in, false if the username is
+     * already in use.
+     */
+    public boolean signIn(String userName, Player player) {
+        if (playerList.putIfAbsent(userName, player) != null) {
+            return false;
+        }
+        numberOfPlayers.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Accessor for the number of active players.
+     *
+     * @return how many {@link Player}s are signed in.
+     */
+    public int getNumberOfPlayers() {
+        return numberOfPlayers.get();
+    }
+
+    /**
+     * Accessor for one page of active players, in order of their usernames.
+     * Only the players on the page are visited.
+     *
+     * @param after: The username the page starts after, or null to start at
+     *             the first player.
+     * @param pageSize: The most players to put on the page.
+     * @param excluded: A {@link Player} to leave off the page, such as the
+     *                player viewing it. May be null.
+     * @return an ArrayList containing up to pageSize active {@link Player}s.
      */
-    public void signIn(String userName, Player player) {
-        playerList.put(userName, player);
+    public ArrayList<Player> getPlayerPage(String after, int pageSize, Player excluded) {
+        return getPlayerPage(after, pageSize, excluded, null, null);
     }
 
     /**
-     * Accessor for a list of all active players, given in an arrayList.
+     * Accessor for one page of active players whose usernames start with a
+     * prefix, in order of their usernames. Only players with the prefix are
+     * visited, so a narrow prefix stays cheap however many players there are.
      *
-     * @return an ArrayList containing all active {@link Player}s.
+     * @param after: The username the page starts after, or null to start at
+     *             the first player.
+     * @param pageSize: The most players to put on the page.
+     * @param excluded: A {@link Player} to leave off the page, such as the
+     *                player viewing it. May be null.
+     * @param namePrefix: Only list players whose usernames start with this,
+     *                  or null to list every player.
+     * @param inGame: Only list players who are in a game if true, or who
+     *              aren't if false. Null lists both.
+     * @return an ArrayList containing up to pageSize active {@link Player}s.
      */
-    public ArrayList<Player> getPlayerList() {
-        return new ArrayList<>(playerList.values());
+    public ArrayList<Player> getPlayerPage(String after, int pageSize, Player excluded,
+                                           String namePrefix, Boolean inGame) {
+        ConcurrentNavigableMap<String, Player> players = playerList;
+        if (namePrefix != null) {
+            players = players.subMap(namePrefix, true,
+                    namePrefix + Character.MAX_VALUE, true);
+        }
+        if (after != null) {
+            players = players.tailMap(after, false);
+        }
+        ArrayList<Player> page = new ArrayList<>(pageSize);
+        for (Player player : players.values()) {
+            if (page.size() == pageSize) {
+                break;
+            }
+            if (!player.equals(excluded)
+                    && (inGame == null || player.getInGameStatus() == inGame)) {
+                page.add(player);
+            }
+        }
+        return page;
     }
 
     /**
@@ -75,6 +149,8 @@ public class PlayerLobby {
      * @author Neha Ghanta, ng8975@rit.edu
      */
     public void signOut(String userName, Player player){
-        playerList.remove(userName, player);
+        if (playerList.remove(userName, player)) {
+            numberOfPlayers.decrementAndGet();
+        }
     }
 }
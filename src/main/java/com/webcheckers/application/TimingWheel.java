@@ -0,0 +1,254 @@
+package com.webcheckers.application;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A hashed timing wheel, used to run a task once something has been left
+ * alone for a while.
+ *
+ * <p>
+ * Time is split into ticks, and the wheel has a ring of slots that each hold
+ * the timeouts due during one tick. A single background thread visits one
+ * slot per tick, so thousands of timeouts cost one thread rather than one
+ * timer each. Touching a timeout only moves its deadline: the timeout stays
+ * where it is until the wheel reaches its slot, and is moved further along
+ * if its deadline hasn't come yet. Scheduling and touching are both O(1).
+ * </p>
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+public class TimingWheel {
+    private static final Logger LOG = Logger.getLogger(TimingWheel.class.getName());
+
+    /** How long each tick lasts, in milliseconds. */
+    private final long tickMillis;
+
+    /** The ring of slots, each only ever touched by the wheel's thread. */
+    private final Queue<Timeout>[] slots;
+
+    /** Timeouts scheduled since the last tick, waiting to be put in a slot. */
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+
+    /** Where the wheel reads the time from. */
+    private final LongSupplier clock;
+
+    /** The thread that turns the wheel, once it has been started. */
+    private ScheduledExecutorService ticker;
+
+    /** The last tick the wheel has visited. */
+    private long currentTick;
+
+    /**
+     * Instantiates a wheel that reads the time from the system clock.
+     *
+     * @param tickMillis: How long each tick lasts, in milliseconds.
+     * @param slotCount: How many slots the wheel has. A timeout further away
+     *                 than one turn of the wheel is just visited again on
+     *                 the next turn.
+     */
+    public TimingWheel(long tickMillis, int slotCount) {
+        this(tickMillis, slotCount, System::currentTimeMillis);
+    }
+
+    /**
+     * Instantiates a wheel that reads the time from the clock provided.
+     *
+     * @param tickMillis: How long each tick lasts, in milliseconds.
+     * @param slotCount: How many slots the wheel has.
+     * @param clock: Where to read the time from, in milliseconds.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    TimingWheel(long tickMillis, int slotCount, LongSupplier clock) {
+        this.tickMillis = tickMillis;
+        this.clock = clock;
+        this.slots = new Queue[slotCount];
+        for (int i = 0; i < slotCount; i++) {
+            slots[i] = new ArrayDeque<>();
+        }
+        this.currentTick = clock.getAsLong() / tickMillis;
+    }
+
+    /**
+     * Start turning the wheel on its own daemon thread.
+     */
+    public synchronized void start() {
+        if (ticker == null) {
+            ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "timing-wheel");
+                thread.setDaemon(true);
+                return thread;
+            });
+            ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Stop turning the wheel. Timeouts that haven't expired yet never will.
+     */
+    public synchronized void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+            ticker = null;
+        }
+    }
+
+    /**
+     * Accessor for the time according to this wheel's clock.
+     *
+     * @return the current time, in milliseconds.
+     */
+    public long currentTime() {
+        return clock.getAsLong();
+    }
+
+    /**
+     * Schedule a task to run once a timeout has gone untouched for the delay
+     * provided.
+     *
+     * @param delayMillis: How long the timeout can go untouched, in
+     *                   milliseconds.
+     * @param task: The task to run on the wheel's thread when the timeout
+     *            expires. It's given the timeout that expired.
+     * @return the new Timeout.
+     */
+    public Timeout schedule(long delayMillis, Consumer<Timeout> task) {
+        Timeout timeout = new Timeout(delayMillis, task, clock);
+        pending.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Visit every slot due since the last tick, running the task of each
+     * timeout that has expired. Only ever called by one thread at a time.
+     */
+    synchronized void tick() {
+        Timeout timeout;
+        while ((timeout = pending.poll()) != null) {
+            slotFor(timeout).add(timeout);
+        }
+        long now = clock.getAsLong();
+        long lastTick = now / tickMillis;
+        while (currentTick < lastTick) {
+            currentTick++;
+            Queue<Timeout> slot = slots[(int) (currentTick % slots.length)];
+            // anything moved into this slot while it's being visited waits
+            // for the next turn of the wheel.
+            for (int remaining = slot.size(); remaining > 0; remaining--) {
+                timeout = slot.poll();
+                if (timeout.expireIfDue(now)) {
+                    try {
+                        timeout.task.accept(timeout);
+                    } catch (RuntimeException e) {
+                        LOG.log(Level.WARNING, "A timeout's task failed.", e);
+                    }
+                } else if (!timeout.isCancelled()) {
+                    slotFor(timeout).add(timeout);
+                }
+            }
+        }
+    }
+
+    /**
+     * Find the slot a timeout's deadline falls in, never before the slot
+     * after the one being visited.
+     */
+    private Queue<Timeout> slotFor(Timeout timeout) {
+        long tick = Math.max(timeout.getDeadline() / tickMillis, currentTick + 1);
+        return slots[(int) (tick % slots.length)];
+    }
+
+    /**
+     * Something being timed by a {@link TimingWheel}.
+     */
+    public static final class Timeout {
+        private static final int ACTIVE = 0;
+        private static final int EXPIRED = 1;
+        private static final int CANCELLED = 2;
+
+        private final long delayMillis;
+        private final Consumer<Timeout> task;
+        private final LongSupplier clock;
+        private long lastTouched;
+        private int state;
+
+        private Timeout(long delayMillis, Consumer<Timeout> task, LongSupplier clock) {
+            this.delayMillis = delayMillis;
+            this.task = task;
+            this.clock = clock;
+            this.lastTouched = clock.getAsLong();
+            this.state = ACTIVE;
+        }
+
+        /**
+         * Push the timeout's deadline back to a full delay from now.
+         *
+         * @return true if the timeout was touched, false if it had already
+         * expired or been cancelled.
+         */
+        public synchronized boolean touch() {
+            if (state != ACTIVE) {
+                return false;
+            }
+            lastTouched = clock.getAsLong();
+            return true;
+        }
+
+        /**
+         * Cancel the timeout, so its task never runs.
+         *
+         * @return true if the timeout was cancelled, false if it had already
+         * expired.
+         */
+        public synchronized boolean cancel() {
+            if (state == EXPIRED) {
+                return false;
+            }
+            state = CANCELLED;
+            return true;
+        }
+
+        /**
+         * Accessor for when the timeout was last touched.
+         *
+         * @return the time it was last touched, in milliseconds.
+         */
+        public synchronized long getLastTouched() {
+            return lastTouched;
+        }
+
+        /**
+         * Checks if the timeout has been cancelled.
+         *
+         * @return true if it was cancelled, false otherwise.
+         */
+        public synchronized boolean isCancelled() {
+            return state == CANCELLED;
+        }
+
+        private synchronized long getDeadline() {
+            return lastTouched + delayMillis;
+        }
+
+        /**
+         * Mark the timeout as expired if its deadline has passed.
+         *
+         * @return true if it has just expired, and its task should run.
+         */
+        private synchronized boolean expireIfDue(long now) {
+            if (state != ACTIVE || lastTouched + delayMillis > now) {
+                return false;
+            }
+            state = EXPIRED;
+            return true;
+        }
+    }
+}
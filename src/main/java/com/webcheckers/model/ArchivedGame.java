@@ -0,0 +1,306 @@
+package com.webcheckers.model;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A small, immutable record of a Checkers game that has ended.
+ *
+ * <p>
+ * Rather than a copy of the board after every move, the record keeps each
+ * move packed into a short, along with a hash of every position reached, so
+ * an ended game takes a few hundred bytes. Any position of the game can be
+ * rebuilt by replaying its moves from the start.
+ * </p>
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+public final class ArchivedGame {
+
+    /** Random numbers for each kind of piece on each dark space, used to hash positions. */
+    private static final long[][] PIECE_KEYS = new long[32][4];
+
+    static {
+        // a fixed seed, so a position always hashes the same way.
+        Random random = new Random(261);
+        for (long[] spaceKeys : PIECE_KEYS) {
+            for (int i = 0; i < spaceKeys.length; i++) {
+                spaceKeys[i] = random.nextLong();
+            }
+        }
+    }
+
+    private final int gameID;
+    private final String redPlayerName;
+    private final String whitePlayerName;
+    private final String result;
+    private final Color finalTurn;
+    private final long startTime;
+    private final long endTime;
+    private final short[] moves;
+    private final long[] positionHashes;
+
+    /**
+     * Instantiates a new record of an ended game.
+     *
+     * @param gameID: The unique gameID of the game.
+     * @param redPlayerName: The name of the Red Player.
+     * @param whitePlayerName: The name of the White Player.
+     * @param result: A message describing how the game ended, may be null.
+     * @param finalTurn: The Color of the Player whose turn it was when the
+     *                 game ended.
+     * @param startTime: When the game started, in milliseconds since the epoch.
+     * @param endTime: When the game ended, in milliseconds since the epoch.
+     * @param moves: Every move made during the game, packed by
+     *             {@link #pack(Move)}, in order.
+     */
+    public ArchivedGame(int gameID, String redPlayerName, String whitePlayerName, String result,
+                        Color finalTurn, long startTime, long endTime, short[] moves) {
+        this.gameID = gameID;
+        this.redPlayerName = redPlayerName;
+        this.whitePlayerName = whitePlayerName;
+        this.result = result;
+        this.finalTurn = finalTurn;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.moves = moves.clone();
+        this.positionHashes = new long[moves.length + 1];
+        BoardView board = new BoardView();
+        positionHashes[0] = hash(board);
+        for (int i = 0; i < moves.length; i++) {
+            applyMove(board, moves[i]);
+            positionHashes[i + 1] = hash(board);
+        }
+    }
+
+    /**
+     * Instantiates a new record of an ended game from its list of moves.
+     *
+     * @param moves: Every move made during the game, using the positions of
+     *             the board model, in order.
+     * @see #ArchivedGame(int, String, String, String, Color, long, long, short[])
+     */
+    public ArchivedGame(int gameID, String redPlayerName, String whitePlayerName, String result,
+                        Color finalTurn, long startTime, long endTime, List<Move> moves) {
+        this(gameID, redPlayerName, whitePlayerName, result, finalTurn, startTime, endTime,
+                packAll(moves));
+    }
+
+    /**
+     * Accessor for the unique gameID of this game.
+     *
+     * @return this game's unique gameID.
+     */
+    public int getGameID() {
+        return this.gameID;
+    }
+
+    /**
+     * Accessor for the name of the Red Player.
+     *
+     * @return the Red Player's name.
+     */
+    public String getRedPlayerName() {
+        return this.redPlayerName;
+    }
+
+    /**
+     * Accessor for the name of the White Player.
+     *
+     * @return the White Player's name.
+     */
+    public String getWhitePlayerName() {
+        return this.whitePlayerName;
+    }
+
+    /**
+     * Accessor for how this game ended. **NEED TO CHECK FOR NULL WHEN
+     * CALLING THIS METHOD**
+     *
+     * @return a message describing how the game ended, or null if it wasn't
+     * recorded.
+     */
+    public String getResult() {
+        return this.result;
+    }
+
+    /**
+     * Find out whose turn it was when the game ended.
+     *
+     * @return the Color of the Player whose turn it was.
+     */
+    public Color getFinalTurn() {
+        return this.finalTurn;
+    }
+
+    /**
+     * Find out whose turn it was after a number of moves. Red moves first,
+     * and a jump from where the last jump landed is the same turn.
+     *
+     * @param moveCount: How many moves had been made, 0 for the starting
+     *                 position.
+     * @return the Color of the Player whose turn it was.
+     */
+    public Color getTurn(int moveCount) {
+        if (moveCount == this.moves.length) {
+            return this.finalTurn;
+        }
+        Color turn = Color.RED;
+        for (int i = 1; i <= moveCount; i++) {
+            if (!continuesJump(moves[i - 1], moves[i])) {
+                turn = turn == Color.RED ? Color.WHITE : Color.RED;
+            }
+        }
+        return turn;
+    }
+
+    /**
+     * Accessor for when this game started.
+     *
+     * @return the start time, in milliseconds since the epoch.
+     */
+    public long getStartTime() {
+        return this.startTime;
+    }
+
+    /**
+     * Accessor for when this game ended.
+     *
+     * @return the end time, in milliseconds since the epoch.
+     */
+    public long getEndTime() {
+        return this.endTime;
+    }
+
+    /**
+     * Accessor for the number of moves made during this game.
+     *
+     * @return how many moves were made.
+     */
+    public int getMoveCount() {
+        return this.moves.length;
+    }
+
+    /**
+     * Accessor for a single move made during this game.
+     *
+     * @param index: The index of the move, starting at 0.
+     * @return the move, packed by {@link #pack(Move)}.
+     */
+    public short getMove(int index) {
+        return this.moves[index];
+    }
+
+    /**
+     * Accessor for a hash of the position reached after a number of moves.
+     * Two equal positions always have the same hash.
+     *
+     * @param moveCount: How many moves had been made, 0 for the starting
+     *                 position.
+     * @return the hash of the position.
+     */
+    public long getPositionHash(int moveCount) {
+        return this.positionHashes[moveCount];
+    }
+
+    /**
+     * Rebuild the game board as it was after a number of moves.
+     *
+     * @param moveCount: How many moves to replay, 0 for the starting position.
+     * @return a new {@link BoardView} of the position.
+     */
+    public BoardView getBoard(int moveCount) {
+        BoardView board = new BoardView();
+        for (int i = 0; i < moveCount; i++) {
+            applyMove(board, moves[i]);
+        }
+        return board;
+    }
+
+    /**
+     * Pack a move into a short, 3 bits for each row and cell.
+     *
+     * @param move: The move to pack, using the positions of the board model.
+     * @return the packed move.
+     */
+    public static short pack(Move move) {
+        return (short) (move.getStart().getRow() << 9 | move.getStart().getCell() << 6
+                | move.getEnd().getRow() << 3 | move.getEnd().getCell());
+    }
+
+    /**
+     * Unpack a move packed by {@link #pack(Move)}.
+     *
+     * @param packedMove: The packed move.
+     * @return the Move, using the positions of the board model.
+     */
+    public static Move unpack(short packedMove) {
+        return new Move(new Position(packedMove >> 9 & 7, packedMove >> 6 & 7),
+                new Position(packedMove >> 3 & 7, packedMove & 7));
+    }
+
+    /**
+     * Apply a packed move to a board: move the piece, capture any piece
+     * jumped over, and promote the piece if it reached the far row.
+     *
+     * @param board: The board to apply the move to.
+     * @param packedMove: The move, packed by {@link #pack(Move)}.
+     */
+    public static void applyMove(BoardView board, short packedMove) {
+        int startRow = packedMove >> 9 & 7;
+        int startCell = packedMove >> 6 & 7;
+        int endRow = packedMove >> 3 & 7;
+        int endCell = packedMove & 7;
+
+        Space startSpace = board.getRow(startRow).getSpace(startCell);
+        Space endSpace = board.getRow(endRow).getSpace(endCell);
+        Piece piece = startSpace.getPiece();
+        endSpace.setPiece(piece);
+        startSpace.setPiece(null);
+
+        if (Math.abs(startRow - endRow) == 2) {
+            board.getRow((startRow + endRow) / 2).getSpace((startCell + endCell) / 2).setPiece(null);
+        }
+        if (piece != null && ((piece.getColor() == Color.RED && endRow == 0) ||
+                (piece.getColor() == Color.WHITE && endRow == 7))) {
+            piece.setKing();
+        }
+    }
+
+    /** Check if a packed move is another jump from where the last jump landed. */
+    private static boolean continuesJump(short previous, short move) {
+        return Math.abs((previous >> 3 & 7) - (previous >> 9 & 7)) == 2
+                && Math.abs((move >> 3 & 7) - (move >> 9 & 7)) == 2
+                && (previous & 077) == (move >> 6 & 077);
+    }
+
+    private static short[] packAll(List<Move> moves) {
+        short[] packedMoves = new short[moves.size()];
+        int i = 0;
+        for (Move move : moves) {
+            packedMoves[i++] = pack(move);
+        }
+        return packedMoves;
+    }
+
+    /**
+     * Hash a position by combining a random number for each piece on the
+     * board, so equal positions always hash the same way.
+     */
+    private static long hash(BoardView board) {
+        long hash = 0;
+        int darkSpace = 0;
+        for (int row = 0; row < 8; row++) {
+            for (int cell = (row + 1) % 2; cell < 8; cell += 2) {
+                Piece piece = board.getPiece(row, cell);
+                if (piece != null) {
+                    int kind = (piece.getColor() == Color.RED ? 0 : 2)
+                            + (piece.getType() == Type.KING ? 1 : 0);
+                    hash ^= PIECE_KEYS[darkSpace][kind];
+                }
+                darkSpace++;
+            }
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,102 @@
+package com.webcheckers.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable picture of a Checkers game, taken each time a turn is
+ * committed. Readers such as spectators can use a snapshot without locking,
+ * since nothing changes it after it has been published.
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+public final class GameSnapshot {
+
+    private final BoardView board;
+    private final Color currentTurn;
+    private final long version;
+    private final String result;
+    private final List<Move> lastTurn;
+
+    /**
+     * Instantiates a new snapshot. The board given should be a private copy,
+     * since the snapshot takes ownership of it.
+     *
+     * @param board: A copy of the game board at the time of the snapshot.
+     * @param currentTurn: The Color of the Player whose turn it is.
+     * @param version: The version of the game this snapshot represents.
+     * @param result: A message describing how the game ended, or null if the
+     *              game is still in progress.
+     * @param lastTurn: The moves committed since the snapshot before this
+     *                one, using the positions of the board model.
+     */
+    public GameSnapshot(BoardView board, Color currentTurn, long version, String result,
+                        List<Move> lastTurn) {
+        this.board = board;
+        this.currentTurn = currentTurn;
+        this.version = version;
+        this.result = result;
+        this.lastTurn = Collections.unmodifiableList(new ArrayList<>(lastTurn));
+    }
+
+    /**
+     * Accessor for the game board at the time of this snapshot. The board
+     * is shared by every reader, so it must not be modified.
+     *
+     * @return the {@link BoardView} of this snapshot.
+     */
+    public BoardView getBoard() {
+        return this.board;
+    }
+
+    /**
+     * Find out whose turn it was at the time of this snapshot.
+     *
+     * @return the Color of the Player whose turn it is.
+     */
+    public Color getCurrentTurn() {
+        return this.currentTurn;
+    }
+
+    /**
+     * Accessor for the version of this snapshot. Every snapshot published
+     * for a game has a higher version than the one before it.
+     *
+     * @return this snapshot's version.
+     */
+    public long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Accessor for the result of the game. **NEED TO CHECK FOR NULL WHEN
+     * CALLING THIS METHOD**
+     *
+     * @return null if the game is still in progress, a String describing how
+     * the game ended otherwise.
+     */
+    public String getResult() {
+        return this.result;
+    }
+
+    /**
+     * Accessor for the moves committed since the snapshot before this one,
+     * such as the moves of the turn that was just submitted.
+     *
+     * @return an unmodifiable List of the moves, in the order they were
+     * made, using the positions of the board model.
+     */
+    public List<Move> getLastTurn() {
+        return this.lastTurn;
+    }
+
+    /**
+     * Checks if the game had ended at the time of this snapshot.
+     *
+     * @return true if the game is over, false otherwise.
+     */
+    public boolean isGameOver() {
+        return this.result != null;
+    }
+}
@@ -0,0 +1,53 @@
+package com.webcheckers.model;
+
+/**
+ * A summary of an {@link ArchivedGame}, holding only what's needed to list
+ * the game on the Home page. A summary is kept in memory for every ended
+ * game, while the records themselves are archived.
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+public final class GameSummary {
+
+    private final int gameID;
+    private final String redPlayerName;
+    private final String whitePlayerName;
+
+    /**
+     * Instantiates a summary of an ended game.
+     *
+     * @param game: The record of the ended game.
+     */
+    public GameSummary(ArchivedGame game) {
+        this.gameID = game.getGameID();
+        this.redPlayerName = game.getRedPlayerName();
+        this.whitePlayerName = game.getWhitePlayerName();
+    }
+
+    /**
+     * Accessor for the unique gameID of this game.
+     *
+     * @return this game's unique gameID.
+     */
+    public int getGameID() {
+        return this.gameID;
+    }
+
+    /**
+     * Accessor for the name of the Red Player.
+     *
+     * @return the Red Player's name.
+     */
+    public String getRedPlayerName() {
+        return this.redPlayerName;
+    }
+
+    /**
+     * Accessor for the name of the White Player.
+     *
+     * @return the White Player's name.
+     */
+    public String getWhitePlayerName() {
+        return this.whitePlayerName;
+    }
+}
@@ -2,6 +2,8 @@ package com.webcheckers.model;
 
 import spark.Session;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+
 /**
  * A class to represent a single Player.
  *
@@ -12,7 +14,7 @@ public class Player {
     private final String name;
     private final Session session;
     private Color color;
-    private boolean inGame;
+    private final AtomicBoolean inGame;
     private int captures;
 
     /**
@@ -23,7 +25,7 @@ public class Player {
         this.name = name;
         this.session = session;
         this.color = Color.RED;
-        this.inGame = false;
+        this.inGame = new AtomicBoolean(false);
         this.captures = 0;
     }
 
@@ -70,7 +72,19 @@ public class Player {
      * @param inGame: a boolean used to set the in-game status of this Player.
      */
     public void setInGame(boolean inGame) {
-        this.inGame = inGame;
+        this.inGame.set(inGame);
+    }
+
+    /**
+     * Put this Player into a game, but only if they aren't already in one.
+     * The check and the change happen together, so two games can never both
+     * claim the same Player.
+     *
+     * @return true if this Player is now in the caller's game, false if they
+     * were already in a game.
+     */
+    public boolean tryEnterGame() {
+        return this.inGame.compareAndSet(false, true);
     }
 
     /**
@@ -80,7 +94,7 @@ public class Player {
      * game, false otherwise.
      */
     public boolean getInGameStatus() {
-        return this.inGame;
+        return this.inGame.get();
     }
 
     /**
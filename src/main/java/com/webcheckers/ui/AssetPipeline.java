@@ -0,0 +1,310 @@
+package com.webcheckers.ui;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The scripts and style sheets of the web pages, bundled, fingerprinted and
+ * compressed once when the server starts.
+ *
+ * <p>
+ * The Game page's script is made up of dozens of RequireJS modules, each of
+ * which used to be its own request. They're bundled into a single script,
+ * along with RequireJS itself, by following the {@code require} calls from
+ * the main module and naming each module as it's added, the way the
+ * RequireJS optimizer does. The Game page's two style sheets are bundled the
+ * same way.
+ * </p>
+ *
+ * <p>
+ * Each bundle is named for a hash of its contents, so its URL changes
+ * whenever it does, and browsers can keep it for as long as they like. A
+ * gzipped copy is made at the same time, so no request ever pays for
+ * compressing it. The URLs are handed to the templates as the
+ * {@value #TEMPLATE_VARIABLE} variable.
+ * </p>
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+public class AssetPipeline {
+    private static final Logger LOG = Logger.getLogger(AssetPipeline.class.getName());
+
+    /** The name the templates know the bundle URLs by. */
+    public static final String TEMPLATE_VARIABLE = "assets";
+
+    static final String GAME_JS = "gameJs";
+    static final String GAME_CSS = "gameCss";
+    static final String STYLE_CSS = "styleCss";
+
+    static final String JS_TYPE = "application/javascript; charset=UTF-8";
+    static final String CSS_TYPE = "text/css; charset=UTF-8";
+
+    /** Where the static files are on the classpath. */
+    private static final String PUBLIC_ROOT = "public/";
+
+    /** Where the Game page's modules are, under the static files. */
+    private static final String MODULE_ROOT = "js/game/";
+
+    private static final String REQUIRE_JS = "js/require.js";
+    private static final String MAIN_MODULE = "main";
+
+    /** Starts the Game page's script once every module has been defined. */
+    private static final String INDEX_SCRIPT = MODULE_ROOT + "index.js";
+
+    /** An anonymous module definition, which is given its module's name. */
+    private static final Pattern DEFINE = Pattern.compile("\\bdefine\\(\\s*(?=function)");
+
+    /** A module's import of another module. */
+    private static final Pattern REQUIRE = Pattern.compile("\\brequire\\(\\s*['\"]([^'\"]+)['\"]\\s*\\)");
+
+    /** How many hex digits of a bundle's hash go in its file name. */
+    private static final int FINGERPRINT_LENGTH = 12;
+
+    private final ClassLoader classLoader;
+
+    /** Each bundle, by its fingerprinted file name. */
+    private final Map<String, Asset> assets = new HashMap<>();
+
+    /** The URL of each bundle, by the name the templates use. */
+    private final Map<String, String> urls = new HashMap<>();
+
+    /**
+     * Build every bundle from the static files on the classpath.
+     *
+     * @param classLoader: The class loader to read the static files with.
+     * @throws UncheckedIOException if a static file can't be read.
+     */
+    public AssetPipeline(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+        try {
+            add(GAME_JS, "game", ".js", JS_TYPE, gameScript());
+            add(GAME_CSS, "game", ".css", CSS_TYPE,
+                    concat(read("css/style.css"), read("css/game.css")));
+            add(STYLE_CSS, "style", ".css", CSS_TYPE, read("css/style.css"));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not build the static assets.", e);
+        }
+    }
+
+    /**
+     * Accessor for the URL of each bundle, for the templates.
+     *
+     * @return the URLs, by the name the templates use.
+     */
+    public Map<String, String> getUrls() {
+        return Collections.unmodifiableMap(urls);
+    }
+
+    /**
+     * Find a bundle by its fingerprinted file name.
+     *
+     * @param fileName: The last part of the bundle's URL.
+     * @return the bundle, or null if there is no such bundle, such as one
+     * from before the server was restarted.
+     */
+    public Asset get(String fileName) {
+        return assets.get(fileName);
+    }
+
+    private void add(String key, String name, String extension, String contentType,
+                     String content) throws IOException {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        String fingerprint = fingerprint(bytes);
+        String fileName = name + "." + fingerprint + extension;
+        Asset asset = new Asset(contentType, bytes, gzip(bytes), "\"" + fingerprint + "\"");
+        assets.put(fileName, asset);
+        urls.put(key, WebServer.ASSETS_URL + "/" + fileName);
+        LOG.config(String.format("Bundled %s: %d bytes, %d gzipped.", fileName, bytes.length,
+                asset.gzipped == null ? bytes.length : asset.gzipped.length));
+    }
+
+    /**
+     * Bundle RequireJS, every module the main module needs, and the script
+     * that starts it.
+     */
+    private String gameScript() throws IOException {
+        StringBuilder script = new StringBuilder(read(REQUIRE_JS)).append('\n');
+        for (Map.Entry<String, String> module : modules().entrySet()) {
+            Matcher define = DEFINE.matcher(module.getValue());
+            if (!define.find()) {
+                throw new IOException("Module " + module.getKey() + " has no anonymous define.");
+            }
+            script.append(module.getValue(), 0, define.end())
+                    .append('\'').append(module.getKey()).append("', ")
+                    .append(module.getValue(), define.end(), module.getValue().length())
+                    .append('\n');
+        }
+        return script.append(read(INDEX_SCRIPT)).append('\n').toString();
+    }
+
+    /**
+     * Find every module the main module needs, by following their imports.
+     *
+     * @return the source of each module, by its name, each one after the
+     * modules it imports.
+     */
+    private Map<String, String> modules() throws IOException {
+        Map<String, String> modules = new LinkedHashMap<>();
+        addModule(MAIN_MODULE, modules, new HashSet<>());
+        return modules;
+    }
+
+    private void addModule(String name, Map<String, String> modules, Set<String> visiting)
+            throws IOException {
+        // a module that's already added, or is being added, stays put.
+        if (modules.containsKey(name) || !visiting.add(name)) {
+            return;
+        }
+        String source = read(MODULE_ROOT + name + ".js");
+        Matcher imports = REQUIRE.matcher(source);
+        while (imports.find()) {
+            addModule(resolve(name, imports.group(1)), modules, visiting);
+        }
+        modules.put(name, source);
+    }
+
+    /**
+     * Work out the name of an imported module, the way RequireJS does:
+     * relative to the importing module if it starts with a dot.
+     */
+    static String resolve(String from, String imported) {
+        if (!imported.startsWith(".")) {
+            return imported;
+        }
+        Deque<String> parts = new ArrayDeque<>();
+        String[] fromParts = from.split("/");
+        for (int i = 0; i < fromParts.length - 1; i++) {
+            parts.addLast(fromParts[i]);
+        }
+        for (String part : imported.split("/")) {
+            if (part.equals("..")) {
+                parts.pollLast();
+            } else if (!part.equals(".")) {
+                parts.addLast(part);
+            }
+        }
+        return String.join("/", parts);
+    }
+
+    private static String concat(String... sources) {
+        return String.join("\n", sources);
+    }
+
+    private String read(String path) throws IOException {
+        try (InputStream in = classLoader.getResourceAsStream(PUBLIC_ROOT + path)) {
+            if (in == null) {
+                throw new IOException("No static file " + path + ".");
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            for (int read; (read = in.read(buffer)) != -1; ) {
+                out.write(buffer, 0, read);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static String fingerprint(byte[] bytes) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(bytes);
+            StringBuilder hex = new StringBuilder();
+            for (int i = 0; hex.length() < FINGERPRINT_LENGTH; i++) {
+                hex.append(String.format("%02x", hash[i]));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform has SHA-256.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Gzip a bundle as small as it will go, since it's only done once.
+     *
+     * @return the gzipped bytes, or null if they aren't any smaller.
+     */
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(bytes);
+        }
+        return out.size() < bytes.length ? out.toByteArray() : null;
+    }
+
+    /**
+     * One bundle, ready to send.
+     */
+    public static final class Asset {
+        private final String contentType;
+        private final byte[] bytes;
+        private final byte[] gzipped;
+        private final String etag;
+
+        private Asset(String contentType, byte[] bytes, byte[] gzipped, String etag) {
+            this.contentType = contentType;
+            this.bytes = bytes;
+            this.gzipped = gzipped;
+            this.etag = etag;
+        }
+
+        /**
+         * Accessor for the type of this bundle.
+         *
+         * @return the Content-Type to send it with.
+         */
+        public String getContentType() {
+            return this.contentType;
+        }
+
+        /**
+         * Accessor for the bundle as it is.
+         *
+         * @return its bytes. They must not be changed.
+         */
+        public byte[] getBytes() {
+            return this.bytes;
+        }
+
+        /**
+         * Accessor for the gzipped bundle. **NEED TO CHECK FOR NULL WHEN
+         * CALLING THIS METHOD**
+         *
+         * @return its gzipped bytes, or null if gzipping doesn't make it any
+         * smaller. They must not be changed.
+         */
+        public byte[] getGzipped() {
+            return this.gzipped;
+        }
+
+        /**
+         * Accessor for the tag of this bundle.
+         *
+         * @return the ETag to send it with.
+         */
+        public String getETag() {
+            return this.etag;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.webcheckers.ui;
+
+import com.webcheckers.application.GameCenter;
+import com.webcheckers.model.Color;
+import com.webcheckers.model.GameSnapshot;
+import com.webcheckers.model.Move;
+import com.webcheckers.model.Piece;
+import com.webcheckers.model.Position;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The squares of a game board that have changed since a version the client
+ * has already shown, so the Game page can be updated in place instead of
+ * being reloaded. Updates are only ever converted to JSON, so their fields
+ * are named for the client.
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+public final class BoardUpdate {
+
+    private final long version;
+    private final Color activeColor;
+    private final boolean gameOver;
+    private final List<SpaceUpdate> spaces;
+
+    private BoardUpdate(long version, Color activeColor, boolean gameOver,
+                        List<SpaceUpdate> spaces) {
+        this.version = version;
+        this.activeColor = activeColor;
+        this.gameOver = gameOver;
+        this.spaces = spaces;
+    }
+
+    /**
+     * Work out the squares that changed after a given version: every square
+     * a committed move started on, ended on, or jumped over, as it is on the
+     * latest board. That covers moved pieces, captured pieces, and pieces
+     * that were crowned.
+     *
+     * @param gameCenter: The game the client is showing.
+     * @param version: The version of the game the client is showing.
+     * @param flipped: True if the client shows the board with its rows
+     *               flipped, as the White player's Game page does.
+     * @return the update for the client. Its spaces are null if the client
+     * is too far behind, and has to reload the Game page instead.
+     */
+    public static BoardUpdate since(GameCenter gameCenter, long version, boolean flipped) {
+        GameSnapshot latest = gameCenter.getSnapshot();
+        List<GameSnapshot> missed = gameCenter.getSnapshotsSince(version);
+        if (missed == null) {
+            return new BoardUpdate(latest.getVersion(), latest.getCurrentTurn(),
+                    latest.isGameOver(), null);
+        }
+        if (!missed.isEmpty()) {
+            latest = missed.get(missed.size() - 1);
+        }
+
+        boolean[][] changed = new boolean[8][8];
+        for (GameSnapshot snapshot : missed) {
+            for (Move move : snapshot.getLastTurn()) {
+                Position start = move.getStart();
+                Position end = move.getEnd();
+                changed[start.getRow()][start.getCell()] = true;
+                changed[end.getRow()][end.getCell()] = true;
+                if (move.isJump()) {
+                    changed[(start.getRow() + end.getRow()) / 2]
+                            [(start.getCell() + end.getCell()) / 2] = true;
+                }
+            }
+        }
+
+        List<SpaceUpdate> spaces = new ArrayList<>();
+        for (int row = 0; row < 8; row++) {
+            for (int cell = 0; cell < 8; cell++) {
+                if (changed[row][cell]) {
+                    spaces.add(new SpaceUpdate(flipped ? 7 - row : row, cell,
+                            latest.getBoard().getPiece(row, cell)));
+                }
+            }
+        }
+        return new BoardUpdate(latest.getVersion(), latest.getCurrentTurn(),
+                latest.isGameOver(), spaces);
+    }
+
+    /**
+     * Accessor for the version of the game this update brings the client to.
+     *
+     * @return the version of the latest snapshot.
+     */
+    public long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Accessor for the squares that changed. **NEED TO CHECK FOR NULL WHEN
+     * CALLING THIS METHOD**
+     *
+     * @return the changed squares, in the client's positions, or null if
+     * the client has to reload the Game page.
+     */
+    public List<SpaceUpdate> getSpaces() {
+        return this.spaces;
+    }
+
+    /**
+     * One square of the board as it is now.
+     */
+    public static final class SpaceUpdate {
+        private final int row;
+        private final int cell;
+        private final Piece piece;
+
+        private SpaceUpdate(int row, int cell, Piece piece) {
+            this.row = row;
+            this.cell = cell;
+            this.piece = piece;
+        }
+
+        /**
+         * Accessor for the position of this square, as the client shows it.
+         *
+         * @return the Position of this square.
+         */
+        public Position getPosition() {
+            return new Position(row, cell);
+        }
+
+        /**
+         * Accessor for the piece on this square.
+         *
+         * @return the Piece, or null if the square is now empty.
+         */
+        public Piece getPiece() {
+            return this.piece;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.webcheckers.ui;
+
+import spark.Filter;
+import spark.Request;
+import spark.Response;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * A filter that gzips rendered pages and JSON responses on their way out,
+ * for clients that accept it.
+ *
+ * <p>
+ * Small responses are sent as they are, since gzipping them saves less than
+ * it costs. Compressors, along with their buffers, are kept in a pool and
+ * reused, instead of each response allocating its own. The compression level
+ * trades CPU for bandwidth; a middling level gets most of the savings on
+ * pages like these for much less work than the best one.
+ * </p>
+ *
+ * <p>
+ * Responses that are already committed, such as the ones routes write
+ * themselves, or that already have an encoding, are left alone.
+ * </p>
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+public class CompressionFilter implements Filter {
+
+    static final String CONTENT_ENCODING_HEADER = "Content-Encoding";
+
+    /** The gzip header: the magic number, deflate, no flags, no time, no extra flags, unknown OS. */
+    private static final byte[] GZIP_HEADER = {
+            0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff
+    };
+
+    /** How many bytes of compressed output each compressor writes at a time. */
+    private static final int BUFFER_SIZE = 8192;
+
+    private final int minimumSize;
+    private final int level;
+    private final BlockingQueue<Compressor> pool;
+
+    /**
+     * Create the filter.
+     *
+     * @param minimumSize: The fewest bytes a response has to have to be
+     *                   compressed.
+     * @param level: The compression level, from {@link Deflater#BEST_SPEED} to
+     *             {@link Deflater#BEST_COMPRESSION}.
+     * @param poolSize: The most idle compressors to keep for reuse.
+     */
+    public CompressionFilter(int minimumSize, int level, int poolSize) {
+        if (level < Deflater.BEST_SPEED || level > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("No such compression level: " + level);
+        }
+        this.minimumSize = minimumSize;
+        this.level = level;
+        this.pool = new ArrayBlockingQueue<>(poolSize);
+    }
+
+    /**
+     * Gzip the response's body, if it's worth compressing and the client
+     * accepts it.
+     *
+     * @param request
+     *   the HTTP request
+     * @param response
+     *   the HTTP response
+     * @throws IOException if the compressed body can't be written.
+     */
+    @Override
+    public void handle(Request request, Response response) throws IOException {
+        HttpServletResponse raw = response.raw();
+        String body = response.body();
+        // a body is never shorter in bytes than in characters, so a short one
+        // is skipped without encoding it.
+        if (body == null || body.length() < minimumSize || raw.isCommitted()
+                || raw.getHeader(CONTENT_ENCODING_HEADER) != null
+                || !isCompressible(raw.getContentType())) {
+            return;
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        raw.addHeader("Vary", GetAssetRoute.ACCEPT_ENCODING_HEADER);
+        if (!GetAssetRoute.acceptsGzip(request.headers(GetAssetRoute.ACCEPT_ENCODING_HEADER))) {
+            return;
+        }
+
+        if (raw.getContentType() == null) {
+            // what Spark would have sent it as.
+            raw.setContentType("text/html; charset=utf-8");
+        }
+        raw.setHeader(CONTENT_ENCODING_HEADER, GetAssetRoute.GZIP);
+        Compressor compressor = borrow();
+        try {
+            compressor.gzip(bytes, raw.getOutputStream());
+        } finally {
+            giveBack(compressor);
+        }
+        // the response is committed now, so Spark won't write the body again.
+        raw.flushBuffer();
+    }
+
+    /**
+     * Check if a type of response is worth compressing: pages, scripts and
+     * JSON, but not images or streams.
+     *
+     * @param contentType: The Content-Type of the response, or null if the
+     *                   route didn't set one, which Spark sends as HTML.
+     * @return true if the response should be compressed.
+     */
+    static boolean isCompressible(String contentType) {
+        if (contentType == null) {
+            return true;
+        }
+        String type = contentType.toLowerCase();
+        return type.startsWith("text/html") || type.startsWith("application/json")
+                || type.startsWith("application/javascript") || type.startsWith("text/css");
+    }
+
+    private Compressor borrow() {
+        Compressor compressor = pool.poll();
+        return compressor == null ? new Compressor(level) : compressor;
+    }
+
+    private void giveBack(Compressor compressor) {
+        compressor.reset();
+        if (!pool.offer(compressor)) {
+            compressor.end();
+        }
+    }
+
+    /**
+     * Accessor for how many compressors are waiting to be reused.
+     *
+     * @return the number of idle compressors.
+     */
+    int getPooledCount() {
+        return pool.size();
+    }
+
+    /**
+     * A raw deflater, along with the buffer and checksum it needs to write
+     * gzip, used by one response at a time.
+     */
+    private static final class Compressor {
+        private final Deflater deflater;
+        private final CRC32 crc = new CRC32();
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+
+        private Compressor(int level) {
+            // no zlib wrapper; the gzip header and trailer are written here.
+            this.deflater = new Deflater(level, true);
+        }
+
+        private void gzip(byte[] bytes, OutputStream out) throws IOException {
+            out.write(GZIP_HEADER);
+            deflater.setInput(bytes);
+            deflater.finish();
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                out.write(buffer, 0, length);
+            }
+            crc.update(bytes, 0, bytes.length);
+            writeInt(out, (int) crc.getValue());
+            writeInt(out, bytes.length);
+        }
+
+        /** Write an int the way gzip wants it, least significant byte first. */
+        private void writeInt(OutputStream out, int value) throws IOException {
+            buffer[0] = (byte) value;
+            buffer[1] = (byte) (value >> 8);
+            buffer[2] = (byte) (value >> 16);
+            buffer[3] = (byte) (value >> 24);
+            out.write(buffer, 0, 4);
+        }
+
+        private void reset() {
+            deflater.reset();
+            crc.reset();
+        }
+
+        private void end() {
+            deflater.end();
+        }
+    }
+}
@@ -0,0 +1,324 @@
+package com.webcheckers.ui;
+
+import com.google.gson.Gson;
+import com.webcheckers.application.GameCenter;
+import com.webcheckers.application.GameListener;
+import com.webcheckers.model.GameSnapshot;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.logging.Logger;
+
+/**
+ * Fans the {@link GameEvent}s of each game out to every connection watching
+ * it, whether that's a player's WebSocket or a spectator's event stream.
+ *
+ * <p>
+ * Each committed turn is converted to JSON once, as a {@link Broadcast},
+ * and the same text is handed to every connection. Every connection has its
+ * own small queue, and is only given its next broadcast once it has finished
+ * writing the last one, so a slow connection never holds up the others. If
+ * a connection falls so far behind that its queue is full, the oldest turn
+ * waiting is dropped: the latest turn, and the end of the game, are always
+ * delivered, and clients use the versions of the events to tell when they
+ * have missed one.
+ * </p>
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+public class GameBroadcaster {
+    private static final Logger LOG = Logger.getLogger(GameBroadcaster.class.getName());
+
+    private final Gson gson;
+
+    /** How many broadcasts each connection can have waiting to be written. */
+    private final int queueCapacity;
+
+    /** The channel of each game being watched, by gameID. */
+    private final ConcurrentMap<Integer, Channel> channels = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiates a broadcaster.
+     *
+     * @param gson: an object to convert {@link GameEvent}s to JSON.
+     * @param queueCapacity: How many broadcasts each connection can have
+     *                     waiting to be written before the oldest is dropped.
+     */
+    public GameBroadcaster(Gson gson, int queueCapacity) {
+        this.gson = gson;
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * Start sending a game's events to a connection. The connection is sent
+     * whose turn it is straight away, then each turn as it's committed.
+     *
+     * @param gameCenter: The game to watch.
+     * @param connection: Where to send the game's events.
+     * @return the new Subscription, which must be cancelled once the
+     * connection has closed.
+     */
+    public Subscription subscribe(GameCenter gameCenter, Connection connection) {
+        Subscription subscription = new Subscription(gameCenter.getGameID(), connection);
+        // listen before reading the snapshot, so no turn is missed in between.
+        Channel channel = channels.compute(gameCenter.getGameID(), (gameID, existing) -> {
+            Channel joined = existing;
+            if (joined == null) {
+                joined = new Channel(gameCenter);
+                gameCenter.addGameListener(joined);
+            }
+            joined.subscriptions.add(subscription);
+            return joined;
+        });
+        subscription.offer(channel.greeting(gameCenter.getSnapshot()));
+        return subscription;
+    }
+
+    /**
+     * Accessor for how many connections are watching a game.
+     *
+     * @param gameID: The unique gameID of the game.
+     * @return the number of connections subscribed to the game.
+     */
+    public int getSubscriberCount(int gameID) {
+        Channel channel = channels.get(gameID);
+        return channel == null ? 0 : channel.subscriptions.size();
+    }
+
+    private void unsubscribe(Subscription subscription) {
+        channels.computeIfPresent(subscription.gameID, (gameID, channel) -> {
+            channel.subscriptions.remove(subscription);
+            if (channel.subscriptions.isEmpty()) {
+                channel.gameCenter.removeGameListener(channel);
+                return null;
+            }
+            return channel;
+        });
+    }
+
+    /**
+     * Somewhere a game's events can be written to, such as a WebSocket.
+     */
+    public interface Connection {
+
+        /**
+         * Start writing a broadcast, without waiting for it to be written.
+         *
+         * @param broadcast: The broadcast to write.
+         * @param sent: To be run once the broadcast has been written. It's
+         *            never run if the write fails.
+         */
+        void send(Broadcast broadcast, Runnable sent);
+
+        /**
+         * End the connection, once the broadcast saying the game is over
+         * has been written.
+         */
+        void end();
+    }
+
+    /**
+     * The events describing one snapshot of a game, already converted to
+     * JSON for every kind of connection.
+     */
+    public static final class Broadcast {
+        private final long version;
+        private final boolean gameOver;
+        private final List<String> messages;
+        private final byte[] eventStream;
+
+        private Broadcast(long version, boolean gameOver, List<String> messages,
+                          byte[] eventStream) {
+            this.version = version;
+            this.gameOver = gameOver;
+            this.messages = messages;
+            this.eventStream = eventStream;
+        }
+
+        /**
+         * Convert events to JSON, once.
+         *
+         * @param gson: an object to convert the events to JSON.
+         * @param events: The events to broadcast, in the order they're sent.
+         * @return a new Broadcast of the events.
+         */
+        public static Broadcast of(Gson gson, List<GameEvent> events) {
+            List<String> messages = new ArrayList<>(events.size());
+            StringBuilder eventStream = new StringBuilder();
+            long version = -1;
+            boolean gameOver = false;
+            for (GameEvent event : events) {
+                String json = gson.toJson(event);
+                messages.add(json);
+                if (event.getVersion() >= 0) {
+                    eventStream.append("id: ").append(event.getVersion()).append('\n');
+                }
+                eventStream.append("event: ").append(event.getType()).append('\n');
+                eventStream.append("data: ").append(json).append("\n\n");
+                version = Math.max(version, event.getVersion());
+                gameOver |= event.getType() == GameEvent.Type.GAME_OVER;
+            }
+            return new Broadcast(version, gameOver, Collections.unmodifiableList(messages),
+                    eventStream.toString().getBytes(StandardCharsets.UTF_8));
+        }
+
+        /**
+         * Accessor for the version of the snapshot broadcast.
+         *
+         * @return the snapshot's version, or -1 for an archived game.
+         */
+        public long getVersion() {
+            return this.version;
+        }
+
+        /**
+         * Checks if this broadcast says the game is over.
+         *
+         * @return true if it includes a GAME_OVER event, false otherwise.
+         */
+        public boolean isGameOver() {
+            return this.gameOver;
+        }
+
+        /**
+         * Accessor for the events as JSON, one message per event, for
+         * WebSockets.
+         *
+         * @return the List of messages to send.
+         */
+        public List<String> getMessages() {
+            return this.messages;
+        }
+
+        /**
+         * Accessor for the events formatted for a {@code text/event-stream},
+         * with each event's type as its name and its version as its id. The
+         * array is shared, so it must not be modified.
+         *
+         * @return the bytes to write to the stream.
+         */
+        public byte[] getEventStream() {
+            return this.eventStream;
+        }
+    }
+
+    /**
+     * The connections watching one game, which share each broadcast.
+     */
+    private final class Channel implements GameListener {
+        private final GameCenter gameCenter;
+        private final Set<Subscription> subscriptions = new CopyOnWriteArraySet<>();
+
+        /** What newly subscribed connections are sent, for the latest snapshot. */
+        private volatile Broadcast greeting;
+
+        private Channel(GameCenter gameCenter) {
+            this.gameCenter = gameCenter;
+        }
+
+        @Override
+        public void snapshotPublished(int gameID, GameSnapshot snapshot) {
+            Broadcast broadcast = Broadcast.of(gson, GameEvent.describe(gameID, snapshot));
+            for (Subscription subscription : subscriptions) {
+                subscription.offer(broadcast);
+            }
+        }
+
+        /**
+         * Find what a new connection is sent: whose turn it is, without the
+         * moves that led to it, since the page it's on already shows them.
+         */
+        private Broadcast greeting(GameSnapshot snapshot) {
+            Broadcast latest = greeting;
+            if (latest == null || latest.getVersion() != snapshot.getVersion()) {
+                List<GameEvent> events = GameEvent.describe(gameCenter.getGameID(), snapshot);
+                events.removeIf(event -> event.getType() == GameEvent.Type.MOVE);
+                latest = Broadcast.of(gson, events);
+                greeting = latest;
+            }
+            return latest;
+        }
+    }
+
+    /**
+     * One connection's subscription to a game, with its own queue of
+     * broadcasts waiting to be written.
+     */
+    public final class Subscription {
+        private final int gameID;
+        private final Connection connection;
+        private final Queue<Broadcast> queue = new ArrayDeque<>();
+
+        /** The version of the last broadcast queued, so none is sent twice. */
+        private long queuedVersion = -1;
+
+        private boolean writing;
+        private boolean cancelled;
+
+        private Subscription(int gameID, Connection connection) {
+            this.gameID = gameID;
+            this.connection = connection;
+        }
+
+        /**
+         * Stop sending the game's events to the connection.
+         */
+        public void cancel() {
+            synchronized (this) {
+                if (cancelled) {
+                    return;
+                }
+                cancelled = true;
+                queue.clear();
+            }
+            unsubscribe(this);
+        }
+
+        /**
+         * Queue a broadcast, dropping the oldest one waiting if the queue is
+         * full, and start writing if the connection is idle.
+         */
+        private void offer(Broadcast broadcast) {
+            synchronized (this) {
+                if (cancelled || broadcast.getVersion() <= queuedVersion) {
+                    return;
+                }
+                queuedVersion = broadcast.getVersion();
+                if (queue.size() == queueCapacity) {
+                    LOG.fine("A connection to game " + gameID + " is behind, dropping a turn.");
+                    queue.poll();
+                }
+                queue.add(broadcast);
+                if (writing) {
+                    return;
+                }
+                writing = true;
+            }
+            writeNext();
+        }
+
+        /**
+         * Write the next broadcast waiting, or end the connection once the
+         * game is over.
+         */
+        private void writeNext() {
+            Broadcast next;
+            synchronized (this) {
+                next = cancelled ? null : queue.poll();
+                if (next == null) {
+                    writing = false;
+                    return;
+                }
+            }
+            connection.send(next, next.isGameOver() ? connection::end : this::writeNext);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.webcheckers.ui;
+
+import com.webcheckers.model.GameSnapshot;
+import com.webcheckers.model.Player;
+import spark.Request;
+import spark.Response;
+
+/**
+ * Entity tags for the pages that show a game, built from the version of the
+ * game, so a browser revalidating a page it already has is answered with
+ * {@code 304 Not Modified} instead of the page being rendered again.
+ *
+ * <p>
+ * A page shows who is viewing it, so the viewer is part of the tag, and the
+ * page is marked private so shared caches never hand it to anyone else.
+ * </p>
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+public final class GameETag {
+
+    public static final String ETAG_HEADER = "ETag";
+    public static final String IF_NONE_MATCH_HEADER = "If-None-Match";
+
+    /** Browsers may keep the page, but must check it's current before showing it. */
+    static final String CACHE_CONTROL = "private, no-cache";
+
+    private GameETag() {
+        // only static helpers.
+    }
+
+    /**
+     * Build the tag of a page showing a snapshot of a game.
+     *
+     * @param gameID: The unique gameID of the game.
+     * @param snapshot: The snapshot of the game the page shows.
+     * @param viewer: The user viewing the page, or null if nobody is signed
+     *              in.
+     * @return the quoted entity tag.
+     */
+    public static String of(int gameID, GameSnapshot snapshot, Player viewer) {
+        // a game rebuilt from the archive starts its versions over, so the
+        // tag also says whether the game is over.
+        return "\"" + gameID + '.' + snapshot.getVersion()
+                + (snapshot.isGameOver() ? ".over" : "")
+                + (viewer == null ? "" : '.' + Integer.toHexString(viewer.getName().hashCode()))
+                + "\"";
+    }
+
+    /**
+     * Tag a response, and check if the client already has it.
+     *
+     * @param request: The HTTP request, which may have an If-None-Match
+     *               header.
+     * @param response: The HTTP response to tag.
+     * @param etag: The tag of what the response would show.
+     * @return true if the client already has it, in which case the response
+     * has been set to {@code 304 Not Modified} and needs no body, false if
+     * the response should be built as usual.
+     */
+    public static boolean notModified(Request request, Response response, String etag) {
+        response.header(ETAG_HEADER, etag);
+        response.header("Cache-Control", CACHE_CONTROL);
+        if (matches(request.headers(IF_NONE_MATCH_HEADER), etag)) {
+            response.status(304);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Check if an If-None-Match header names a tag.
+     *
+     * @param ifNoneMatch: The header, or null if the client didn't send one.
+     * @param etag: The tag to look for.
+     * @return true if the header lists the tag, or matches any tag.
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            candidate = candidate.trim();
+            // a weak tag matches too, since the response is only compared as a whole.
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals(etag) || candidate.equals("*")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,99 @@
+package com.webcheckers.ui;
+
+import com.webcheckers.model.Color;
+import com.webcheckers.model.GameSnapshot;
+import com.webcheckers.model.Move;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An event pushed to clients when a Checkers game changes. Events are only
+ * ever converted to JSON, so their fields are named for the client.
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+public final class GameEvent {
+
+    /**
+     * The kinds of event a client can be sent.
+     */
+    public enum Type {
+        /** A move was committed as part of the last turn. */
+        MOVE,
+        /** The turn has changed, or the client has just connected. */
+        TURN,
+        /** The game is over. */
+        GAME_OVER
+    }
+
+    private final Type type;
+    private final int gameID;
+    private final long version;
+    private final Move move;
+    private final Color activeColor;
+    private final String result;
+
+    private GameEvent(Type type, int gameID, long version, Move move, Color activeColor,
+                      String result) {
+        this.type = type;
+        this.gameID = gameID;
+        this.version = version;
+        this.move = move;
+        this.activeColor = activeColor;
+        this.result = result;
+    }
+
+    /**
+     * Accessor for the kind of this event.
+     *
+     * @return the Type of this event.
+     */
+    public Type getType() {
+        return this.type;
+    }
+
+    /**
+     * Accessor for the version of the snapshot this event describes.
+     *
+     * @return the version, or -1 if the event describes an archived game.
+     */
+    public long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Create the event sent for a game that has already ended.
+     *
+     * @param gameID: The unique gameID of the game.
+     * @param result: A message describing how the game ended.
+     * @return a GAME_OVER event.
+     */
+    public static GameEvent gameOver(int gameID, String result) {
+        return new GameEvent(Type.GAME_OVER, gameID, -1, null, null, result);
+    }
+
+    /**
+     * Work out the events that describe a snapshot: one for each move of the
+     * last turn, one for whose turn it now is, and one more if the game is
+     * over.
+     *
+     * @param gameID: The unique gameID of the game.
+     * @param snapshot: The snapshot to describe.
+     * @return a List of events, in the order they should be sent.
+     */
+    public static List<GameEvent> describe(int gameID, GameSnapshot snapshot) {
+        List<GameEvent> events = new ArrayList<>(snapshot.getLastTurn().size() + 2);
+        long version = snapshot.getVersion();
+        for (Move move : snapshot.getLastTurn()) {
+            events.add(new GameEvent(Type.MOVE, gameID, version, move, null, null));
+        }
+        events.add(new GameEvent(Type.TURN, gameID, version, null,
+                snapshot.getCurrentTurn(), null));
+        if (snapshot.isGameOver()) {
+            events.add(new GameEvent(Type.GAME_OVER, gameID, version, null, null,
+                    snapshot.getResult()));
+        }
+        return events;
+    }
+}
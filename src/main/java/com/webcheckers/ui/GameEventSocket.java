@@ -0,0 +1,215 @@
+package com.webcheckers.ui;
+
+import com.google.gson.Gson;
+import com.webcheckers.application.GameCenter;
+import com.webcheckers.application.GameLibrary;
+import com.webcheckers.application.IdleReaper;
+import com.webcheckers.model.ArchivedGame;
+import com.webcheckers.model.Player;
+import org.eclipse.jetty.websocket.api.Session;
+import org.eclipse.jetty.websocket.api.StatusCode;
+import org.eclipse.jetty.websocket.api.WriteCallback;
+import org.eclipse.jetty.websocket.api.annotations.OnWebSocketClose;
+import org.eclipse.jetty.websocket.api.annotations.OnWebSocketConnect;
+import org.eclipse.jetty.websocket.api.annotations.WebSocket;
+
+import java.net.HttpCookie;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Logger;
+
+import static com.webcheckers.ui.GetGameRoute.GAME_ID_ATTR;
+
+/**
+ * The WebSocket handler that pushes {@link GameEvent}s to clients, so they
+ * hear about a new turn the moment it's committed instead of checking every
+ * few seconds.
+ *
+ * <p>
+ * A client connects with the gameID of the game it's showing, and is sent
+ * whose turn it is straight away. After that, it's sent the moves of each
+ * turn as it's committed, whose turn it is next, and how the game ended.
+ * The client never sends anything, and the connection is closed once the
+ * game is over. The events are shared with every other client watching the
+ * game through the {@link GameBroadcaster}.
+ * </p>
+ *
+ * <p>
+ * A Player of the game keeps their connection open while they think about
+ * their turn, without making any requests, so the {@link IdleReaper} counts
+ * them as present for as long as it's open.
+ * </p>
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+@WebSocket
+public class GameEventSocket {
+    private static final Logger LOG = Logger.getLogger(GameEventSocket.class.getName());
+
+    static final String GAME_OVER_REASON = "The game is over.";
+
+    /** The name of the cookie that holds the browser's HTTP session ID. */
+    static final String SESSION_COOKIE = "JSESSIONID";
+
+    private final GameBroadcaster broadcaster;
+    private final IdleReaper idleReaper;
+    private final Gson gson;
+
+    /** The subscription to a game of each connected client. */
+    private final ConcurrentMap<Session, GameBroadcaster.Subscription> subscriptions =
+            new ConcurrentHashMap<>();
+
+    /** The Player of each connected client that is playing the game it's watching. */
+    private final ConcurrentMap<Session, Player> players = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiates the handler.
+     *
+     * @param broadcaster: The {@link GameBroadcaster} that sends each game's
+     *                   events to its clients.
+     * @param idleReaper: The {@link IdleReaper} told which Players are connected.
+     * @param gson: an object to convert {@link GameEvent}s to JSON.
+     */
+    public GameEventSocket(GameBroadcaster broadcaster, IdleReaper idleReaper, Gson gson) {
+        this.broadcaster = broadcaster;
+        this.idleReaper = idleReaper;
+        this.gson = gson;
+    }
+
+    /**
+     * Subscribe a newly connected client to the game it asked for.
+     *
+     * @param session: The client's WebSocket session.
+     */
+    @OnWebSocketConnect
+    public void connected(Session session) {
+        List<String> gameIDs = session.getUpgradeRequest().getParameterMap().get(GAME_ID_ATTR);
+        final int gameID;
+        try {
+            gameID = Integer.parseInt(gameIDs.get(0));
+        } catch (NullPointerException | IndexOutOfBoundsException | NumberFormatException e) {
+            session.close(StatusCode.POLICY_VIOLATION, "A gameID is required.");
+            return;
+        }
+
+        GameCenter gameCenter = GameLibrary.getActiveGameByID(gameID);
+        if (gameCenter == null) {
+            ArchivedGame record = GameLibrary.getArchivedGame(gameID);
+            if (record == null) {
+                session.close(StatusCode.POLICY_VIOLATION, "No such game.");
+            } else {
+                session.getRemote().sendStringByFuture(
+                        gson.toJson(GameEvent.gameOver(gameID, record.getResult())));
+                session.close(StatusCode.NORMAL, GAME_OVER_REASON);
+            }
+            return;
+        }
+
+        Player player = playerOf(session, gameCenter);
+        if (player != null) {
+            players.put(session, player);
+            idleReaper.playerConnected(player);
+        }
+        subscriptions.put(session, broadcaster.subscribe(gameCenter, new SocketConnection(session)));
+        if (!session.isOpen()) {
+            // the client left before the subscription was recorded.
+            closed(session, StatusCode.ABNORMAL, null);
+        }
+    }
+
+    /**
+     * Unsubscribe a client once it has disconnected.
+     *
+     * @param session: The client's WebSocket session.
+     * @param statusCode: Why the connection was closed.
+     * @param reason: A description of why the connection was closed.
+     */
+    @OnWebSocketClose
+    public void closed(Session session, int statusCode, String reason) {
+        GameBroadcaster.Subscription subscription = subscriptions.remove(session);
+        if (subscription != null) {
+            subscription.cancel();
+        }
+        Player player = players.remove(session);
+        if (player != null) {
+            idleReaper.playerDisconnected(player);
+        }
+    }
+
+    /**
+     * Find which Player of a game opened a WebSocket, if either did. Spark
+     * upgrades WebSockets outside of its HTTP sessions, so the session cookie
+     * the browser sent is matched against the session each Player signed in
+     * with.
+     *
+     * @return the Player, or null if it was opened by anyone else.
+     */
+    private static Player playerOf(Session session, GameCenter gameCenter) {
+        List<HttpCookie> cookies = session.getUpgradeRequest().getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (HttpCookie cookie : cookies) {
+            if (SESSION_COOKIE.equals(cookie.getName())) {
+                for (Player player : new Player[]{gameCenter.getRedPlayer(), gameCenter.getWhitePlayer()}) {
+                    if (player.getSession() != null
+                            && isSession(cookie.getValue(), player.getSession().id())) {
+                        return player;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Check if a session cookie names a session. Jetty adds the name of the
+     * server that made the session to the end of the cookie.
+     */
+    private static boolean isSession(String cookieValue, String sessionID) {
+        return cookieValue.equals(sessionID) || cookieValue.startsWith(sessionID + ".");
+    }
+
+    /**
+     * Writes broadcasts to one client's WebSocket, one message per event.
+     */
+    private static final class SocketConnection implements GameBroadcaster.Connection {
+        private final Session session;
+
+        private SocketConnection(Session session) {
+            this.session = session;
+        }
+
+        @Override
+        public void send(GameBroadcaster.Broadcast broadcast, Runnable sent) {
+            sendFrom(broadcast.getMessages(), 0, sent);
+        }
+
+        private void sendFrom(List<String> messages, int index, Runnable sent) {
+            if (index == messages.size()) {
+                sent.run();
+                return;
+            }
+            if (!session.isOpen()) {
+                return;
+            }
+            session.getRemote().sendString(messages.get(index), new WriteCallback() {
+                @Override
+                public void writeFailed(Throwable cause) {
+                    LOG.fine("Couldn't write to a WebSocket: " + cause);
+                }
+
+                @Override
+                public void writeSuccess() {
+                    sendFrom(messages, index + 1, sent);
+                }
+            });
+        }
+
+        @Override
+        public void end() {
+            session.close(StatusCode.NORMAL, GAME_OVER_REASON);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.webcheckers.ui;
+
+import com.webcheckers.application.GameCenter;
+import com.webcheckers.application.GameLibrary;
+import com.webcheckers.model.GameSummary;
+import spark.ModelAndView;
+import spark.TemplateEngine;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import static com.webcheckers.application.GameLibrary.getActiveGamePage;
+import static com.webcheckers.application.GameLibrary.getEndedGamePage;
+
+/**
+ * The lists of active and ended games shown on the Home page, rendered once
+ * and shared by every user until a game starts or ends.
+ *
+ * <p>
+ * Only one page of each list is shown at a time, so the Home page stays the
+ * same size however many games there are. The first pages are the same for
+ * everyone, so only the parts of the Home page that belong to the user
+ * viewing it are rendered for each request. The rendered HTML is tagged with
+ * {@link GameLibrary#getGameListVersion()}, and rendered again the first
+ * time it's asked for after the version changes. Later pages are rendered
+ * whenever they're asked for.
+ * </p>
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+public class GameListFragment {
+    private static final Logger LOG = Logger.getLogger(GameListFragment.class.getName());
+
+    static final String VIEW_NAME = "home-games.ftl";
+    static final String NEXT_ACTIVE_GAMES_ATTR = "nextActiveGamesAfter";
+    static final String NEXT_ENDED_GAMES_ATTR = "nextEndedGamesAfter";
+
+    /** The most games of each list shown at once. */
+    static final int GAME_PAGE_SIZE = 20;
+
+    private final TemplateEngine templateEngine;
+
+    /** The latest rendering, or null before the first. */
+    private volatile Rendered latest;
+
+    /**
+     * Create the fragment.
+     *
+     * @param templateEngine: The template engine used for rendering HTML.
+     */
+    public GameListFragment(TemplateEngine templateEngine) {
+        this.templateEngine = templateEngine;
+    }
+
+    /**
+     * Get the HTML of one page of each list of games.
+     *
+     * @param activeAfter: The gameID the page of active games starts after,
+     *                   or null for the first page.
+     * @param endedAfter: The gameID the page of ended games starts after, or
+     *                  null for the first page.
+     * @return the rendered HTML.
+     */
+    public String render(Integer activeAfter, Integer endedAfter) {
+        if (activeAfter == null && endedAfter == null) {
+            return render();
+        }
+        return templateEngine.render(new ModelAndView(pages(activeAfter, endedAfter), VIEW_NAME));
+    }
+
+    /**
+     * Get the HTML of the first page of each list of games, rendering it
+     * again only if a game has started or ended since the last time.
+     *
+     * @return the rendered HTML.
+     */
+    public String render() {
+        // read the version before the lists, so lists that change while
+        // they're being rendered are rendered again next time.
+        long version = GameLibrary.getGameListVersion();
+        Rendered cached = latest;
+        if (cached != null && cached.version == version) {
+            return cached.html;
+        }
+        String html = templateEngine.render(new ModelAndView(pages(null, null), VIEW_NAME));
+        LOG.finer("Rendered the lists of games at version " + version + ".");
+        latest = new Rendered(version, html);
+        return html;
+    }
+
+    private static Map<String, Object> pages(Integer activeAfter, Integer endedAfter) {
+        Map<String, Object> vm = new HashMap<>(4);
+        // fetch one extra game of each list to find out if there is another page.
+        vm.put(GetHomeRoute.ACTIVE_GAME_LIST, page(vm, NEXT_ACTIVE_GAMES_ATTR,
+                getActiveGamePage(activeAfter, GAME_PAGE_SIZE + 1, null),
+                game -> String.valueOf(game.getGameID())));
+        vm.put(GetHomeRoute.ENDED_GAME_LIST, page(vm, NEXT_ENDED_GAMES_ATTR,
+                getEndedGamePage(endedAfter, GAME_PAGE_SIZE + 1, null),
+                game -> String.valueOf(game.getGameID())));
+        return vm;
+    }
+
+    private static <T> List<T> page(Map<String, Object> vm, String nextAttr, ArrayList<T> games,
+                                    ListPage.Cursor<T> cursor) {
+        ListPage<T> page = new ListPage<>(games, GAME_PAGE_SIZE, cursor);
+        if (page.getNext() != null) {
+            vm.put(nextAttr, page.getNext());
+        }
+        return page.getItems();
+    }
+
+    /**
+     * The HTML rendered for one version of the lists of games.
+     */
+    private static final class Rendered {
+        private final long version;
+        private final String html;
+
+        private Rendered(long version, String html) {
+            this.version = version;
+            this.html = html;
+        }
+    }
+}
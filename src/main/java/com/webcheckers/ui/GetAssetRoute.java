@@ -0,0 +1,115 @@
+package com.webcheckers.ui;
+
+import spark.Request;
+import spark.Response;
+import spark.Route;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+import static spark.Spark.halt;
+
+/**
+ * The UI controller that sends the bundled scripts and style sheets built by
+ * the {@link AssetPipeline}.
+ *
+ * <p>
+ * A bundle's URL changes whenever its contents do, so it's sent to be kept
+ * for a year without being checked again. Clients that accept gzip are sent
+ * the copy that was gzipped when the server started. The bytes are written
+ * straight to the response, so Spark doesn't compress them a second time.
+ * </p>
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+public class GetAssetRoute implements Route {
+
+    public static final String NAME_PARAM = ":name";
+
+    static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+    static final String ACCEPT_ENCODING_HEADER = "Accept-Encoding";
+    static final String GZIP = "gzip";
+
+    private final AssetPipeline assets;
+
+    /**
+     * Constructor for the {@code GET /assets/:name} route handler.
+     *
+     * @param assets: The bundles to send.
+     */
+    public GetAssetRoute(AssetPipeline assets) {
+        this.assets = assets;
+    }
+
+    /**
+     * Send the bundle requested.
+     *
+     * @param request
+     *   the HTTP request
+     * @param response
+     *   the HTTP response
+     *
+     * @return an empty body; the bundle is written to the response directly.
+     * @throws IOException if the bundle can't be written.
+     */
+    @Override
+    public Object handle(Request request, Response response) throws IOException {
+        AssetPipeline.Asset asset = assets.get(request.params(NAME_PARAM));
+        if (asset == null) {
+            halt(404, "No such asset.");
+            return null;
+        }
+
+        HttpServletResponse raw = response.raw();
+        raw.setContentType(asset.getContentType());
+        raw.setHeader("Cache-Control", CACHE_CONTROL);
+        raw.setHeader("Vary", ACCEPT_ENCODING_HEADER);
+        raw.setHeader(GameETag.ETAG_HEADER, asset.getETag());
+        if (GameETag.matches(request.headers(GameETag.IF_NONE_MATCH_HEADER), asset.getETag())) {
+            raw.setStatus(304);
+            raw.flushBuffer();
+            return "";
+        }
+
+        byte[] body = asset.getBytes();
+        if (asset.getGzipped() != null && acceptsGzip(request.headers(ACCEPT_ENCODING_HEADER))) {
+            raw.setHeader("Content-Encoding", GZIP);
+            body = asset.getGzipped();
+        }
+        raw.setContentLength(body.length);
+        raw.getOutputStream().write(body);
+        raw.flushBuffer();
+        return "";
+    }
+
+    /**
+     * Check if an Accept-Encoding header allows gzip.
+     *
+     * @param acceptEncoding: The header, or null if the client didn't send one.
+     * @return true unless gzip is missing or given a quality of zero.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim();
+            if (!name.equalsIgnoreCase(GZIP) && !name.equals("*")) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        return Double.parseDouble(parameter.substring(2)) > 0;
+                    } catch (NumberFormatException e) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,113 @@
+package com.webcheckers.ui;
+
+import com.google.gson.Gson;
+import com.webcheckers.application.GameCenter;
+import com.webcheckers.application.GameLibrary;
+import com.webcheckers.model.GameSummary;
+import spark.Request;
+import spark.Response;
+import spark.Route;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static spark.Spark.halt;
+
+/**
+ * The UI controller that sends a signed-in user one page of the games in
+ * progress, or of the games that have ended, as JSON. Either list can be
+ * narrowed to the games of one player.
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+public class GetGameListRoute implements Route {
+
+    public static final String STATUS_PARAM = "status";
+    public static final String PLAYER_PARAM = "player";
+    public static final String ACTIVE = "active";
+    public static final String ENDED = "ended";
+
+    private final Gson gson;
+
+    /**
+     * Constructor for the {@code GET /api/games} route handler.
+     *
+     * @param gson: an object to convert {@link ListPage}s to JSON.
+     */
+    public GetGameListRoute(Gson gson) {
+        this.gson = gson;
+    }
+
+    /**
+     * List a page of active games, or of ended games if the status asks for
+     * them.
+     *
+     * @param request
+     *   the HTTP request
+     * @param response
+     *   the HTTP response
+     *
+     * @return A JSON converted {@link ListPage} of {@link Listing}s.
+     */
+    @Override
+    public Object handle(Request request, Response response) {
+        if (request.session().attribute(GetHomeRoute.CURRENT_USER_ATTR) == null) {
+            halt(401, "Sign in to list games.");
+            return null;
+        }
+        int pageSize = ListPage.pageSize(request);
+        String status = request.queryParams(STATUS_PARAM);
+        String playerName = request.queryParams(PLAYER_PARAM);
+        Integer after = null;
+        try {
+            String cursor = request.queryParams(ListPage.AFTER_PARAM);
+            if (cursor != null) {
+                after = Integer.parseInt(cursor);
+            }
+        } catch (NumberFormatException e) {
+            halt(400, "The cursor must be a gameID.");
+            return null;
+        }
+
+        // fetch one extra game to find out if there is another page.
+        List<Listing> games = new ArrayList<>();
+        if (status == null || ACTIVE.equals(status)) {
+            for (GameCenter game : GameLibrary.getActiveGamePage(after, pageSize + 1, playerName)) {
+                games.add(new Listing(game));
+            }
+        } else if (ENDED.equals(status)) {
+            for (GameSummary game : GameLibrary.getEndedGamePage(after, pageSize + 1, playerName)) {
+                games.add(new Listing(game));
+            }
+        } else {
+            halt(400, "The status must be " + ACTIVE + " or " + ENDED + ".");
+            return null;
+        }
+        response.type(GetPlayerListRoute.JSON_TYPE);
+        return gson.toJson(new ListPage<>(games, pageSize, game -> String.valueOf(game.gameID)));
+    }
+
+    /**
+     * A game as listed to clients.
+     */
+    static final class Listing {
+        private final int gameID;
+        private final String redPlayer;
+        private final String whitePlayer;
+        private final String status;
+
+        private Listing(GameCenter game) {
+            this.gameID = game.getGameID();
+            this.redPlayer = game.getRedPlayer().getName();
+            this.whitePlayer = game.getWhitePlayer().getName();
+            this.status = ACTIVE;
+        }
+
+        private Listing(GameSummary game) {
+            this.gameID = game.getGameID();
+            this.redPlayer = game.getRedPlayerName();
+            this.whitePlayer = game.getWhitePlayerName();
+            this.status = ENDED;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.webcheckers.application.GameCenter;
 import com.webcheckers.application.GameLibrary;
 import com.webcheckers.application.PlayerLobby;
 import com.webcheckers.model.BoardView;
+import com.webcheckers.model.GameSnapshot;
 import com.webcheckers.model.Player;
 import com.webcheckers.model.ViewMode;
 import com.webcheckers.util.Message;
@@ -36,8 +37,8 @@ public class GetGameRoute implements Route{
     static final String WHITE_PLAYER = "whitePlayer";
     static final String GAME_STATUS_MSG = "Game Status";
     static final String PLAYER_IN_GAME = "%s is already in a Checkers game.";
-    static final String CAPTURED_ALL_PIECES = "%s has captured all of the pieces";
-    static final String PIECES_BLOCKED = "%s's pieces are all blocked";
+    static final String CAPTURED_ALL_PIECES = GameCenter.CAPTURED_ALL_PIECES;
+    static final String PIECES_BLOCKED = GameCenter.PIECES_BLOCKED;
 
     /**
      * Constructor for the {@code GET /game} route handler.
@@ -78,6 +79,9 @@ public class GetGameRoute implements Route{
             if (opponentName != null) {
                 vm = iChallengeAnotherPlayer(request, response, session);
             } else {
+                if (isPageUnchanged(request, response, session)) {
+                    return "";
+                }
                 vm = loadGamePage(request, session);
             }
         }
@@ -111,6 +115,7 @@ public class GetGameRoute implements Route{
         vm.put(RED_PLAYER, gameCenter.getRedPlayer());
         vm.put(WHITE_PLAYER, gameCenter.getWhitePlayer());
         vm.put(ACTIVE_COLOR, gameCenter.getCurrentTurn());
+        vm.put(GetSpectatorGameRoute.VERSION_ATTR, gameCenter.getSnapshot().getVersion());
         vm.put("board", gameCenter.getRotatedBoard());
 
         session.removeAttribute(CHALLENGER_ATTR);
@@ -135,8 +140,16 @@ public class GetGameRoute implements Route{
         final String opponentName = request.queryParams(OPPONENT_NAME);
         Player opponent = playerLobby.getPlayerByName(opponentName);
 
-        // check if opponent is already in a game
-        if (opponent.getInGameStatus()) {
+        // claim both players for this game. Each claim is atomic, so another
+        // challenge or a quick play game can't take either of them at the
+        // same time.
+        if (!currentUser.tryEnterGame()) {
+            response.redirect(WebServer.HOME_URL);
+            halt();
+            return null;
+        }
+        if (!opponent.tryEnterGame()) {
+            currentUser.setInGame(false);
             session.attribute(GAME_STATUS_MSG, Message.error(String.format(PLAYER_IN_GAME, opponentName)));
             response.redirect(WebServer.HOME_URL);
             halt();
@@ -161,10 +174,6 @@ public class GetGameRoute implements Route{
         // give the currentUser's session this specific gameID.
         session.attribute(GAME_ID_ATTR, gameCenter.getGameID());
 
-        // set the in-game status of both players
-        currentUser.setInGame(true);
-        opponent.setInGame(true);
-
         // build the view-model
         vm.put(GetHomeRoute.TITLE_ATTR, "Game Page");
         vm.put("gameID", gameCenter.getGameID());
@@ -173,11 +182,37 @@ public class GetGameRoute implements Route{
         vm.put(WHITE_PLAYER, gameCenter.getWhitePlayer());
         vm.put("viewMode", ViewMode.PLAY);
         vm.put(ACTIVE_COLOR, gameCenter.getCurrentTurn());
+        vm.put(GetSpectatorGameRoute.VERSION_ATTR, gameCenter.getSnapshot().getVersion());
         vm.put("board", checkersBoard);
 
         return vm;
     }
 
+    /**
+     * Tag the Game page with the version of the game it shows, and check if
+     * the browser already has that version. Pages are only tagged while the
+     * game is being played and no turn is in progress, since only then does
+     * the version say everything about the board.
+     *
+     * @param request: The HTTP request.
+     * @param response: The HTTP response.
+     * @param session: This Player's HTTP session.
+     * @return true if the browser already has the page, false if it has to
+     * be rendered.
+     */
+    private boolean isPageUnchanged(Request request, Response response, Session session) {
+        final int gameID = Integer.parseInt(request.queryParams(GAME_ID_ATTR));
+        GameCenter gameCenter = GameLibrary.getGameByID(gameID);
+        GameSnapshot snapshot = gameCenter.getSnapshot();
+        // an ended game is cleaned up as its page is rendered, so it's always
+        // rendered.
+        if (snapshot.isGameOver() || gameCenter.isTurnInProgress()) {
+            return false;
+        }
+        Player currentUser = session.attribute(GetHomeRoute.CURRENT_USER_ATTR);
+        return GameETag.notModified(request, response, GameETag.of(gameID, snapshot, currentUser));
+    }
+
     /**
      * Build a view-model to refresh the Game page with.
      *
@@ -191,59 +226,19 @@ public class GetGameRoute implements Route{
 
         final int gameID = Integer.parseInt(request.queryParams(GAME_ID_ATTR));
         GameCenter gameCenter = GameLibrary.getGameByID(gameID);
-        BoardView checkersBoard = gameCenter.getCheckersBoard();
+        // an ended game may be shared by every request for its page, so it's
+        // only read, through its latest snapshot.
+        GameSnapshot snapshot = gameCenter.getSnapshot();
 
-        // if there is a resignation message on the session, put the details
-        // into the view-model.
-        if (gameCenter.getResignStatus() != null) {
+        // if the game is over, put how it ended into the view-model.
+        if (snapshot.isGameOver()) {
             final Map<String, Object> modeOptions = new HashMap<>(2);
             modeOptions.put("isGameOver", true);
-            modeOptions.put("gameOverMessage", gameCenter.getResignStatus());
+            modeOptions.put("gameOverMessage", snapshot.getResult());
             vm.put("modeOptionsAsJSON", gson.toJson(modeOptions));
             gameHasEnded(gameID);
         }
 
-        // checks if one of the players has captured all the pieces, putting the details
-        // into the view-model
-        if (gameCenter.capturedAllPieces()){
-            final Map<String, Object> modeOptions = new HashMap<>(2);
-            modeOptions.put("isGameOver", true);
-            if (gameCenter.getRedPlayer().getCaptures() == 12){
-                modeOptions.put("gameOverMessage", String.format(CAPTURED_ALL_PIECES,
-                        gameCenter.getRedPlayer().getName()));
-            }
-            else {
-                modeOptions.put("gameOverMessage", String.format(CAPTURED_ALL_PIECES,
-                        gameCenter.getWhitePlayer().getName()));
-            }
-            vm.put("modeOptionsAsJSON", gson.toJson(modeOptions));
-            currentUser.setInGame(false);
-            gameHasEnded(gameID);
-        }
-        else {
-            // checking if the red player's pieces are blocked, putting the details
-            // into the view-model
-            if (gameCenter.blockedPiecesRed()){
-                final Map<String, Object> modeOptions = new HashMap<>(2);
-                modeOptions.put("isGameOver", true);
-                modeOptions.put("gameOverMessage", String.format(PIECES_BLOCKED, gameCenter.getRedPlayer().getName()));
-                vm.put("modeOptionsAsJSON", gson.toJson(modeOptions));
-                currentUser.setInGame(false);
-                gameHasEnded(gameID);
-            }
-
-            // checking if the white player's pieces are blocked
-            // into the view-model
-            else if (gameCenter.blockedPiecesWhite()){
-                final Map<String, Object> modeOptions = new HashMap<>(2);
-                modeOptions.put("isGameOver", true);
-                modeOptions.put("gameOverMessage", String.format(PIECES_BLOCKED, gameCenter.getWhitePlayer().getName()));
-                vm.put("modeOptionsAsJSON", gson.toJson(modeOptions));
-                currentUser.setInGame(false);
-                gameHasEnded(gameID);
-            }
-        }
-
         // build the view-model
         vm.put(GetHomeRoute.TITLE_ATTR, "Game Page");
         vm.put(GAME_ID_ATTR, gameID);
@@ -252,8 +247,9 @@ public class GetGameRoute implements Route{
         vm.put(WHITE_PLAYER, gameCenter.getWhitePlayer());
         vm.put("viewMode", ViewMode.PLAY);
         vm.put(ACTIVE_COLOR, gameCenter.getCurrentTurn());
+        vm.put(GetSpectatorGameRoute.VERSION_ATTR, snapshot.getVersion());
         if (currentUser.equals(gameCenter.getRedPlayer())) {
-            vm.put("board", checkersBoard);
+            vm.put("board", gameCenter.getCheckersBoard());
         } else {
             vm.put("board", gameCenter.getRotatedBoard());
         }
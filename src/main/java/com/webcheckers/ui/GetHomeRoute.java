@@ -6,16 +6,12 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
 
-import com.webcheckers.application.GameCenter;
-import com.webcheckers.application.GameLibrary;
 import com.webcheckers.application.PlayerLobby;
 import com.webcheckers.model.Player;
 import spark.*;
 
 import com.webcheckers.util.Message;
 
-import static com.webcheckers.application.GameLibrary.getActiveGameList;
-import static com.webcheckers.application.GameLibrary.getEndedGameList;
 import static spark.Spark.halt;
 
 /**
@@ -34,9 +30,18 @@ public class GetHomeRoute implements Route {
   static final String PLAYER_LIST = "playerList";
   static final String ACTIVE_GAME_LIST = "activeGameList";
   static final String ENDED_GAME_LIST = "endedGameList";
+  static final String GAME_LISTS_ATTR = "gameLists";
+  static final String PLAYERS_AFTER_PARAM = "playersAfter";
+  static final String NEXT_PLAYERS_ATTR = "nextPlayersAfter";
+  static final String ACTIVE_GAMES_AFTER_PARAM = "activeGamesAfter";
+  static final String ENDED_GAMES_AFTER_PARAM = "endedGamesAfter";
+
+  /** The most players listed on the Home page at once. */
+  static final int PLAYER_PAGE_SIZE = 20;
 
   private final TemplateEngine templateEngine;
   private final PlayerLobby playerLobby;
+  private final GameListFragment gameLists;
 
   /**
    * Create the Spark Route (UI controller) to handle all {@code GET /} HTTP requests.
@@ -47,6 +52,7 @@ public class GetHomeRoute implements Route {
   public GetHomeRoute(PlayerLobby playerLobby, final TemplateEngine templateEngine) {
     this.templateEngine = Objects.requireNonNull(templateEngine, "templateEngine is required");
     this.playerLobby = Objects.requireNonNull(playerLobby, "playerLobby is required");
+    this.gameLists = new GameListFragment(templateEngine);
     //
     LOG.config("GetHomeRoute is initialized.");
   }
@@ -72,15 +78,19 @@ public class GetHomeRoute implements Route {
 
     // check if a user has been bound to the session.
     Player currentUser = session.attribute("currentUser");
-    ArrayList<Player> players = playerLobby.getPlayerList();
-    ArrayList<GameCenter> activeGames = getActiveGameList();
-    ArrayList<GameCenter> endedGames = getEndedGameList();
     if (currentUser != null) {
-      players.remove(currentUser);
+      // fetch one extra player to find out if there is another page.
+      ArrayList<Player> players = playerLobby.getPlayerPage(
+              request.queryParams(PLAYERS_AFTER_PARAM), PLAYER_PAGE_SIZE + 1, currentUser);
+      if (players.size() > PLAYER_PAGE_SIZE) {
+        players.remove(PLAYER_PAGE_SIZE);
+        vm.put(NEXT_PLAYERS_ATTR, players.get(PLAYER_PAGE_SIZE - 1).getName());
+      }
       vm.put(CURRENT_USER_ATTR, currentUser);
       vm.put(PLAYER_LIST, players);
-      vm.put(ACTIVE_GAME_LIST, activeGames);
-      vm.put(ENDED_GAME_LIST, endedGames);
+      // the first pages of games are the same for everyone, so they're shared.
+      vm.put(GAME_LISTS_ATTR, gameLists.render(gameIDParam(request, ACTIVE_GAMES_AFTER_PARAM),
+              gameIDParam(request, ENDED_GAMES_AFTER_PARAM)));
     }
 
     // display a user message in the Home page
@@ -95,7 +105,7 @@ public class GetHomeRoute implements Route {
       }
     } else {
       // displays the welcome message along with the number of active users.
-      vm.put(MESSAGE_ATTR, Message.info(String.format(WELCOME_MSG, players.size())));
+      vm.put(MESSAGE_ATTR, Message.info(String.format(WELCOME_MSG, playerLobby.getNumberOfPlayers())));
     }
 
     // check if the current user has been assigned a game.
@@ -109,4 +119,21 @@ public class GetHomeRoute implements Route {
     // render the View
     return templateEngine.render(new ModelAndView(vm , "home.ftl"));
   }
+
+  /**
+   * Read a gameID a page of games starts after.
+   *
+   * @return the gameID, or null to start at the first page.
+   */
+  private static Integer gameIDParam(Request request, String name) {
+    String gameID = request.queryParams(name);
+    if (gameID == null) {
+      return null;
+    }
+    try {
+      return Integer.valueOf(gameID);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
 }
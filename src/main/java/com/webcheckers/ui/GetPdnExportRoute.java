@@ -0,0 +1,124 @@
+package com.webcheckers.ui;
+
+import com.webcheckers.application.GameLibrary;
+import com.webcheckers.application.PdnWriter;
+import com.webcheckers.model.ArchivedGame;
+import com.webcheckers.model.GameSummary;
+import spark.Request;
+import spark.Response;
+import spark.Route;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static com.webcheckers.ui.GetGameRoute.GAME_ID_ATTR;
+import static spark.Spark.halt;
+
+/**
+ * The UI controller that sends a signed-in user ended games in PDN, the
+ * standard text format for checkers games: one game, every ended game, or
+ * the ended games of one player.
+ *
+ * <p>
+ * The games are streamed from the archive as they're written, a page of
+ * summaries at a time, so the file is never built in memory, and records
+ * read for it aren't kept as recently used. Since its length isn't known
+ * ahead of time, it's sent with chunked transfer encoding, and gzipped for
+ * clients that accept it.
+ * </p>
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+public class GetPdnExportRoute implements Route {
+
+    static final String PDN_TYPE = "application/x-pdn; charset=UTF-8";
+
+    /** How many game summaries are read from the archive at a time. */
+    static final int EXPORT_PAGE_SIZE = 100;
+
+    /** How much text is written at a time. */
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * Send games in PDN, as a file to download.
+     *
+     * @param request
+     *   the HTTP request
+     * @param response
+     *   the HTTP response
+     *
+     * @return an empty body, since the games are written to the response
+     * directly.
+     * @throws IOException if the games can't be written.
+     */
+    @Override
+    public Object handle(Request request, Response response) throws IOException {
+        if (request.session().attribute(GetHomeRoute.CURRENT_USER_ATTR) == null) {
+            halt(401, "Sign in to export games.");
+            return null;
+        }
+        String gameIDParam = request.queryParams(GAME_ID_ATTR);
+        ArchivedGame single = null;
+        if (gameIDParam != null) {
+            try {
+                single = GameLibrary.getArchivedGame(Integer.parseInt(gameIDParam));
+            } catch (NumberFormatException e) {
+                halt(400, "The gameID must be a number.");
+                return null;
+            }
+            if (single == null) {
+                halt(404, "No ended game " + gameIDParam + ".");
+                return null;
+            }
+        }
+
+        HttpServletResponse raw = response.raw();
+        raw.setContentType(PDN_TYPE);
+        raw.setHeader("Content-Disposition", "attachment; filename=\""
+                + (single == null ? "games" : "game-" + single.getGameID()) + ".pdn\"");
+        raw.addHeader("Vary", GetAssetRoute.ACCEPT_ENCODING_HEADER);
+        OutputStream body = raw.getOutputStream();
+        if (GetAssetRoute.acceptsGzip(request.headers(GetAssetRoute.ACCEPT_ENCODING_HEADER))) {
+            raw.setHeader(CompressionFilter.CONTENT_ENCODING_HEADER, GetAssetRoute.GZIP);
+            body = new GZIPOutputStream(body, BUFFER_SIZE);
+        }
+        // closing the writer finishes the response, so Spark won't write the body again.
+        try (Writer out = new BufferedWriter(
+                new OutputStreamWriter(body, StandardCharsets.UTF_8), BUFFER_SIZE)) {
+            PdnWriter pdn = new PdnWriter(out);
+            if (single != null) {
+                pdn.write(single);
+            } else {
+                writeAll(pdn, request.queryParams(GetGameListRoute.PLAYER_PARAM));
+            }
+        }
+        return "";
+    }
+
+    /**
+     * Write every ended game, or every one a player played in, in order of
+     * their gameIDs.
+     */
+    private static void writeAll(PdnWriter pdn, String playerName) throws IOException {
+        Integer after = null;
+        List<GameSummary> page;
+        do {
+            page = GameLibrary.getEndedGamePage(after, EXPORT_PAGE_SIZE, playerName);
+            for (GameSummary summary : page) {
+                ArchivedGame game = GameLibrary.readArchivedGame(summary.getGameID());
+                // a game that can't be read back is left out, not the whole file.
+                if (game != null) {
+                    pdn.write(game);
+                }
+                after = summary.getGameID();
+            }
+        } while (page.size() == EXPORT_PAGE_SIZE);
+    }
+}
@@ -0,0 +1,102 @@
+package com.webcheckers.ui;
+
+import com.google.gson.Gson;
+import com.webcheckers.application.PlayerLobby;
+import com.webcheckers.model.Player;
+import spark.Request;
+import spark.Response;
+import spark.Route;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static spark.Spark.halt;
+
+/**
+ * The UI controller that sends a signed-in user one page of the other
+ * players in the lobby as JSON, optionally only those whose usernames start
+ * with some text, or only those who are or aren't in a game.
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+public class GetPlayerListRoute implements Route {
+
+    public static final String NAME_PARAM = "name";
+    public static final String STATUS_PARAM = "status";
+    public static final String AVAILABLE = "available";
+    public static final String PLAYING = "playing";
+
+    public static final String JSON_TYPE = "application/json";
+
+    private final PlayerLobby playerLobby;
+    private final Gson gson;
+
+    /**
+     * Constructor for the {@code GET /api/players} route handler.
+     *
+     * @param playerLobby: The lobby of signed in players.
+     * @param gson: an object to convert {@link ListPage}s to JSON.
+     */
+    public GetPlayerListRoute(PlayerLobby playerLobby, Gson gson) {
+        this.playerLobby = playerLobby;
+        this.gson = gson;
+    }
+
+    /**
+     * List a page of players, leaving out the current user.
+     *
+     * @param request
+     *   the HTTP request
+     * @param response
+     *   the HTTP response
+     *
+     * @return A JSON converted {@link ListPage} of {@link Listing}s.
+     */
+    @Override
+    public Object handle(Request request, Response response) {
+        Player currentUser = request.session().attribute(GetHomeRoute.CURRENT_USER_ATTR);
+        if (currentUser == null) {
+            halt(401, "Sign in to list players.");
+            return null;
+        }
+        int pageSize = ListPage.pageSize(request);
+        Boolean inGame = inGame(request.queryParams(STATUS_PARAM));
+
+        // fetch one extra player to find out if there is another page.
+        List<Listing> players = new ArrayList<>();
+        for (Player player : playerLobby.getPlayerPage(request.queryParams(ListPage.AFTER_PARAM),
+                pageSize + 1, currentUser, request.queryParams(NAME_PARAM), inGame)) {
+            players.add(new Listing(player));
+        }
+        response.type(JSON_TYPE);
+        return gson.toJson(new ListPage<>(players, pageSize, player -> player.name));
+    }
+
+    private static Boolean inGame(String status) {
+        if (status == null) {
+            return null;
+        }
+        switch (status) {
+            case AVAILABLE:
+                return false;
+            case PLAYING:
+                return true;
+            default:
+                halt(400, "The status must be " + AVAILABLE + " or " + PLAYING + ".");
+                return null;
+        }
+    }
+
+    /**
+     * A player as listed to clients.
+     */
+    static final class Listing {
+        private final String name;
+        private final String status;
+
+        private Listing(Player player) {
+            this.name = player.getName();
+            this.status = player.getInGameStatus() ? PLAYING : AVAILABLE;
+        }
+    }
+}
@@ -1,10 +1,8 @@
 package com.webcheckers.ui;
 
 import com.google.gson.Gson;
-import com.webcheckers.application.GameCenter;
 import com.webcheckers.application.GameLibrary;
-import com.webcheckers.application.MoveController;
-import com.webcheckers.model.BoardView;
+import com.webcheckers.model.ArchivedGame;
 import com.webcheckers.model.Player;
 import com.webcheckers.model.ViewMode;
 import spark.*;
@@ -16,6 +14,7 @@ import static com.webcheckers.ui.GetGameRoute.*;
 import static com.webcheckers.ui.GetGameRoute.ACTIVE_COLOR;
 import static com.webcheckers.ui.GetHomeRoute.CURRENT_USER_ATTR;
 import static com.webcheckers.ui.GetHomeRoute.TITLE_ATTR;
+import static spark.Spark.halt;
 
 /**
  * The UI controller to get the Game Page for the Replay feature.
@@ -28,10 +27,15 @@ public class GetReplayGameRoute implements Route {
 
     private Gson gson;
 
-    static final String MOVE_CONTROLLER_ATTR = "moveController";
-    static final String HAS_NEXT = "hasNext";
-    static final String HAS_PREVIOUS = "hasPrevious";
-    static final String NEW_BOARD = "newBoard";
+    /** The packed moves of the whole game, sent once for the page to step through. */
+    static final String MOVES = "moves";
+
+    /** How many of the moves the page starts at, so a reload shows the same turn. */
+    static final String MOVE_INDEX = "moveIndex";
+    static final String MOVE_PARAM = "move";
+
+    /** Whose turn it was when the game ended, for the page to show at its last move. */
+    static final String FINAL_TURN = "finalTurn";
 
     /**
      * Constructor for the {@code GET /replay/game} route handler.
@@ -58,40 +62,61 @@ public class GetReplayGameRoute implements Route {
         Map<String, Object> vm = new HashMap<>();
 
         Player currentUser = session.attribute(CURRENT_USER_ATTR);
-        final int gameID = Integer.parseInt(request.queryParams(GAME_ID_ATTR));
-        GameCenter gameCenter = GameLibrary.getGameByID(gameID);
-        // reset the game board for each client replaying the same game.
-
-        MoveController moveController;
-        // if the move controller hasn't been instantiated, create a new move controller,
-        // and supply the view with information about the availability of moves.
-        if (session.attribute(MOVE_CONTROLLER_ATTR) == null) {
-            moveController = new MoveController(gameCenter.getMovesMade());
-            // attach the move controller to this user's session.
-            session.attribute(MOVE_CONTROLLER_ATTR, moveController);
-        } else {
-            moveController = session.attribute(MOVE_CONTROLLER_ATTR);
+        final int gameID;
+        try {
+            gameID = Integer.parseInt(request.queryParams(GAME_ID_ATTR));
+        } catch (NumberFormatException e) {
+            halt(400, "A gameID is required.");
+            return null;
+        }
+        // replay straight from the compact record of the ended game.
+        ArchivedGame game = GameLibrary.getArchivedGame(gameID);
+        if (game == null) {
+            halt(404, "No ended game " + gameID + ".");
+            return null;
         }
 
-        Map<String, Object> modeOptions = new HashMap<>(2);
-        modeOptions.put(HAS_NEXT, moveController.hasNext());
-        modeOptions.put(HAS_PREVIOUS, moveController.hasPrevious());
+        int moveIndex = moveIndex(request.queryParams(MOVE_PARAM), game.getMoveCount());
+
+        // the whole game is a few hundred bytes packed, so the page is sent all
+        // of it and steps through the moves itself.
+        short[] moves = new short[game.getMoveCount()];
+        for (int i = 0; i < moves.length; i++) {
+            moves[i] = game.getMove(i);
+        }
+        Map<String, Object> modeOptions = new HashMap<>(3);
+        modeOptions.put(MOVES, moves);
+        modeOptions.put(MOVE_INDEX, moveIndex);
+        modeOptions.put(FINAL_TURN, game.getFinalTurn());
         vm.put("modeOptionsAsJSON", gson.toJson(modeOptions));
 
         // build the view-model
         vm.put(TITLE_ATTR, "Game Page");
         vm.put(GAME_ID_ATTR, gameID);
         vm.put(CURRENT_USER_ATTR, currentUser);
-        vm.put(RED_PLAYER, gameCenter.getRedPlayer());
-        vm.put(WHITE_PLAYER, gameCenter.getWhitePlayer());
+        // the record only keeps the Players' names, which is all the view needs.
+        vm.put(RED_PLAYER, new Player(game.getRedPlayerName(), null));
+        vm.put(WHITE_PLAYER, new Player(game.getWhitePlayerName(), null));
         vm.put("viewMode", ViewMode.REPLAY);
-        vm.put(ACTIVE_COLOR, gameCenter.getCurrentTurn());
-        if (session.attribute(NEW_BOARD) == null) {
-            vm.put("board", new BoardView());
-        } else {
-            vm.put("board", session.attribute(NEW_BOARD));
-        }
+        vm.put(ACTIVE_COLOR, game.getTurn(moveIndex));
+        vm.put("board", game.getBoard(moveIndex));
 
         return templateEngine.render(new ModelAndView(vm, "game.ftl"));
     }
+
+    /**
+     * Read which move the page should start at. Anything that isn't one of
+     * the game's moves starts it from the beginning.
+     */
+    private static int moveIndex(String move, int moveCount) {
+        if (move == null) {
+            return 0;
+        }
+        try {
+            int moveIndex = Integer.parseInt(move);
+            return moveIndex >= 0 && moveIndex <= moveCount ? moveIndex : 0;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
 }
@@ -0,0 +1,244 @@
+package com.webcheckers.ui;
+
+import com.google.gson.Gson;
+import com.webcheckers.application.GameCenter;
+import com.webcheckers.application.GameLibrary;
+import com.webcheckers.model.ArchivedGame;
+import spark.Request;
+import spark.Response;
+import spark.Route;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.logging.Logger;
+
+import static com.webcheckers.ui.GetGameRoute.GAME_ID_ATTR;
+import static spark.Spark.halt;
+
+/**
+ * The UI controller that streams a game to its spectators as Server-Sent
+ * Events, so they see each turn as it's committed instead of reloading the
+ * Game page every few seconds.
+ *
+ * <p>
+ * The response is a {@code text/event-stream} that's held open, without a
+ * request thread, until the game ends or the spectator leaves. Each
+ * {@link GameEvent} is sent with its type as the event name and its version
+ * as the event id. A spectator is sent whose turn it is straight away, then
+ * the moves of each turn as it's committed, and finally how the game ended.
+ * The events are shared with every other spectator of the game through the
+ * {@link GameBroadcaster}.
+ * </p>
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+public class GetSpectatorEventsRoute implements Route {
+    private static final Logger LOG = Logger.getLogger(GetSpectatorEventsRoute.class.getName());
+
+    public static final String EVENT_STREAM_TYPE = "text/event-stream";
+
+    /** How long a browser should wait before reconnecting, in milliseconds. */
+    static final int RETRY_MILLIS = 5000;
+
+    private final GameBroadcaster broadcaster;
+    private final Gson gson;
+
+    /**
+     * Constructor for the {@code GET /spectator/events} route handler.
+     *
+     * @param broadcaster: The {@link GameBroadcaster} that sends each game's
+     *                   events to its spectators.
+     * @param gson: an object to convert {@link GameEvent}s to JSON.
+     */
+    public GetSpectatorEventsRoute(GameBroadcaster broadcaster, Gson gson) {
+        this.broadcaster = broadcaster;
+        this.gson = gson;
+    }
+
+    /**
+     * Open an event stream for the game with the gameID requested. A game
+     * that has already ended is sent a single GAME_OVER event, and the
+     * stream is closed.
+     *
+     * @param request
+     *   the HTTP request
+     * @param response
+     *   the HTTP response
+     * @return an empty body; the events are written to the response directly.
+     * @throws IOException if the stream can't be started.
+     */
+    @Override
+    public Object handle(Request request, Response response) throws IOException {
+        final int gameID;
+        try {
+            gameID = Integer.parseInt(request.queryParams(GAME_ID_ATTR));
+        } catch (NumberFormatException e) {
+            halt(400, "A gameID is required.");
+            return null;
+        }
+
+        GameCenter gameCenter = GameLibrary.getActiveGameByID(gameID);
+        if (gameCenter == null) {
+            ArchivedGame record = GameLibrary.getArchivedGame(gameID);
+            if (record == null) {
+                halt(404, "No such game.");
+                return null;
+            }
+            response.type(EVENT_STREAM_TYPE);
+            response.header("Cache-Control", "no-cache");
+            GameBroadcaster.Broadcast gameOver = GameBroadcaster.Broadcast.of(gson,
+                    Collections.singletonList(GameEvent.gameOver(gameID, record.getResult())));
+            return new String(gameOver.getEventStream(), StandardCharsets.UTF_8);
+        }
+
+        HttpServletResponse raw = response.raw();
+        raw.setContentType(EVENT_STREAM_TYPE);
+        raw.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        raw.setHeader("Cache-Control", "no-cache");
+        AsyncContext asyncContext = request.raw().startAsync();
+        // the stream stays open for as long as the game does.
+        asyncContext.setTimeout(0);
+        // commit the response, so Spark leaves it open.
+        raw.getOutputStream().write(("retry: " + RETRY_MILLIS + "\n\n").getBytes(StandardCharsets.UTF_8));
+        raw.flushBuffer();
+
+        // from here on, the stream is only written to when it's ready, so a
+        // slow spectator never holds up whoever is writing.
+        EventStream stream = new EventStream(asyncContext, raw.getOutputStream());
+        asyncContext.addListener(stream);
+        raw.getOutputStream().setWriteListener(stream);
+        stream.subscribe(broadcaster.subscribe(gameCenter, stream));
+        return "";
+    }
+
+    /**
+     * The open stream to one spectator, written to without blocking.
+     */
+    private static final class EventStream
+            implements GameBroadcaster.Connection, WriteListener, AsyncListener {
+        private final AsyncContext asyncContext;
+        private final ServletOutputStream out;
+        private GameBroadcaster.Subscription subscription;
+
+        /** The bytes waiting to be written, if any. */
+        private byte[] pending;
+
+        /** True if written bytes are waiting to be flushed. */
+        private boolean unflushed;
+
+        /** What to run once the pending bytes have been written and flushed. */
+        private Runnable sent;
+
+        private boolean closed;
+
+        private EventStream(AsyncContext asyncContext, ServletOutputStream out) {
+            this.asyncContext = asyncContext;
+            this.out = out;
+        }
+
+        private void subscribe(GameBroadcaster.Subscription subscription) {
+            boolean alreadyClosed;
+            synchronized (this) {
+                this.subscription = subscription;
+                alreadyClosed = closed;
+            }
+            if (alreadyClosed) {
+                subscription.cancel();
+            }
+        }
+
+        @Override
+        public void send(GameBroadcaster.Broadcast broadcast, Runnable sent) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                this.pending = broadcast.getEventStream();
+                this.sent = sent;
+            }
+            onWritePossible();
+        }
+
+        /**
+         * Write as much as the stream will take without blocking. The
+         * container calls this again once the stream is ready for more.
+         */
+        @Override
+        public void onWritePossible() {
+            Runnable done = null;
+            synchronized (this) {
+                try {
+                    while (!closed && out.isReady()) {
+                        if (pending != null) {
+                            out.write(pending);
+                            pending = null;
+                            unflushed = true;
+                        } else if (unflushed) {
+                            out.flush();
+                            unflushed = false;
+                        } else {
+                            done = sent;
+                            sent = null;
+                            break;
+                        }
+                    }
+                } catch (IOException e) {
+                    LOG.fine("Couldn't write to an event stream: " + e);
+                    done = null;
+                    end();
+                }
+            }
+            if (done != null) {
+                done.run();
+            }
+        }
+
+        @Override
+        public void end() {
+            GameBroadcaster.Subscription ended;
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                ended = subscription;
+                asyncContext.complete();
+            }
+            if (ended != null) {
+                ended.cancel();
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            end();
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            end();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            end();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            end();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // the stream is only ever started once.
+        }
+    }
+}
@@ -3,7 +3,7 @@ package com.webcheckers.ui;
 import com.google.gson.Gson;
 import com.webcheckers.application.GameCenter;
 import com.webcheckers.application.GameLibrary;
-import com.webcheckers.model.BoardView;
+import com.webcheckers.model.GameSnapshot;
 import com.webcheckers.model.Player;
 import com.webcheckers.model.ViewMode;
 import spark.*;
@@ -22,6 +22,8 @@ import static com.webcheckers.ui.GetHomeRoute.TITLE_ATTR;
  */
 public class GetSpectatorGameRoute implements Route {
 
+    public static final String VERSION_ATTR = "version";
+
     private final TemplateEngine templateEngine;
     private Gson gson;
 
@@ -37,12 +39,15 @@ public class GetSpectatorGameRoute implements Route {
     /**
      * If a {@link Player} clicks on an active game on the Home page, this
      * method will build the game view for that user, in Spectator mode.
+     * The page is tagged with the version of the game it shows, and isn't
+     * sent again if the browser already has that version.
      *
      * @param request
      *   the HTTP request
      * @param response
      *   the HTTP response
-     * @return the rendered HTML for the Game Page.
+     * @return the rendered HTML for the Game Page, or an empty body if it
+     * hasn't changed.
      */
     @Override
     public Object handle(Request request, Response response) {
@@ -52,15 +57,25 @@ public class GetSpectatorGameRoute implements Route {
         Player currentUser = session.attribute(CURRENT_USER_ATTR);
         final int gameID = Integer.parseInt(request.queryParams(GAME_ID_ATTR));
         GameCenter gameCenter = GameLibrary.getGameByID(gameID);
-        BoardView checkersBoard = gameCenter.getCheckersBoard();
+        // spectators only ever read the game, so use the latest published
+        // snapshot rather than the board the players are changing.
+        GameSnapshot snapshot = gameCenter.getSnapshot();
 
         // if no active color is attached to the session, attach it.
         if (session.attribute(ACTIVE_COLOR) == null) {
-            session.attribute(ACTIVE_COLOR, gameCenter.getCurrentTurn());
+            session.attribute(ACTIVE_COLOR, snapshot.getCurrentTurn());
+        }
+
+        // the page only changes with the snapshot, so a browser that already
+        // has this version doesn't need it again.
+        if (GameETag.notModified(request, response, GameETag.of(gameID, snapshot, currentUser))) {
+            return "";
         }
 
-        Map<String, Object> modeOptions = checkForGameEnd(gameCenter);
-        if (modeOptions.containsKey("isGameOver")) {
+        if (snapshot.isGameOver()) {
+            final Map<String, Object> modeOptions = new HashMap<>(2);
+            modeOptions.put("isGameOver", true);
+            modeOptions.put("gameOverMessage", snapshot.getResult());
             vm.put("modeOptionsAsJSON", gson.toJson(modeOptions));
         }
 
@@ -71,35 +86,12 @@ public class GetSpectatorGameRoute implements Route {
         vm.put(RED_PLAYER, gameCenter.getRedPlayer());
         vm.put(WHITE_PLAYER, gameCenter.getWhitePlayer());
         vm.put("viewMode", ViewMode.SPECTATOR);
-        vm.put(ACTIVE_COLOR, gameCenter.getCurrentTurn());
-        vm.put("board", checkersBoard);
+        vm.put(ACTIVE_COLOR, snapshot.getCurrentTurn());
+        vm.put("board", snapshot.getBoard());
+        // the event stream is compared against this, to tell if the page is
+        // out of date.
+        vm.put(VERSION_ATTR, snapshot.getVersion());
 
         return templateEngine.render(new ModelAndView(vm, "game.ftl"));
     }
-
-    private Map<String, Object> checkForGameEnd(GameCenter gameCenter) {
-        final Map<String, Object> modeOptions = new HashMap<>(2);
-        if (gameCenter.capturedAllPieces()) {
-            modeOptions.put("isGameOver", true);
-            if (gameCenter.getRedPlayer().getCaptures() == 12) {
-                modeOptions.put("gameOverMessage", String.format(CAPTURED_ALL_PIECES,
-                        gameCenter.getRedPlayer().getName()));
-            } else {
-                modeOptions.put("gameOverMessage", String.format(CAPTURED_ALL_PIECES,
-                        gameCenter.getWhitePlayer().getName()));
-            }
-        } else if (gameCenter.blockedPiecesRed()) {
-            modeOptions.put("isGameOver", true);
-            modeOptions.put("gameOverMessage", String.format(PIECES_BLOCKED,
-                    gameCenter.getRedPlayer().getName()));
-        } else if (gameCenter.blockedPiecesWhite()) {
-            modeOptions.put("isGameOver", true);
-            modeOptions.put("gameOverMessage", String.format(PIECES_BLOCKED,
-                    gameCenter.getWhitePlayer().getName()));
-        } else if (gameCenter.getResignStatus() != null) {
-            modeOptions.put("isGameOver", true);
-            modeOptions.put("gameOverMessage", gameCenter.getResignStatus());
-        }
-        return modeOptions;
-    }
 }
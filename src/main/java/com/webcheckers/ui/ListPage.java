@@ -0,0 +1,100 @@
+package com.webcheckers.ui;
+
+import spark.Request;
+
+import java.util.List;
+
+import static spark.Spark.halt;
+
+/**
+ * One page of a list sent as JSON, along with the cursor of the page after
+ * it. A client asks for the next page by sending that cursor back as the
+ * {@value #AFTER_PARAM} parameter. Pages are only ever converted to JSON, so
+ * their fields are named for the client.
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+public final class ListPage<T> {
+
+    public static final String AFTER_PARAM = "after";
+    public static final String LIMIT_PARAM = "limit";
+
+    /** How many items a page holds when the client doesn't say. */
+    static final int DEFAULT_PAGE_SIZE = 20;
+
+    /** The most items a client can ask for in one page. */
+    static final int MAX_PAGE_SIZE = 100;
+
+    private final List<T> items;
+    private final String next;
+
+    /**
+     * Make a page from the items read for it. One more item than the page
+     * holds should be read, so it's known whether there is another page;
+     * that extra item is taken off.
+     *
+     * @param items: Up to pageSize + 1 items, in order.
+     * @param pageSize: The most items the page holds.
+     * @param cursor: Gives the cursor of an item, for the next page to start
+     *              after.
+     */
+    ListPage(List<T> items, int pageSize, Cursor<T> cursor) {
+        if (items.size() > pageSize) {
+            items = items.subList(0, pageSize);
+            this.next = cursor.of(items.get(pageSize - 1));
+        } else {
+            this.next = null;
+        }
+        this.items = items;
+    }
+
+    /**
+     * Read the size of the page a client asked for.
+     *
+     * @param request: The HTTP request.
+     * @return the {@value #LIMIT_PARAM} parameter, or the default page size if
+     * it wasn't given. A limit that isn't between 1 and the largest page
+     * size is turned away.
+     */
+    static int pageSize(Request request) {
+        String limit = request.queryParams(LIMIT_PARAM);
+        if (limit == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        try {
+            int pageSize = Integer.parseInt(limit);
+            if (pageSize >= 1 && pageSize <= MAX_PAGE_SIZE) {
+                return pageSize;
+            }
+        } catch (NumberFormatException e) {
+            // turned away below.
+        }
+        halt(400, "The limit must be between 1 and " + MAX_PAGE_SIZE + ".");
+        return 0;
+    }
+
+    /**
+     * Accessor for the items on this page.
+     *
+     * @return the items, in order.
+     */
+    public List<T> getItems() {
+        return this.items;
+    }
+
+    /**
+     * Accessor for the cursor of the next page.
+     *
+     * @return the cursor, or null if this is the last page.
+     */
+    public String getNext() {
+        return this.next;
+    }
+
+    /**
+     * Gives the cursor a page ending with an item would be followed from.
+     */
+    interface Cursor<T> {
+        String of(T item);
+    }
+}
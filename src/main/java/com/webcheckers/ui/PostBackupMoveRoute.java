@@ -16,7 +16,6 @@ import java.util.ArrayList;
 import static com.webcheckers.ui.GetGameRoute.GAME_CENTER_ATTR;
 import static com.webcheckers.ui.GetGameRoute.GAME_ID_ATTR;
 import static com.webcheckers.ui.GetHomeRoute.CURRENT_USER_ATTR;
-import static com.webcheckers.ui.PostValidateMoveRoute.CURRENT_MOVE_ATTR;
 
 /**
  * A controller to take back moves on the checkers board that weren't meant
@@ -36,7 +35,7 @@ public class PostBackupMoveRoute implements Route {
     }
 
     /**
-     * Attempts to remove the current move from the session, and returns a
+     * Attempts to remove the last move from the user's turn buffer, and returns a
      * {@link Message} about the status of the removal.
      *
      * @param request
@@ -51,17 +50,22 @@ public class PostBackupMoveRoute implements Route {
     public Object handle(Request request, Response response) {
         final Session session = request.session();
         Player currentUser = session.attribute(CURRENT_USER_ATTR);
-        ArrayList<Move> moves = session.attribute(CURRENT_MOVE_ATTR);
         final int gameID = Integer.parseInt(request.queryParams(GAME_ID_ATTR));
-        GameCenter gameCenter = GameLibrary.getGameByID(gameID);
-
-        Message cancelledMessage;
-        if (moves.size() > 0) {
-            gameCenter.revertMove(currentUser, moves.remove(moves.size() - 1));
-            cancelledMessage = Message.info(MOVE_CANCELLED);
-        } else {
-            cancelledMessage = Message.error(MOVE_NOT_CANCELLED);
+        GameCenter gameCenter = GameLibrary.getActiveGameByID(gameID);
+        if (gameCenter == null) {
+            // an ended game can't be changed.
+            return gson.toJson(Message.error(GameCenter.GAME_ENDED));
         }
+
+        Message cancelledMessage = gameCenter.submit(() -> {
+            ArrayList<Move> moves = gameCenter.getTurnBuffer(currentUser);
+            if (moves.size() > 0) {
+                gameCenter.revertMove(currentUser, moves.remove(moves.size() - 1));
+                return Message.info(MOVE_CANCELLED);
+            } else {
+                return Message.error(MOVE_NOT_CANCELLED);
+            }
+        });
         return gson.toJson(cancelledMessage);
     }
 }
@@ -0,0 +1,70 @@
+package com.webcheckers.ui;
+
+import com.google.gson.Gson;
+import com.webcheckers.application.GameCenter;
+import com.webcheckers.application.GameLibrary;
+import com.webcheckers.model.Player;
+import spark.Request;
+import spark.Response;
+import spark.Route;
+
+import static com.webcheckers.ui.GetGameRoute.GAME_ID_ATTR;
+import static spark.Spark.halt;
+
+/**
+ * The UI controller that sends a Player the squares of the board that have
+ * changed since the version of the game their Game page shows, so the page
+ * can be brought up to date in place when it becomes their turn, instead of
+ * being reloaded and rendered again.
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+public class PostBoardUpdateRoute implements Route {
+
+    public static final String VERSION_PARAM = "version";
+
+    private Gson gson;
+
+    /**
+     * Constructor for the {@code POST /boardUpdate} route handler.
+     *
+     * @param gson: an object to convert {@link BoardUpdate}s to Json for HTTP
+     *            responses.
+     */
+    public PostBoardUpdateRoute(Gson gson) {
+        this.gson = gson;
+    }
+
+    /**
+     * Find the squares that changed after the version requested, in the
+     * positions of the current user's board.
+     *
+     * @param request
+     *   the HTTP request
+     * @param response
+     *   the HTTP response
+     *
+     * @return A JSON converted {@link BoardUpdate}.
+     */
+    @Override
+    public Object handle(Request request, Response response) {
+        final int gameID;
+        final long version;
+        try {
+            gameID = Integer.parseInt(request.queryParams(GAME_ID_ATTR));
+            version = Long.parseLong(request.queryParams(VERSION_PARAM));
+        } catch (NumberFormatException e) {
+            halt(400, "A gameID and version are required.");
+            return null;
+        }
+        GameCenter gameCenter = GameLibrary.getGameByID(gameID);
+        if (gameCenter == null) {
+            halt(404, "No such game.");
+            return null;
+        }
+        Player currentUser = request.session().attribute(GetHomeRoute.CURRENT_USER_ATTR);
+        // the White player's board is shown with its rows flipped.
+        boolean flipped = gameCenter.getWhitePlayer().equals(currentUser);
+        return gson.toJson(BoardUpdate.since(gameCenter, version, flipped));
+    }
+}
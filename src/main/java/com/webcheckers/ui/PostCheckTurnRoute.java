@@ -3,7 +3,9 @@ package com.webcheckers.ui;
 import com.google.gson.Gson;
 import com.webcheckers.application.GameCenter;
 import com.webcheckers.application.GameLibrary;
+import com.webcheckers.application.GameListener;
 import com.webcheckers.model.Color;
+import com.webcheckers.model.GameSnapshot;
 import com.webcheckers.model.Player;
 import com.webcheckers.util.Message;
 import spark.Request;
@@ -11,26 +13,58 @@ import spark.Response;
 import spark.Route;
 import spark.Session;
 
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
 import static com.webcheckers.ui.GetGameRoute.ACTIVE_COLOR;
 import static com.webcheckers.ui.GetGameRoute.GAME_ID_ATTR;
 
 /**
  * Use this class to process checkTurn calls from the client.
  *
+ * <p>
+ * A client that sends the {@link #WAIT_PARAM} parameter is answered as soon
+ * as the turn changes, rather than straight away. Its request is held open
+ * asynchronously, without a request thread, until the game publishes a new
+ * turn or {@link #LONG_POLL_TIMEOUT} passes. Clients that can't use the
+ * game's WebSocket use this instead of checking every few seconds.
+ * </p>
+ *
  * @author Andrew Frank, ajf8248@rit.edu
  */
 public class PostCheckTurnRoute implements Route {
+    private static final Logger LOG = Logger.getLogger(PostCheckTurnRoute.class.getName());
+
+    public static final String WAIT_PARAM = "waitForTurn";
 
-    private Gson gson;
+    /** How long a waiting request is held open, in milliseconds. */
+    static final long LONG_POLL_TIMEOUT = 25000;
+
+    /** The only two answers ever sent, converted to JSON once. */
+    private final String myTurnJson;
+    private final String notMyTurnJson;
+    private final byte[] myTurnBytes;
+    private final byte[] notMyTurnBytes;
 
     /**
-     * Instantiates the gson object to be used for HTTP responses.
+     * Converts the answers sent to clients to JSON, once.
      *
      * @param gson: an object to convert {@link Message}s to Json for HTTP
      *            responses.
      */
     public PostCheckTurnRoute(Gson gson) {
-        this.gson = gson;
+        this.myTurnJson = gson.toJson(Message.info("true"));
+        this.notMyTurnJson = gson.toJson(Message.info("false"));
+        this.myTurnBytes = myTurnJson.getBytes(StandardCharsets.UTF_8);
+        this.notMyTurnBytes = notMyTurnJson.getBytes(StandardCharsets.UTF_8);
     }
 
     /**
@@ -44,7 +78,8 @@ public class PostCheckTurnRoute implements Route {
      *   the HTTP response
      *
      * @return A JSON converted {@link Message} with information about who's
-     * turn it is.
+     * turn it is, or an empty body if the answer will be written once the
+     * turn changes.
      */
     @Override
     public Object handle(Request request, Response response) {
@@ -52,13 +87,44 @@ public class PostCheckTurnRoute implements Route {
         final int gameID = Integer.parseInt(request.queryParams(GAME_ID_ATTR));
         GameCenter gameCenter = GameLibrary.getGameByID(gameID);
         Player currentUser = session.attribute(GetHomeRoute.CURRENT_USER_ATTR);
-        Message checkTurnMessage;
         if (checkPlayerTurn(currentUser, gameCenter, session)) {
-            checkTurnMessage = Message.info("true");
-        } else {
-            checkTurnMessage = Message.info("false");
+            return myTurnJson;
+        } else if (request.queryParams(WAIT_PARAM) != null
+                && !gameCenter.getSnapshot().isGameOver()) {
+            try {
+                waitForTurn(request, response, currentUser, gameCenter);
+                // the response has been committed, so Spark leaves it open.
+                return "";
+            } catch (IOException e) {
+                LOG.fine("Couldn't start waiting for the turn of game " + gameID + ".");
+            }
         }
-        return gson.toJson(checkTurnMessage);
+        return notMyTurnJson;
+    }
+
+    /**
+     * Hold a request open until the turn changes or the game ends, when it's
+     * answered with true, or until it times out, when it's answered with
+     * false.
+     */
+    private void waitForTurn(Request request, Response response, Player player,
+                             GameCenter gameCenter) throws IOException {
+        HttpServletResponse raw = response.raw();
+        AsyncContext asyncContext = request.raw().startAsync();
+        asyncContext.setTimeout(LONG_POLL_TIMEOUT);
+        // send the headers now, so Spark doesn't end the response.
+        raw.setContentType("application/json");
+        raw.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        raw.flushBuffer();
+        TurnWaiter waiter = new TurnWaiter(player, gameCenter, request.session(), asyncContext,
+                raw.getOutputStream());
+        asyncContext.addListener(waiter);
+        // from here on, the answer is only written when the response is
+        // ready for it, so a slow client never holds up the game.
+        raw.getOutputStream().setWriteListener(waiter);
+        gameCenter.addGameListener(waiter);
+        // the turn may have changed before the listener was added.
+        waiter.snapshotPublished(gameCenter.getGameID(), gameCenter.getSnapshot());
     }
 
     /**
@@ -71,7 +137,9 @@ public class PostCheckTurnRoute implements Route {
      * @return a boolean, true if it is this player's turn, false otherwise.
      */
     public boolean checkPlayerTurn(Player player, GameCenter gameCenter, Session session) {
-        switch (gameCenter.getCurrentTurn()) {
+        // read the published snapshot, so a turn still being made never shows
+        // up as finished.
+        switch (gameCenter.getSnapshot().getCurrentTurn()) {
             case RED:
                 if (!gameCenter.getRedPlayer().equals(player) && !gameCenter.getWhitePlayer().equals(player)) {
                     // check if the spectator needs to be refreshed
@@ -99,4 +167,118 @@ public class PostCheckTurnRoute implements Route {
                 return false;
         }
     }
+
+    /**
+     * A request waiting for the turn to change, which is answered exactly
+     * once. The game's listener is called while the game is locked, so it
+     * only picks the answer; the answer is written without blocking, once
+     * the response is ready for it.
+     */
+    private final class TurnWaiter implements GameListener, AsyncListener, WriteListener {
+        private final Player player;
+        private final GameCenter gameCenter;
+        private final Session session;
+        private final AsyncContext asyncContext;
+        private final ServletOutputStream out;
+        private final AtomicBoolean answered = new AtomicBoolean();
+
+        /** The answer waiting to be written, if any. */
+        private byte[] pending;
+
+        /** True if the written answer is waiting to be flushed. */
+        private boolean unflushed;
+
+        private boolean completed;
+
+        private TurnWaiter(Player player, GameCenter gameCenter, Session session,
+                           AsyncContext asyncContext, ServletOutputStream out) {
+            this.player = player;
+            this.gameCenter = gameCenter;
+            this.session = session;
+            this.asyncContext = asyncContext;
+            this.out = out;
+        }
+
+        @Override
+        public void snapshotPublished(int gameID, GameSnapshot snapshot) {
+            if (snapshot.isGameOver() || checkPlayerTurn(player, gameCenter, session)) {
+                answer(true);
+            }
+        }
+
+        private void answer(boolean turnChanged) {
+            if (!answered.compareAndSet(false, true)) {
+                return;
+            }
+            gameCenter.removeGameListener(this);
+            synchronized (this) {
+                pending = turnChanged ? myTurnBytes : notMyTurnBytes;
+            }
+            onWritePossible();
+        }
+
+        /**
+         * Write the answer, if there is one, as far as the response will take
+         * it without blocking. The container calls this again once the
+         * response is ready for more.
+         */
+        @Override
+        public synchronized void onWritePossible() {
+            try {
+                while (!completed && out.isReady()) {
+                    if (pending != null) {
+                        out.write(pending);
+                        pending = null;
+                        unflushed = true;
+                    } else if (unflushed) {
+                        out.flush();
+                        unflushed = false;
+                    } else {
+                        if (answered.get()) {
+                            completed = true;
+                            asyncContext.complete();
+                        }
+                        break;
+                    }
+                }
+            } catch (IOException e) {
+                LOG.fine("The client stopped waiting for game " + gameCenter.getGameID() + ".");
+                completed = true;
+                asyncContext.complete();
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            answered.set(true);
+            gameCenter.removeGameListener(this);
+            synchronized (this) {
+                if (!completed) {
+                    completed = true;
+                    asyncContext.complete();
+                }
+            }
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            answer(false);
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            gameCenter.removeGameListener(this);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            answered.set(true);
+            gameCenter.removeGameListener(this);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // the request is only ever held open once.
+        }
+    }
 }
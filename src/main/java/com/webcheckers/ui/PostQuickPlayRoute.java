@@ -0,0 +1,77 @@
+package com.webcheckers.ui;
+
+import com.webcheckers.application.GameCenter;
+import com.webcheckers.application.MatchmakingQueue;
+import com.webcheckers.model.Player;
+import com.webcheckers.util.Message;
+import spark.*;
+
+import static com.webcheckers.ui.GetGameRoute.*;
+import static spark.Spark.halt;
+
+/**
+ * The {@code POST /quickPlay} route handler.
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+public class PostQuickPlayRoute implements Route {
+
+    static final String WAITING_MSG = "Waiting for an opponent...";
+
+    // Attributes
+    private final MatchmakingQueue matchmakingQueue;
+
+    /**
+     * Constructor for the {@code POST /quickPlay} route handler.
+     * @param matchmakingQueue: The {@link MatchmakingQueue} used to pair up
+     *                        Players.
+     */
+    public PostQuickPlayRoute(MatchmakingQueue matchmakingQueue) {
+        this.matchmakingQueue = matchmakingQueue;
+    }
+
+    /**
+     * Puts the current user into the {@link MatchmakingQueue}. If another
+     * Player was waiting, a game is created for the two of them: the waiting
+     * Player is sent to it the next time their Home page refreshes, and the
+     * current user is redirected to it right away. Otherwise the current user
+     * is redirected to the Home page to wait.
+     *
+     * @param request: The HTTP request.
+     * @param response: The HTTP response.
+     * @return null
+     */
+    @Override
+    public Object handle(Request request, Response response) {
+        final Session session = request.session();
+        Player currentUser = session.attribute(GetHomeRoute.CURRENT_USER_ATTR);
+        if (currentUser == null) {
+            response.redirect(WebServer.HOME_URL);
+            halt();
+            return null;
+        }
+
+        GameCenter gameCenter = matchmakingQueue.quickPlay(currentUser);
+        if (gameCenter == null) {
+            if (matchmakingQueue.isWaiting(currentUser)) {
+                session.attribute(GAME_STATUS_MSG, Message.info(WAITING_MSG));
+            }
+            response.redirect(WebServer.HOME_URL);
+            halt();
+            return null;
+        }
+
+        // let the waiting Player know about the game, the same way as if
+        // they had been challenged.
+        Player opponent = gameCenter.getWhitePlayer();
+        Session opponentSession = opponent.getSession();
+        opponentSession.attribute(CHALLENGER_ATTR, currentUser.getName());
+        opponentSession.attribute(GAME_ID_ATTR, gameCenter.getGameID());
+        session.attribute(OPPONENT_NAME, opponent);
+        session.attribute(GAME_ID_ATTR, gameCenter.getGameID());
+
+        response.redirect(WebServer.GAME_URL + "?" + GAME_ID_ATTR + "=" + gameCenter.getGameID());
+        halt();
+        return null;
+    }
+}
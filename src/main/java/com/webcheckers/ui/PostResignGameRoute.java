@@ -47,17 +47,20 @@ public class PostResignGameRoute implements Route {
         final int gameID = Integer.parseInt(request.queryParams(GAME_ID_ATTR));
         Player currentUser = session.attribute(GetHomeRoute.CURRENT_USER_ATTR);
         String username = currentUser.getName();
-        String resignString = username + " has resigned.";
+        String resignString = String.format(GameCenter.RESIGNED, username);
         Message resignMessage = Message.info(resignString);
 
         // get the gameCenter from the GameLibrary, change whose move it is to refresh
         // the opponent's game view.
-        GameCenter gameCenter = GameLibrary.getGameByID(gameID);
-        Color currentTurn = gameCenter.getCurrentTurn();
-        if (currentUser.getColor().equals(currentTurn)) {
-            gameCenter.makeMove();
+        GameCenter gameCenter = GameLibrary.getActiveGameByID(gameID);
+        if (gameCenter == null) {
+            // an ended game can't be changed.
+            return gson.toJson(Message.error(GameCenter.GAME_ENDED));
+        }
+        boolean resigned = gameCenter.submit(() -> gameCenter.resign(currentUser, resignString));
+        if (!resigned) {
+            return gson.toJson(Message.error(GameCenter.GAME_ENDED));
         }
-        gameCenter.setResignStatus(resignString);
         return gson.toJson(resignMessage);
     }
 }
\ No newline at end of file
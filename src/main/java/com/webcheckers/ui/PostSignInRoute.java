@@ -52,11 +52,12 @@ public class PostSignInRoute implements Route {
         final Session session = request.session();
         final String username = request.queryParams(USERNAME_PARAM);
         Message signInStatus;
-        if (playerLobby.userNameInUse(username)) {
+        Player currentUser = new Player(username, session);
+        // the username is claimed atomically, so two players signing in with
+        // the same name at once can't both succeed.
+        if (username == null || !playerLobby.signIn(username, currentUser)) {
             signInStatus = Message.error(String.format(BAD_SIGN_IN_MSG, username));
         } else {
-            Player currentUser = new Player(username, session);
-            playerLobby.signIn(username, currentUser);
             signInStatus = Message.info(String.format(SIGNED_IN_MSG, username));
             session.attribute("currentUser", currentUser);
         }
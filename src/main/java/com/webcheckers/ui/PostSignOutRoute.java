@@ -1,5 +1,6 @@
 package com.webcheckers.ui;
 
+import com.webcheckers.application.MatchmakingQueue;
 import com.webcheckers.application.PlayerLobby;
 import com.webcheckers.model.Player;
 import com.webcheckers.util.Message;
@@ -19,13 +20,17 @@ public class PostSignOutRoute implements Route{
 
     // Attributes
     private final PlayerLobby playerLobby;
+    private final MatchmakingQueue matchmakingQueue;
 
     /**
      * Constructor for the {@code POST /signout} route handler.
      * @param playerLobby: The {@link PlayerLobby} used to store active players.
+     * @param matchmakingQueue: The {@link MatchmakingQueue} the player may be
+     *                        waiting in.
      */
-    public PostSignOutRoute(PlayerLobby playerLobby){
+    public PostSignOutRoute(PlayerLobby playerLobby, MatchmakingQueue matchmakingQueue){
         this.playerLobby = playerLobby;
+        this.matchmakingQueue = matchmakingQueue;
     }
 
     /**
@@ -46,6 +51,7 @@ public class PostSignOutRoute implements Route{
         Player currentUser = session.attribute("currentUser");
         String username = currentUser.getName();
         playerLobby.signOut(username, currentUser);
+        matchmakingQueue.leave(currentUser);
         session.attribute("currentUser", null);
         session.attribute(PostSignInRoute.SIGN_IN_STATUS, null);
 
@@ -0,0 +1,83 @@
+package com.webcheckers.ui;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.webcheckers.application.GameCenter;
+import com.webcheckers.application.GameLibrary;
+import com.webcheckers.model.Move;
+import com.webcheckers.model.Player;
+import com.webcheckers.util.Message;
+import spark.Request;
+import spark.Response;
+import spark.Route;
+
+import java.util.Arrays;
+
+import static com.webcheckers.ui.GetGameRoute.GAME_ID_ATTR;
+import static com.webcheckers.ui.PostValidateMoveRoute.ACTION_DATA_ATTR;
+import static spark.Spark.halt;
+
+/**
+ * A controller to validate and submit a player's whole turn in one request:
+ * a simple move, or every hop of a jump sequence. Unlike validating each
+ * move and then submitting, the turn either goes through as a whole or
+ * leaves the game untouched.
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+public class PostSubmitFullTurnRoute implements Route {
+
+    private Gson gson;
+
+    public PostSubmitFullTurnRoute(Gson gson) {
+        this.gson = gson;
+    }
+
+    /**
+     * Validates the moves sent as the action data, a JSON array in the order
+     * they were made, and commits them as the player's turn if they're all
+     * valid.
+     *
+     * @param request
+     *   the HTTP request
+     * @param response
+     *   the HTTP response
+     * @return a JSON converted {@link Message} with information about the
+     * submission.
+     */
+    @Override
+    public Object handle(Request request, Response response) {
+        final int gameID;
+        final Move[] moves;
+        try {
+            gameID = Integer.parseInt(request.queryParams(GAME_ID_ATTR));
+            moves = gson.fromJson(request.queryParams(ACTION_DATA_ATTR), Move[].class);
+        } catch (NumberFormatException | JsonParseException e) {
+            halt(400, "A gameID and a list of moves are required.");
+            return null;
+        }
+        if (moves == null || !isComplete(moves)) {
+            halt(400, "A gameID and a list of moves are required.");
+            return null;
+        }
+        GameCenter gameCenter = GameLibrary.getActiveGameByID(gameID);
+        if (gameCenter == null) {
+            // an ended game can't be changed.
+            return gson.toJson(Message.error(GameCenter.GAME_ENDED));
+        }
+        Player currentUser = request.session().attribute(GetHomeRoute.CURRENT_USER_ATTR);
+
+        Message turnSubmitted = gameCenter.submit(
+                () -> gameCenter.submitFullTurn(currentUser, Arrays.asList(moves)));
+        return gson.toJson(turnSubmitted);
+    }
+
+    private static boolean isComplete(Move[] moves) {
+        for (Move move : moves) {
+            if (move == null || move.getStart() == null || move.getEnd() == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
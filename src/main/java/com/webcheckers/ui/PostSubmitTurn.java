@@ -43,14 +43,30 @@ public class PostSubmitTurn implements Route {
     public Object handle(Request request, Response response){
         final Session session = request.session();
         final int gameID = Integer.parseInt(request.queryParams(GAME_ID_ATTR));
-        GameCenter gameCenter = GameLibrary.getGameByID(gameID);
-        BoardView checkersBoard = gameCenter.getCheckersBoard();
-        ArrayList<Move> moves = session.attribute(PostValidateMoveRoute.CURRENT_MOVE_ATTR);
+        GameCenter gameCenter = GameLibrary.getActiveGameByID(gameID);
+        if (gameCenter == null) {
+            // an ended game can't be changed.
+            return gson.toJson(Message.error(GameCenter.GAME_ENDED));
+        }
         Player currentUser = session.attribute(GetHomeRoute.CURRENT_USER_ATTR);
-        session.removeAttribute(PostValidateMoveRoute.CURRENT_MOVE_ATTR);
 
+        Message turnSubmitted = gameCenter.submit(() -> submitTurn(gameCenter, currentUser));
+        return gson.toJson(turnSubmitted);
+    }
+
+    /**
+     * Apply the moves of this turn to the model, and hand the turn to the
+     * other player if the turn is complete. Runs inside the game's mailbox.
+     *
+     * @param gameCenter: The game the turn is being submitted to.
+     * @param currentUser: The Player submitting their turn.
+     * @return a {@link Message} with information about the submission.
+     */
+    private Message submitTurn(GameCenter gameCenter, Player currentUser) {
+        BoardView checkersBoard = gameCenter.getCheckersBoard();
+        ArrayList<Move> moves = gameCenter.getTurnBuffer(currentUser);
         Message turnSubmitted = Message.error("You haven't made any moves yet.");
-        if (moves != null) {
+        if (!moves.isEmpty()) {
             for (Move currentMove : moves) {
                 // only update the model if the move is not a jump, since jumps update
                 // in a different place.
@@ -65,12 +81,13 @@ public class PostSubmitTurn implements Route {
                 }
             }
         }
+        // promote before the turn changes, so the published board is final.
+        checkersBoard.promotePiece(checkersBoard);
         // if the submission is successful, change whose turn it is.
         if (turnSubmitted.getType() == Message.Type.INFO) {
             gameCenter.makeMove();
         }
-        PostValidateMoveRoute.clearList();
-        checkersBoard.promotePiece(checkersBoard);
-        return gson.toJson(turnSubmitted);
+        gameCenter.clearTurnBuffer(currentUser);
+        return turnSubmitted;
     }
 }
@@ -10,8 +10,6 @@ import spark.Response;
 import spark.Route;
 import spark.Session;
 
-import java.util.ArrayList;
-
 import static com.webcheckers.ui.GetGameRoute.GAME_ID_ATTR;
 
 /**
@@ -23,21 +21,19 @@ public class PostValidateMoveRoute implements Route {
 
     private Gson gson;
 
-    static ArrayList<Move> consecutiveMoves;
-
-    static final String CURRENT_MOVE_ATTR = "currentMove";
     static final String VALID_MOVE = "Valid move.";
     static final String ACTION_DATA_ATTR = "actionData";
 
 
     public PostValidateMoveRoute(Gson gson) {
         this.gson = gson;
-        consecutiveMoves = new ArrayList<>();
     }
 
     /**
      * Processes the move made by the user, and gives a JSON response with
-     * information about the validity of the move.
+     * information about the validity of the move. Valid moves are added to
+     * the user's turn buffer in the {@link GameCenter}, to be applied when
+     * the turn is submitted.
      *
      * @param request
      *   the HTTP request
@@ -51,7 +47,11 @@ public class PostValidateMoveRoute implements Route {
         // Use the GameCenter from this session to get the game board.
         final Session session = request.session();
         final int gameID = Integer.parseInt(request.queryParams(GAME_ID_ATTR));
-        GameCenter gameCenter = GameLibrary.getGameByID(gameID);
+        GameCenter gameCenter = GameLibrary.getActiveGameByID(gameID);
+        if (gameCenter == null) {
+            // an ended game can't be changed.
+            return gson.toJson(Message.error(GameCenter.GAME_ENDED));
+        }
 
         // get the current user to check if we need an offset for checking the model.
         Player currentUser = session.attribute(GetHomeRoute.CURRENT_USER_ATTR);
@@ -59,24 +59,15 @@ public class PostValidateMoveRoute implements Route {
         String currentMoveJson = request.queryParams(ACTION_DATA_ATTR);
         Move currentMove = gson.fromJson(currentMoveJson, Move.class);
 
-        consecutiveMoves.add(currentMove);
-
-        Message moveResponse = Message.error("You haven't made a move yet.");
-        for (Move move: consecutiveMoves) {
-            moveResponse = gameCenter.validateMove(currentUser, move);
-            if (moveResponse.getType() == Message.Type.INFO) {
-                session.attribute(CURRENT_MOVE_ATTR, consecutiveMoves);
+        // validation can change the model, so run it through the game's mailbox.
+        // Only this move is validated; earlier moves in the turn already were.
+        Message moveResponse = gameCenter.submit(() -> {
+            Message status = gameCenter.validateMove(currentUser, currentMove);
+            if (status.getType() == Message.Type.INFO) {
+                gameCenter.getTurnBuffer(currentUser).add(currentMove);
             }
-        }
-        // if the move isn't valid, we need to clear the list of moves to avoid
-        // incorrect modification of the model.
-        if (moveResponse.getType() == Message.Type.ERROR) {
-            clearList();
-        }
+            return status;
+        });
         return gson.toJson(moveResponse);
     }
-
-    public static void clearList() {
-        consecutiveMoves.clear();
-    }
 }
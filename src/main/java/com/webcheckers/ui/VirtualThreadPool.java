@@ -0,0 +1,132 @@
+package com.webcheckers.ui;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.jetty.util.component.AbstractLifeCycle;
+import org.eclipse.jetty.util.thread.ThreadPool;
+
+/**
+ * A Jetty {@link ThreadPool} that runs every task on a new virtual thread,
+ * rather than on one of a fixed number of platform threads.
+ *
+ * <p>
+ * A request that spends most of its time waiting, on a game's mailbox or on
+ * the game archive for example, then only holds a virtual thread, which
+ * costs a few hundred bytes instead of a whole OS thread. Virtual threads
+ * arrived in Java 21, so they're looked up reflectively: the application
+ * still builds for Java 8, and {@link #create()} reports when the JVM it's
+ * running on can't provide them.
+ * </p>
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+public class VirtualThreadPool extends AbstractLifeCycle implements ThreadPool {
+  private static final Logger LOG = Logger.getLogger(VirtualThreadPool.class.getName());
+
+  /** Makes the virtual threads, each named after the order it was made in. */
+  private final ThreadFactory threadFactory;
+
+  /** The number of tasks currently running. */
+  private final AtomicInteger threads = new AtomicInteger();
+
+  /** Released once the pool has stopped, for anyone joining it. */
+  private final CountDownLatch stopped = new CountDownLatch(1);
+
+  /**
+   * Create a pool that runs every task on a new thread from the given
+   * factory. Outside of tests, use {@link #create()}.
+   *
+   * @param threadFactory: Makes the thread each task is run on.
+   */
+  VirtualThreadPool(ThreadFactory threadFactory) {
+    this.threadFactory = threadFactory;
+  }
+
+  /**
+   * Create a pool of virtual threads, if the JVM supports them.
+   *
+   * @return a new VirtualThreadPool, or null if this JVM can't create
+   * virtual threads.
+   */
+  public static VirtualThreadPool create() {
+    try {
+      // Thread.ofVirtual().name("request-", 0).factory()
+      Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      builder = builderClass.getMethod("name", String.class, long.class)
+          .invoke(builder, "request-", 0L);
+      return new VirtualThreadPool(
+          (ThreadFactory) builderClass.getMethod("factory").invoke(builder));
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      // older JVMs don't have the methods, and preview releases refuse to
+      // run them unless preview features are enabled.
+      LOG.log(Level.FINE, "Virtual threads are not available.", e);
+      return null;
+    }
+  }
+
+  /**
+   * Run a task on a new virtual thread.
+   *
+   * @param task: The task to run.
+   */
+  @Override
+  public void execute(Runnable task) {
+    threads.incrementAndGet();
+    threadFactory.newThread(() -> {
+      try {
+        task.run();
+      } finally {
+        threads.decrementAndGet();
+      }
+    }).start();
+  }
+
+  /**
+   * Wait for the pool to stop.
+   */
+  @Override
+  public void join() throws InterruptedException {
+    stopped.await();
+  }
+
+  /**
+   * Accessor for the number of tasks currently running.
+   *
+   * @return how many virtual threads are running.
+   */
+  @Override
+  public int getThreads() {
+    return threads.get();
+  }
+
+  /**
+   * A virtual thread is made for every task, so none are ever idle.
+   *
+   * @return 0
+   */
+  @Override
+  public int getIdleThreads() {
+    return 0;
+  }
+
+  /**
+   * Virtual threads are cheap enough to never run low on.
+   *
+   * @return false
+   */
+  @Override
+  public boolean isLowOnThreads() {
+    return false;
+  }
+
+  @Override
+  protected void doStop() throws Exception {
+    stopped.countDown();
+    super.doStop();
+  }
+}
@@ -1,18 +1,26 @@
 package com.webcheckers.ui;
 
-import static com.webcheckers.ui.GetReplayGameRoute.MOVE_CONTROLLER_ATTR;
 import static spark.Spark.*;
 
-import java.util.HashMap;
+import java.nio.file.Path;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import com.google.gson.Gson;
 
+import com.webcheckers.application.GameArchive;
 import com.webcheckers.application.GameCenter;
 import com.webcheckers.application.GameLibrary;
+import com.webcheckers.application.IdleReaper;
+import com.webcheckers.application.MatchmakingQueue;
 import com.webcheckers.application.PlayerLobby;
+import com.webcheckers.application.TimingWheel;
 import com.webcheckers.model.Player;
+import spark.Session;
+import spark.embeddedserver.EmbeddedServers;
+import spark.embeddedserver.jetty.EmbeddedJettyFactory;
 import spark.TemplateEngine;
 
 
@@ -80,6 +88,11 @@ public class WebServer {
    */
   public static final String CHECK_TURN_URL = "/checkTurn";
 
+  /**
+   * The URL pattern to request the squares changed since a version of a game.
+   */
+  public static final String BOARD_UPDATE_URL = "/boardUpdate";
+
   /**
    * The URL pattern to request validation of a move.
    */
@@ -90,6 +103,11 @@ public class WebServer {
    */
   public static final String SUBMIT_TURN_URL = "/submitTurn";
 
+  /**
+   * The URL pattern to validate and submit a whole turn in one request.
+   */
+  public static final String SUBMIT_FULL_TURN_URL = "/submitFullTurn";
+
   /**
    * The URL pattern to resign from a game.
    */
@@ -116,14 +134,77 @@ public class WebServer {
   public static final String STOP_WATCHING_URL = "/stopWatching";
 
   /**
-   * The URL pattern for getting the next turn in replay mode.
+   * The URL pattern to request a game against any waiting opponent.
+   */
+  public static final String QUICK_PLAY_URL = "/quickPlay";
+
+  /**
+   * The URL pattern of the WebSocket that pushes game events to clients.
+   * Under {@link #SPECTATOR_URL}, it's the event stream sent to spectators.
+   */
+  public static final String EVENTS_URL = "/events";
+
+  /**
+   * The URL pattern the JSON lists of players and games are served under.
+   */
+  public static final String API_URL = "/api";
+
+  /**
+   * The URL pattern for a page of the players in the lobby.
+   */
+  public static final String PLAYERS_URL = "/players";
+
+  /**
+   * The URL pattern for a page of the active or ended games.
+   */
+  public static final String GAMES_URL = "/games";
+
+  /**
+   * The URL pattern, under the games, to download ended games in PDN.
+   */
+  public static final String PDN_URL = "/pdn";
+
+  /**
+   * The URL pattern the bundled scripts and style sheets are served under.
    */
-  public static final String NEXT_TURN_URL = "/nextTurn";
+  public static final String ASSETS_URL = "/assets";
 
   /**
-   * The URL pattern for getting the next turn in replay mode.
+   * How many recently replayed games to keep in memory.
    */
-  public static final String PREVIOUS_TURN_URL = "/previousTurn";
+  static final int RECENT_GAMES = 16;
+
+  /**
+   * How long a player can go without making a request before they're signed
+   * out, in milliseconds.
+   */
+  static final long PLAYER_IDLE_TIMEOUT = TimeUnit.MINUTES.toMillis(15);
+
+  /**
+   * How long the player whose turn it is can go without making a request,
+   * and without a connection open for their game's events, before they're
+   * resigned from their game, in milliseconds. It's well above the time a
+   * player takes to think about a turn.
+   */
+  static final long GAME_IDLE_TIMEOUT = TimeUnit.MINUTES.toMillis(10);
+
+  /**
+   * How many turns each connection watching a game can fall behind before
+   * the oldest one it hasn't been sent is dropped.
+   */
+  static final int BROADCAST_QUEUE_SIZE = 8;
+
+  /**
+   * The fewest bytes a page or JSON response needs before it's gzipped. Set
+   * the 'compressionMinSize' property to change it.
+   */
+  static final int COMPRESSION_MIN_SIZE = Integer.getInteger("compressionMinSize", 1024);
+
+  /**
+   * How hard responses are gzipped, from 1 (fastest) to 9 (smallest). Set
+   * the 'compressionLevel' property to change it.
+   */
+  static final int COMPRESSION_LEVEL = Integer.getInteger("compressionLevel", 5);
 
   //
   // Attributes
@@ -131,8 +212,14 @@ public class WebServer {
 
   private final TemplateEngine templateEngine;
   private final Gson gson;
+  private final AssetPipeline assets;
   private final PlayerLobby playerLobby;
   private final GameLibrary gameLibrary;
+  private final MatchmakingQueue matchmakingQueue;
+  private final TimingWheel timingWheel;
+  private final IdleReaper idleReaper;
+  private final GameBroadcaster broadcaster;
+  private final boolean useVirtualThreads;
 
   //
   // Constructor
@@ -145,24 +232,48 @@ public class WebServer {
    *    The default {@link TemplateEngine} to render page-level HTML views.
    * @param gson
    *    The Google JSON parser object used to render Ajax responses.
+   * @param assets
+   *    The bundled scripts and style sheets the pages load.
+   * @param useVirtualThreads
+   *    Whether to handle each request on its own virtual thread, instead of
+   *    on Jetty's pool of platform threads.
+   * @param archiveDirectory
+   *    The directory ended games are archived to, which no other server may
+   *    have open, or {@code null} to archive them to a new temporary
+   *    directory of this server's own.
    *
    * @throws NullPointerException
    *    If any of the parameters are {@code null}.
    */
-  public WebServer(final TemplateEngine templateEngine, final Gson gson) {
+  public WebServer(final TemplateEngine templateEngine, final Gson gson,
+                   final AssetPipeline assets, final boolean useVirtualThreads,
+                   final Path archiveDirectory) {
     // validation
     Objects.requireNonNull(templateEngine, "templateEngine must not be null");
     Objects.requireNonNull(gson, "gson must not be null");
+    Objects.requireNonNull(assets, "assets must not be null");
     //
     this.templateEngine = templateEngine;
     this.gson = gson;
+    this.assets = assets;
+    this.useVirtualThreads = useVirtualThreads;
 
-    HashMap<String, Player> playerList = new HashMap<>();
+    ConcurrentSkipListMap<String, Player> playerList = new ConcurrentSkipListMap<>();
     this.playerLobby = new PlayerLobby(playerList);
 
-    HashMap<Integer, GameCenter> activeGameMap = new HashMap<>();
-    HashMap<Integer, GameCenter> endedGameMap = new HashMap<>();
-    this.gameLibrary = new GameLibrary(activeGameMap, endedGameMap);
+    ConcurrentSkipListMap<Integer, GameCenter> activeGameMap = new ConcurrentSkipListMap<>();
+    GameArchive endedGameArchive = archiveDirectory == null
+        ? new GameArchive(RECENT_GAMES)
+        : new GameArchive(archiveDirectory, RECENT_GAMES);
+    this.gameLibrary = new GameLibrary(activeGameMap, endedGameArchive);
+    this.matchmakingQueue = new MatchmakingQueue();
+
+    // a one second tick, with enough slots for a player's timeout to fit in
+    // one turn of the wheel.
+    this.timingWheel = new TimingWheel(TimeUnit.SECONDS.toMillis(1), 1024);
+    this.idleReaper = new IdleReaper(timingWheel, playerLobby, matchmakingQueue,
+        PLAYER_IDLE_TIMEOUT, GAME_IDLE_TIMEOUT);
+    this.broadcaster = new GameBroadcaster(gson, BROADCAST_QUEUE_SIZE);
   }
 
   //
@@ -180,6 +291,18 @@ public class WebServer {
    */
   public void initialize() {
 
+    // The embedded server has to be replaced before any route is defined.
+    if (useVirtualThreads) {
+      VirtualThreadPool threadPool = VirtualThreadPool.create();
+      if (threadPool == null) {
+        LOG.warning("Virtual threads need Java 21 or newer, using platform threads instead.");
+      } else {
+        EmbeddedServers.add(EmbeddedServers.defaultIdentifier(),
+            new EmbeddedJettyFactory().withThreadPool(threadPool));
+        LOG.config("Requests will be handled on virtual threads.");
+      }
+    }
+
     // Configuration to serve static files
     staticFileLocation("/public");
 
@@ -216,6 +339,35 @@ public class WebServer {
     //// Create separate Route classes to handle each route; this keeps your
     //// code clean; using small classes.
 
+    // Pushes turn changes to clients as they happen. WebSockets have to be
+    // defined before any other route.
+    webSocket(EVENTS_URL, new GameEventSocket(broadcaster, idleReaper, gson));
+
+    // Serves the bundled scripts and style sheets, to be cached for good.
+    get(ASSETS_URL + "/" + GetAssetRoute.NAME_PARAM, new GetAssetRoute(assets));
+
+    // Records the activity of signed in players, so that players who leave
+    // without signing out can be cleaned up.
+    before((request, response) -> {
+      Session session = request.session(false);
+      Player currentUser = session == null ? null : session.attribute(GetHomeRoute.CURRENT_USER_ATTR);
+      if (currentUser == null) {
+        return;
+      }
+      if (playerLobby.getPlayerByName(currentUser.getName()) != currentUser) {
+        // the player was signed out for being idle.
+        session.removeAttribute(GetHomeRoute.CURRENT_USER_ATTR);
+        session.removeAttribute(PostSignInRoute.SIGN_IN_STATUS);
+        return;
+      }
+      idleReaper.playerActive(currentUser);
+      Integer gameID = session.attribute(GetGameRoute.GAME_ID_ATTR);
+      if (gameID != null && currentUser.getInGameStatus()) {
+        idleReaper.watchGame(gameID);
+      }
+    });
+    timingWheel.start();
+
     // Shows the Checkers game Home page.
     get(HOME_URL, new GetHomeRoute(playerLobby, templateEngine));
 
@@ -229,17 +381,26 @@ public class WebServer {
     get(GAME_URL, new GetGameRoute(playerLobby, templateEngine, gson));
 
     // Post sign-out information
-    post(SIGN_OUT_URL, new PostSignOutRoute(playerLobby));
+    post(SIGN_OUT_URL, new PostSignOutRoute(playerLobby, matchmakingQueue));
+
+    // Pairs the user with any other player waiting for a game.
+    post(QUICK_PLAY_URL, new PostQuickPlayRoute(matchmakingQueue));
 
     // Allows the client to check if a player has submitted their turn.
     post(CHECK_TURN_URL, new PostCheckTurnRoute(gson));
 
+    // Allows the client to bring its board up to date without reloading the page.
+    post(BOARD_UPDATE_URL, new PostBoardUpdateRoute(gson));
+
     // Allows the client to validate a move
     post(VALIDATE_MOVE_URL, new PostValidateMoveRoute(gson));
 
     // Allows the client to submit a move
     post(SUBMIT_TURN_URL, new PostSubmitTurn(gson));
 
+    // Allows the client to validate and submit every move of a turn at once
+    post(SUBMIT_FULL_TURN_URL, new PostSubmitFullTurnRoute(gson));
+
     // Allows the client to resign from a game
     post(RESIGN_GAME_URL, new PostResignGameRoute(gson));
 
@@ -252,6 +413,9 @@ public class WebServer {
     // Allows the spectator client to check if a player has submitted a turn since the last refresh.
     post(SPECTATOR_URL + CHECK_TURN_URL, new PostCheckTurnRoute(gson));
 
+    // Streams each turn of a game to its spectators as it's committed.
+    get(SPECTATOR_URL + EVENTS_URL, new GetSpectatorEventsRoute(broadcaster, gson));
+
     // Allows the spectator to return to the home page.
     get(SPECTATOR_URL + STOP_WATCHING_URL, new GetSpectatorStopWatchingRoute());
 
@@ -260,17 +424,23 @@ public class WebServer {
 
     // Allows the client to return to the home page from the replay view.
     get(REPLAY_URL + STOP_WATCHING_URL, (request, response) -> {
-      request.session().removeAttribute(MOVE_CONTROLLER_ATTR);
       response.redirect(HOME_URL);
       halt();
       return null;
     });
 
-    // Allows the client to click the 'next' button in replay mode.
-    post(REPLAY_URL + NEXT_TURN_URL, new PostReplayNextTurnRoute(gson));
+    // Lists a page of the players in the lobby as JSON.
+    get(API_URL + PLAYERS_URL, new GetPlayerListRoute(playerLobby, gson));
+
+    // Lists a page of the active or ended games as JSON.
+    get(API_URL + GAMES_URL, new GetGameListRoute(gson));
+
+    // Streams one ended game, or all of them, in PDN.
+    get(API_URL + GAMES_URL + PDN_URL, new GetPdnExportRoute());
 
-    // Allows the client to click the 'previous' button in replay mode.
-    post(REPLAY_URL + PREVIOUS_TURN_URL, new PostReplayPreviousTurnRoute(gson));
+    // Gzips pages and JSON responses, once every route has built its body.
+    after(new CompressionFilter(COMPRESSION_MIN_SIZE, COMPRESSION_LEVEL,
+        Runtime.getRuntime().availableProcessors()));
 
     //
     LOG.config("WebServer is initialized.");
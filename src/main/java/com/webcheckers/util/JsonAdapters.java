@@ -0,0 +1,168 @@
+package com.webcheckers.util;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.webcheckers.model.Move;
+import com.webcheckers.model.Position;
+
+import java.io.IOException;
+
+/**
+ * Hand-written Gson {@link TypeAdapter}s for the values sent on every Ajax
+ * call: {@link Move}s, their {@link Position}s, and {@link Message}s. They
+ * read and write the same JSON as Gson's reflective adapters, field by
+ * field, without reflection.
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+public final class JsonAdapters {
+
+    private JsonAdapters() {
+        // only static helpers.
+    }
+
+    /**
+     * Register every adapter with a GsonBuilder.
+     *
+     * @param builder: The builder of the application's Gson.
+     * @return the same builder, for chaining.
+     */
+    public static GsonBuilder register(GsonBuilder builder) {
+        return builder
+                .registerTypeAdapter(Position.class, new PositionAdapter().nullSafe())
+                .registerTypeAdapter(Move.class, new MoveAdapter().nullSafe())
+                .registerTypeAdapter(Message.class, new MessageAdapter().nullSafe());
+    }
+
+    /**
+     * Converts a {@link Position} to and from {@code {"row":5,"cell":4}}.
+     */
+    static final class PositionAdapter extends TypeAdapter<Position> {
+
+        @Override
+        public void write(JsonWriter out, Position position) throws IOException {
+            out.beginObject();
+            out.name("row").value(position.getRow());
+            out.name("cell").value(position.getCell());
+            out.endObject();
+        }
+
+        @Override
+        public Position read(JsonReader in) throws IOException {
+            int row = 0;
+            int cell = 0;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "row":
+                        row = in.nextInt();
+                        break;
+                    case "cell":
+                        cell = in.nextInt();
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return new Position(row, cell);
+        }
+    }
+
+    /**
+     * Converts a {@link Move} to and from {@code {"start":{...},"end":{...}}}.
+     */
+    static final class MoveAdapter extends TypeAdapter<Move> {
+        private final PositionAdapter positions = new PositionAdapter();
+
+        @Override
+        public void write(JsonWriter out, Move move) throws IOException {
+            out.beginObject();
+            writePosition(out, "start", move.getStart());
+            writePosition(out, "end", move.getEnd());
+            out.endObject();
+        }
+
+        private void writePosition(JsonWriter out, String name, Position position)
+                throws IOException {
+            // like Gson, leave out a missing field rather than writing null.
+            if (position != null) {
+                out.name(name);
+                positions.write(out, position);
+            }
+        }
+
+        @Override
+        public Move read(JsonReader in) throws IOException {
+            Position start = null;
+            Position end = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "start":
+                        start = readPosition(in);
+                        break;
+                    case "end":
+                        end = readPosition(in);
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return new Move(start, end);
+        }
+
+        private Position readPosition(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            return positions.read(in);
+        }
+    }
+
+    /**
+     * Converts a {@link Message} to and from {@code {"text":"...","type":"INFO"}}.
+     */
+    static final class MessageAdapter extends TypeAdapter<Message> {
+
+        @Override
+        public void write(JsonWriter out, Message message) throws IOException {
+            out.beginObject();
+            if (message.getText() != null) {
+                out.name("text").value(message.getText());
+            }
+            out.name("type").value(message.getType().name());
+            out.endObject();
+        }
+
+        @Override
+        public Message read(JsonReader in) throws IOException {
+            String text = null;
+            Message.Type type = Message.Type.INFO;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "text":
+                        if (in.peek() == JsonToken.NULL) {
+                            in.nextNull();
+                        } else {
+                            text = in.nextString();
+                        }
+                        break;
+                    case "type":
+                        type = Message.Type.valueOf(in.nextString());
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return type == Message.Type.ERROR ? Message.error(text) : Message.info(text);
+        }
+    }
+}
@@ -33,6 +33,7 @@ define(function(require){
     // private data
     var _listeners = []; // empty array of Piece movement event listeners
     var _pieces = [];
+    var _dragAndDropReady = false;
     
     // private attributes
     this._gameState = gameState;
@@ -57,6 +58,45 @@ define(function(require){
       _pieces.forEach( this.disablePiece );
     };
 
+    /**
+     * Bring changed Spaces up to date in place, rather than reloading the
+     * page: each Space is emptied, then given its new Piece, if any.
+     *
+     * @param spaces  the changed Spaces, each with a 'row', a 'cell' and
+     *                an optional 'piece' with a 'type' and a 'color'
+     * @param version  the version of the game the Spaces are from
+     */
+    this.updateSpaces = function updateSpaces(spaces, version) {
+      spaces.forEach(space => {
+        var $space = this.getSpace$(new Position(space.row, space.cell));
+        $space.removeClass(PENDING_CLASS).removeClass(VALID_CLASS);
+        $space.find('div.' + PIECE_CLASS).each(function() {
+          // forget any of my Pieces that were captured
+          var idx = _pieces.indexOf(this);
+          if (idx >= 0) _pieces.splice(idx, 1);
+        }).remove();
+        if (space.piece) {
+          var $piece = jQuery('<div></div>')
+            .addClass(PIECE_CLASS)
+            // Pieces keep their ids when they move, so make sure the id is new
+            .attr('id', 'piece-' + space.row + '-' + space.cell + '-' + version)
+            .attr('data-type', space.piece.type)
+            .attr('data-color', space.piece.color);
+          $space.removeClass(SPACE_CLASS).append($piece);
+          if (_dragAndDropReady) {
+            // drag-and-drop is already set up, so set up this Piece too
+            if (space.piece.color === (this._gameState.isPlayerRed() ? 'RED' : 'WHITE')) {
+              _pieces.push($piece[0]);
+            } else {
+              $piece.on({ 'dragstart' : false });
+            }
+          }
+        } else {
+          $space.addClass(SPACE_CLASS);
+        }
+      });
+    };
+
     /**
      * Initializes the board for game play.
      */
@@ -93,6 +133,7 @@ define(function(require){
       },
       // attach these handlers dynamically to all Space elements
       'td.' + SPACE_CLASS);
+      _dragAndDropReady = true;
     }
 
   };
@@ -148,6 +189,28 @@ define(function(require){
     $toCell.removeClass(SPACE_CLASS);
   }
 
+  /**
+   * Apply a move made by someone else: move the Piece, remove any Piece it
+   * jumped, and crown it if it reached the far row.
+   */
+  BoardController.prototype.applyMove = function applyMove(move) {
+    var $piece = this.getPiece$(move.start);
+    if ($piece === null) return;
+    this.movePiece($piece, move);
+    if (Math.abs(move.start.row - move.end.row) === 2) {
+      var $captured = this.getPiece$(new Position(
+          (move.start.row + move.end.row) / 2, (move.start.cell + move.end.cell) / 2));
+      if ($captured !== null) {
+        $captured.parent().addClass(SPACE_CLASS);
+        $captured.remove();
+      }
+    }
+    var color = $piece.attr('data-color');
+    if ((color === 'RED' && move.end.row === 0) || (color === 'WHITE' && move.end.row === 7)) {
+      $piece.attr('data-type', 'KING');
+    }
+  }
+
   /**
    * Gets a jQuery element for a specific position.
    */
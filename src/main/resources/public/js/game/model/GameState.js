@@ -93,6 +93,41 @@ define(function(require){
       return gameData.activeColor === 'RED';
     };
 
+    /**
+     * Change whose turn is active, when the board is updated in place.
+     *
+     * @param color  'RED' or 'WHITE'
+     */
+    this.setActiveColor = function setActiveColor(color) {
+      gameData.activeColor = color;
+    };
+
+    /**
+     * Get the version of the game the page is showing; only known in the
+     * PLAY and SPECTATOR modes.
+     */
+    this.getVersion = function getVersion() {
+      return gameData.version;
+    };
+
+    /**
+     * Record the version of the game once the board has been updated to it.
+     */
+    this.setVersion = function setVersion(version) {
+      gameData.version = version;
+    };
+
+    /**
+     * Mark the game as over, when the page hears about it without reloading.
+     *
+     * @param message  the 'end of game' message
+     */
+    this.endGame = function endGame(message) {
+      gameData.modeOptions = gameData.modeOptions || {};
+      gameData.modeOptions[GameState.IS_END_OPTION] = true;
+      gameData.modeOptions[GameState.END_MESSAGE_OPTION] = message;
+    };
+
     /**
      * Query whether current user is the RED player.
      *
@@ -40,8 +40,8 @@ define(function (require) {
    */
   CheckingMyTurnState.prototype.onEntry = function onEntry() {
     this._controller.disableButton(PlayModeConstants.RESIGN_BUTTON_ID);
-    // query the server if it's my turn
-    AjaxUtils.callServer('/checkTurn',
+    // query the server if it's my turn, waiting until it is
+    AjaxUtils.callServer('/checkTurn?waitForTurn=true',
         // the handler method should be run in the context of 'this' State object
         handleResponse, this);
   };
@@ -53,8 +53,8 @@ define(function (require) {
   function handleResponse(message) {
     if (message.type === 'INFO') {
       if (message.text === 'true') {
-        // end the State machine by refreshing the Game View (via a browser page request)
-        this._controller.refresh();
+        // bring the Game View up to date with the opponent's turn
+        this._controller.updateBoard();
       } else {
         this._controller.setState(PlayModeConstants.WAITING_TO_CHECK_MY_TURN);
       }
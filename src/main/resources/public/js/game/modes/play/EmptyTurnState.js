@@ -60,6 +60,14 @@ define(function(require){
      * The player starts her turn by request an initial move.
      */
     EmptyTurnState.prototype.requestMove = function requestMove(pendingMove) {
+        // a jump starts a capture path, which the server checks when it's submitted
+        if (this._controller.canExtendPath(pendingMove)) {
+            this._controller.extendPath(pendingMove);
+            // only the Piece making the jumps may move again
+            this._controller.disableAllMyPieces();
+            this._controller.setState(PlayModeConstants.STABLE_TURN);
+            return;
+        }
         // register the requested move
         this._controller.setPendingMove(pendingMove);
         // and change the data to Pending
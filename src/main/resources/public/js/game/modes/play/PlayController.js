@@ -15,6 +15,7 @@ define(function(require){
   const AjaxUtils = require('../../util/AjaxUtils');
   const LangUtils = require('../../util/LangUtils');
   const PlayModeConstants = require('./PlayModeConstants');
+  const Position = require('../../model/Position');
 
   // import PLAY mode states
   const StartingPlayModeState = require('./StartingPlayModeState');
@@ -48,6 +49,7 @@ define(function(require){
     // private data
     this._turn = [];
     this._turnTemp = null;
+    this._pathTurn = false;
     this._pendingMove = null;
     this.$activePiece = null;
     this._boardController = boardController;
@@ -70,8 +72,9 @@ define(function(require){
     this.addStateDefinition(PlayModeConstants.WAITING_FOR_BACKUP_VALIDATION,
         new WaitingForBackupValidationState(this));
     // "Waiting for My Turn" composite states
+    const waitingForMyTurnState = new WaitingForMyTurnState(this, gameState);
     this.addStateDefinition(PlayModeConstants.WAITING_TO_CHECK_MY_TURN,
-        new WaitingForMyTurnState(this));
+        waitingForMyTurnState);
     this.addStateDefinition(PlayModeConstants.CHECKING_MY_TURN,
         new CheckingMyTurnState(this));
     // The "Game Over" singular state
@@ -111,6 +114,15 @@ define(function(require){
       boardController.initializeDragAndDrop(gameState);
     };
     
+    /**
+     * Open the connection the server pushes the game's events on, which
+     * also tells it the player is still there during their own turn.
+     * Delegate to the "Waiting for My Turn" state, which listens to it.
+     */
+    this.connectEvents = function connectEvents() {
+      waitingForMyTurnState.connect();
+    };
+
     /**
      * Display a message to the Game View.
      * Delegate to the GameView component.
@@ -119,6 +131,14 @@ define(function(require){
       view.displayMessage(message);
     }
 
+    /**
+     * Show whose turn it is, once the turn has changed without reloading.
+     * Delegate to the GameView component.
+     */
+    this.setTurnFlasher = function setTurnFlasher() {
+      view.setTurnFlasher();
+    }
+
   }
 
   //
@@ -209,10 +229,91 @@ define(function(require){
     window.location = gameViewURL;
   };
 
+  /**
+   * Bring the Game View up to date when the turn changes, by applying only
+   * the Spaces that changed since the version the page shows. The page is
+   * reloaded instead if the game is over, or the server can't tell what
+   * changed.
+   */
+  PlayController.prototype.updateBoard = function updateBoard() {
+    const version = this._gameState.getVersion();
+    if (!LangUtils.exists(version)) {
+      this.refresh();
+      return;
+    }
+    AjaxUtils.callServer(`/boardUpdate?version=${version}`,
+        // the handler method should be run in the context of 'this' Controller object
+        handleResponse, this);
+
+    //
+    function handleResponse(update) {
+      if (update.gameOver || !LangUtils.exists(update.spaces)) {
+        this.refresh();
+        return;
+      }
+      this.$activePiece = null;
+      this._pathTurn = false;
+      this._boardController.updateSpaces(update.spaces, update.version);
+      this._gameState.setVersion(update.version);
+      this._gameState.setActiveColor(update.activeColor);
+      if (!this._gameState.isMyTurn()) {
+        this.disableAllMyPieces();
+      }
+      this.setTurnFlasher();
+      // start over, now that the page shows the latest turn
+      this.setState(PlayModeConstants.STARTING_PLAY_MODE);
+    }
+  };
+
   PlayController.prototype.isTurnActive = function isTurnActive() {
     return this._turn.length > 0;
   };
 
+  /**
+   * Queries whether the turn is a capture path the server hasn't seen yet.
+   * Such a turn is sent to the server all at once when it's submitted.
+   */
+  PlayController.prototype.isPathTurn = function isPathTurn() {
+    return this._pathTurn;
+  };
+
+  /**
+   * Queries whether a requested move can be added to a capture path
+   * without asking the server: it must be a jump over an opponent's Piece,
+   * starting where the last jump of the path landed.  The server checks
+   * the whole path when the turn is submitted.
+   */
+  PlayController.prototype.canExtendPath = function canExtendPath(move) {
+    if (this.isTurnActive() && !this._pathTurn) return false;
+    if (Math.abs(move.start.row - move.end.row) !== 2
+        || Math.abs(move.start.cell - move.end.cell) !== 2) return false;
+    if (this._pathTurn) {
+      const last = this._turn[this._turn.length - 1];
+      if (last.end.row !== move.start.row || last.end.cell !== move.start.cell) return false;
+    }
+    const $piece = this._boardController.getPiece$(move.start);
+    const $jumped = this._boardController.getPiece$(new Position(
+        (move.start.row + move.end.row) / 2, (move.start.cell + move.end.cell) / 2));
+    return $piece !== null && $jumped !== null
+        && $jumped.attr('data-color') !== $piece.attr('data-color');
+  };
+
+  /**
+   * Add a jump to the capture path, without asking the server.
+   */
+  PlayController.prototype.extendPath = function extendPath(move) {
+    this.setPendingMove(move);
+    this.addPendingMove();
+    this._pathTurn = true;
+  };
+
+  /**
+   * Get the moves of the turn, in the order they were made.
+   */
+  PlayController.prototype.getTurn = function getTurn() {
+    return this._turn;
+  };
+
   PlayController.prototype.clearTurnDuringSubmit = function clearTurnDuringSubmit() {
     this._turnTemp = this._turn;
     this._turn = [];
@@ -304,6 +405,7 @@ define(function(require){
     if (!this.isTurnActive()) {
       this._boardController.resetSpaceValidated(move.start);
       this.$activePiece = null;
+      this._pathTurn = false;
     }
     //
     return !this.isTurnActive();
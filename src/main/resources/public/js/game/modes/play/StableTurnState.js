@@ -51,6 +51,16 @@ define(function(require){
    * The player may request an additional move for a given turn.
    */
   StableTurnState.prototype.requestMove = function requestMove(pendingMove) {
+    // the next hop of a capture path needs no round trip
+    if (this._controller.canExtendPath(pendingMove)) {
+      this._controller.extendPath(pendingMove);
+      return;
+    }
+    if (this._controller.isPathTurn()) {
+      this._controller.displayMessage({type: 'ERROR',
+          text: 'Only a jump can follow a jump, from where the last one landed.'});
+      return;
+    }
     // register the requested move
     this._controller.setPendingMove(pendingMove);
     // and change the data to Pending
@@ -61,6 +71,13 @@ define(function(require){
    * Backup a single move.
    */
   StableTurnState.prototype.backupMove = function backupMove() {
+    // the server hasn't seen a capture path, so there's nothing to ask it
+    if (this._controller.isPathTurn()) {
+      this._controller.popMove();
+      const isTurnActive = this._controller.isTurnActive();
+      this._controller.setState(isTurnActive ? PlayModeConstants.STABLE_TURN : PlayModeConstants.EMPTY_TURN);
+      return;
+    }
     this._controller.setState(PlayModeConstants.WAITING_FOR_BACKUP_VALIDATION);
   };
 
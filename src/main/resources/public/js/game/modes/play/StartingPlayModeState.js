@@ -58,6 +58,8 @@ define(function(require){
     } else {
       // hide the Exit button
       this._controller.hideButton(PlayModeConstants.EXIT_BUTTON_ID);
+      // stay connected through my own turns, too
+      this._controller.connectEvents();
       // switch to an active Play state
       if (this._gameState.isMyTurn()) {
         console.debug("It's your turn.");
@@ -87,7 +89,7 @@ define(function(require){
           + "Use the Backup button to remove the most recent move. \n"
           + "Use the Submit button when you are ready to commit your complete turn.";
     } else {
-      helperText += "It's " + opponentPlayer + " turn.  The page will refresh periodically\n";
+      helperText += "It's " + opponentPlayer + " turn.  The board will be updated\n";
       helperText += "and you will be informed when it is your turn.";
     }
     this._view.setHelperText(helperText);
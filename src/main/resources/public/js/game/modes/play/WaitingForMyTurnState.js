@@ -3,24 +3,35 @@
  *
  * This component is an concrete implementation of a state
  * for the Game view; this state represents the state in which
- * the view is waiting between calls to the server to check whether
- * it's the current player's turn.
+ * the view is waiting for it to be the current player's turn. The server
+ * pushes each turn change over a WebSocket; if that isn't available, the
+ * view asks the server to answer once it's the current player's turn.
+ * The WebSocket is opened as soon as Play mode starts, and stays open
+ * during the player's own turns, so the server knows they're still there
+ * while they think.
  */
 define(function(require){
     'use strict';
 
     // imports
     const PlayModeConstants = require('./PlayModeConstants');
+    const AjaxUtils = require('../../util/AjaxUtils');
+    const GameEvents = require('../../util/GameEvents');
 
     /**
      * Constructor function.
      *
      * @param {PlayController} controller
      *    The Play mode controller object.
+     * @param {GameState} gameState
+     *    The state of the game.
      */
-    function WaitingForMyTurnState(controller) {
+    function WaitingForMyTurnState(controller, gameState) {
         // private attributes
         this._controller = controller;
+        this._gameState = gameState;
+        this._socket = null;
+        this._pushFailed = false;
     };
 
     //
@@ -39,8 +50,52 @@ define(function(require){
      */
     WaitingForMyTurnState.prototype.onEntry = function onEntry() {
         this._controller.enableButton(PlayModeConstants.RESIGN_BUTTON_ID);
-        // wait five seconds then check my turn
-        setTimeout(() => { this._controller.setState(PlayModeConstants.CHECKING_MY_TURN); }, 5000);
+        this.connect();
+        if (this._socket === null) {
+            // check my turn; the server holds the check open until the turn changes
+            setTimeout(() => { this._controller.setState(PlayModeConstants.CHECKING_MY_TURN); }, 0);
+        }
+    }
+
+    /**
+     * Open the WebSocket the server pushes the game's events on, unless
+     * it's already open or has failed.
+     */
+    WaitingForMyTurnState.prototype.connect = function connect() {
+        if (this._socket === null && !this._pushFailed) {
+            this._socket = GameEvents.connect(AjaxUtils.getGameID(),
+                handleEvent.bind(this), handleClose.bind(this));
+        }
+    }
+
+    //
+    // Private methods
+    //
+
+    function handleEvent(event) {
+        const myColor = this._gameState.isPlayerRed() ? 'RED' : 'WHITE';
+        if (event.type === 'GAME_OVER') {
+            // end the State machine by refreshing the Game View (via a browser page request)
+            this._controller.refresh();
+        } else if (event.type === 'TURN' && event.activeColor === myColor
+                && !(event.version <= this._gameState.getVersion())) {
+            // bring the Game View up to date with the opponent's turn, unless
+            // the page already shows it
+            this._controller.updateBoard();
+        }
+    }
+
+    function handleClose() {
+        // fall back to asking the server to wait for my turn.
+        this._socket = null;
+        this._pushFailed = true;
+        try {
+            this._controller.checkInState(PlayModeConstants.WAITING_TO_CHECK_MY_TURN);
+        } catch (notWaiting) {
+            // it's my turn; the fall back starts once I'm waiting again.
+            return;
+        }
+        this._controller.setState(PlayModeConstants.CHECKING_MY_TURN);
     }
 
     // export class constructor
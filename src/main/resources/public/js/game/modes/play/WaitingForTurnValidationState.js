@@ -40,7 +40,14 @@ define(function(require){
    */
   WaitingForTurnValidationState.prototype.onEntry = function onEntry() {
     // clear the turn temporarily (to put back if the SubmitTurn action fails)
-    this._controller.clearTurnDuringSubmit();
+    const turn = this._controller.clearTurnDuringSubmit();
+    // a capture path is validated and submitted all at once
+    if (this._controller.isPathTurn()) {
+      AjaxUtils.callServerWithData('/submitFullTurn', turn,
+          // the handler method should be run in the context of 'this' State object
+          handleResponse, this);
+      return;
+    }
     // send the action to the server
     AjaxUtils.callServer('/submitTurn',
         // the handler method should be run in the context of 'this' State object
@@ -61,8 +68,8 @@ define(function(require){
   function handleResponse(message) {
     this._controller.displayMessage(message);
     if (message.type === 'INFO') {
-      // end the State machine by refreshing the Game View (via a browser page request)
-      this._controller.refresh();
+      // bring the Game View up to date with the turn just submitted
+      this._controller.updateBoard();
     }
     // handle error message
     // there are valid error conditions, such as not completing a jump sequence.
@@ -70,6 +77,14 @@ define(function(require){
       this._controller.displayMessage(message);
       // put the turn state back
       this._controller.putTurnBackAfterFailedSubmit();
+      // the server left the board as it was, so take back the whole path
+      if (this._controller.isPathTurn()) {
+        while (this._controller.isTurnActive()) {
+          this._controller.popMove();
+        }
+        this._controller.setState(PlayModeConstants.EMPTY_TURN);
+        return;
+      }
       this._controller.setState(PlayModeConstants.STABLE_TURN);
     }
   }
@@ -0,0 +1,150 @@
+/**
+ * This module exports the ReplayBoard class constructor.
+ *
+ * This component is an Information Expert on the positions of a game
+ * being replayed.  The server sends every move of the game once, each
+ * packed into a number the way the game's record keeps it: 3 bits each
+ * for the start row, start cell, end row and end cell.  Every position
+ * of the game is rebuilt from those moves when the view starts, along
+ * with whose turn it was, so stepping between turns never asks the server
+ * for anything.
+ */
+define(function(require){
+  'use strict';
+
+  /**
+   * Constructor function.
+   *
+   * @param {number[]} moves
+   *    Every move of the game, packed, in order.
+   * @param {string} finalTurn
+   *    Whose turn it was when the game ended: 'RED' or 'WHITE'.
+   */
+  function ReplayBoard(moves, finalTurn) {
+    // private attributes
+    this._positions = [startingPosition()];
+    this._turns = ['RED'];
+    for (let i = 0; i < moves.length; i++) {
+      this._positions.push(applyMove(this._positions[i], moves[i]));
+      // Red moves first, and a next move that jumps on from where this jump
+      // landed is still the same turn.
+      const turn = this._turns[i];
+      this._turns.push(i + 1 < moves.length && continuesJump(moves[i], moves[i + 1])
+          ? turn : (turn === 'RED' ? 'WHITE' : 'RED'));
+    }
+    this._turns[moves.length] = finalTurn;
+  }
+
+  //
+  // Public (external) methods
+  //
+
+  /**
+   * Get how many moves were made during the game.
+   */
+  ReplayBoard.prototype.getMoveCount = function getMoveCount() {
+    return this._positions.length - 1;
+  };
+
+  /**
+   * Get whose turn it was after a number of moves.
+   *
+   * @param {number} moveCount
+   *    How many moves had been made, 0 for the starting position.
+   * @return {string} 'RED' or 'WHITE'
+   */
+  ReplayBoard.prototype.getTurn = function getTurn(moveCount) {
+    return this._turns[moveCount];
+  };
+
+  /**
+   * Get the Spaces that differ between two positions of the game, in the
+   * form the BoardController updates Spaces from.
+   *
+   * @param {number} from
+   *    How many moves had been made in the position shown.
+   * @param {number} to
+   *    How many moves had been made in the position to show.
+   */
+  ReplayBoard.prototype.getChangedSpaces = function getChangedSpaces(from, to) {
+    const before = this._positions[from];
+    const after = this._positions[to];
+    const spaces = [];
+    for (let row = 0; row < 8; row++) {
+      for (let cell = 0; cell < 8; cell++) {
+        const piece = after[row][cell];
+        if (!samePiece(before[row][cell], piece)) {
+          spaces.push(piece === null ? {row, cell} : {row, cell, piece});
+        }
+      }
+    }
+    return spaces;
+  };
+
+  //
+  // Private functions
+  //
+
+  /**
+   * Build the position at the start of a game: White on the dark Spaces of
+   * the first three rows, and Red on those of the last three.
+   */
+  function startingPosition() {
+    const position = [];
+    for (let row = 0; row < 8; row++) {
+      position.push([]);
+      for (let cell = 0; cell < 8; cell++) {
+        const dark = (row + cell) % 2 === 1;
+        if (dark && row <= 2) {
+          position[row].push({type: 'SINGLE', color: 'WHITE'});
+        } else if (dark && row >= 5) {
+          position[row].push({type: 'SINGLE', color: 'RED'});
+        } else {
+          position[row].push(null);
+        }
+      }
+    }
+    return position;
+  }
+
+  /**
+   * Make the position after a packed move: move the Piece, capture any
+   * Piece it jumped, and crown it if it reached the far row.
+   */
+  function applyMove(position, move) {
+    const startRow = move >> 9 & 7;
+    const startCell = move >> 6 & 7;
+    const endRow = move >> 3 & 7;
+    const endCell = move & 7;
+    const next = position.map(row => row.slice());
+    let piece = next[startRow][startCell];
+    next[startRow][startCell] = null;
+    if (Math.abs(startRow - endRow) === 2) {
+      next[(startRow + endRow) / 2][(startCell + endCell) / 2] = null;
+    }
+    if (piece !== null && ((piece.color === 'RED' && endRow === 0)
+        || (piece.color === 'WHITE' && endRow === 7))) {
+      piece = {type: 'KING', color: piece.color};
+    }
+    next[endRow][endCell] = piece;
+    return next;
+  }
+
+  /**
+   * Check if a packed move is another jump from where the last jump landed.
+   */
+  function continuesJump(previous, move) {
+    return Math.abs((previous >> 3 & 7) - (previous >> 9 & 7)) === 2
+        && Math.abs((move >> 3 & 7) - (move >> 9 & 7)) === 2
+        && (previous & 0x3F) === (move >> 6 & 0x3F);
+  }
+
+  function samePiece(a, b) {
+    return a === b
+        || (a !== null && b !== null && a.type === b.type && a.color === b.color);
+  }
+
+  // export class constructor
+  return ReplayBoard;
+
+});
@@ -2,9 +2,9 @@
  * This module exports the ReplayController class constructor.
  *
  * This component controls the user experience of the Replay Game view.
- * There's a simple State model that largely toggles between waiting for
- * a user action (such as clicking the 'Next' button) to the state that
- * actually performs the action on the server, via an Ajax call.
+ * The page is sent every move of the game once, and steps between turns
+ * itself when the user clicks the 'Next' or 'Previous' buttons, without
+ * asking the server.
  *
  * There is also an Exit button that the user may click to formally exit
  * from watching this specific game.
@@ -16,16 +16,22 @@ define(function(require){
   const StatePatternMixin = require('../../util/StatePatternMixin');
   const ControlsToolbarMixin = require('../../util/ControlsToolbarMixin');
   const ReplayModeConstants = require('./ReplayModeConstants');
+  const ReplayBoard = require('./ReplayBoard');
   
   // import REPLAY mode states
   const StartingReplayModeState = require('./StartingReplayModeState');
   const WaitingForUserActionState = require('./WaitingForUserActionState');
-  const WaitingForServerActionResponseState = require('./WaitingForServerActionResponseState');
 
   /**
    * Constructor function.
    */
-  function ReplayController(view, gameState) {
+  function ReplayController(view, boardController, gameState) {
+    // private attributes
+    this._boardController = boardController;
+    this._gameState = gameState;
+    this._board = new ReplayBoard(gameState.getModeOption(ReplayModeConstants.MOVES_OPTION),
+        gameState.getModeOption(ReplayModeConstants.FINAL_TURN_OPTION));
+    this._moveIndex = gameState.getModeOption(ReplayModeConstants.MOVE_INDEX_OPTION);
 
     // expose read-only Game data
     this.getGameID = function getGameID() {
@@ -44,8 +50,6 @@ define(function(require){
         new StartingReplayModeState(this, view, gameState));
     this.addStateDefinition(ReplayModeConstants.WAITING_FOR_USER_ACTION,
         new WaitingForUserActionState(this));
-    this.addStateDefinition(ReplayModeConstants.WAITING_FOR_SERVER_RESPONSE,
-        new WaitingForServerActionResponseState(this));
 
     // Add the ModeControls mixin
     ControlsToolbarMixin.call(this);
@@ -75,6 +79,14 @@ define(function(require){
       view.displayMessage(message);
     };
 
+    /**
+     * Show whose turn it is, once the turn has changed without reloading.
+     * Delegate to the GameView component.
+     */
+    this.setTurnFlasher = function setTurnFlasher() {
+      view.setTurnFlasher();
+    };
+
   }
 
   //
@@ -96,31 +108,70 @@ define(function(require){
    */
   ReplayController.prototype.enableAllControls = function enableAllControls() {
     //
-    if (!this.getOption(ReplayModeConstants.HAS_NEXT_OPTION)) {
+    if (this.hasNext()) {
+      this.enableButton(ReplayModeConstants.NEXT_BUTTON_ID);
+    } else {
       this.disableButton(ReplayModeConstants.NEXT_BUTTON_ID);
     }
-    if (!this.getOption(ReplayModeConstants.HAS_PREVIOUS_OPTION)) {
+    if (this.hasPrevious()) {
+      this.enableButton(ReplayModeConstants.PREVIOUS_BUTTON_ID);
+    } else {
       this.disableButton(ReplayModeConstants.PREVIOUS_BUTTON_ID);
     }
     this.enableButton(ReplayModeConstants.EXIT_BUTTON_ID);
   };
 
   /**
-   * Send the 'Next Turn' action to the WAITING_FOR_SERVER_RESPONSE state.
+   * Queries whether there is a move after the position shown.
+   */
+  ReplayController.prototype.hasNext = function hasNext() {
+    return this._moveIndex < this._board.getMoveCount();
+  };
+
+  /**
+   * Queries whether there is a move before the position shown.
+   */
+  ReplayController.prototype.hasPrevious = function hasPrevious() {
+    return this._moveIndex > 0;
+  };
+
+  /**
+   * Show the position after the next move.
    */
   ReplayController.prototype.requestNextTurn = function requestNextTurn() {
     //
     this.checkInState(ReplayModeConstants.WAITING_FOR_USER_ACTION);
-    this.setState(ReplayModeConstants.WAITING_FOR_SERVER_RESPONSE, "/replay/nextTurn");
+    if (this.hasNext()) {
+      this._showMove(this._moveIndex + 1);
+    }
   };
 
   /**
-   * Send the 'Previous Turn' action to the WAITING_FOR_SERVER_RESPONSE state.
+   * Show the position before the last move.
    */
   ReplayController.prototype.requestPreviousTurn = function requestPreviousTurn() {
     //
     this.checkInState(ReplayModeConstants.WAITING_FOR_USER_ACTION);
-    this.setState(ReplayModeConstants.WAITING_FOR_SERVER_RESPONSE, "/replay/previousTurn");
+    if (this.hasPrevious()) {
+      this._showMove(this._moveIndex - 1);
+    }
+  };
+
+  /**
+   * Update only the Spaces that differ from the position shown, along with
+   * whose turn it is, and keep the position in the page's URL so a reload
+   * shows the same turn.
+   */
+  ReplayController.prototype._showMove = function _showMove(moveIndex) {
+    this._boardController.updateSpaces(
+        this._board.getChangedSpaces(this._moveIndex, moveIndex), moveIndex);
+    this._moveIndex = moveIndex;
+    this._gameState.setActiveColor(this._board.getTurn(moveIndex));
+    this.setTurnFlasher();
+    const url = new URL(window.location.href);
+    url.searchParams.set(ReplayModeConstants.MOVE_PARAM, moveIndex);
+    window.history.replaceState(null, '', url.toString());
+    this.enableAllControls();
   };
 
   /**
@@ -12,7 +12,6 @@ define(function(){
 
       STARTING_REPLAY_MODE: 'Starting Replay Mode'
       ,WAITING_FOR_USER_ACTION: 'Waiting for the User Action'
-      ,WAITING_FOR_SERVER_RESPONSE: 'Waiting for Server Response'
 
       //
       // Buttons
@@ -26,8 +25,10 @@ define(function(){
       // Options
       //
 
-      ,HAS_NEXT_OPTION: 'hasNext'
-      ,HAS_PREVIOUS_OPTION: 'hasPrevious'
+      ,MOVES_OPTION: 'moves'
+      ,MOVE_INDEX_OPTION: 'moveIndex'
+      ,FINAL_TURN_OPTION: 'finalTurn'
+      ,MOVE_PARAM: 'move'
 
     };
 });
@@ -39,8 +39,8 @@ define(function(require){
    * Method when entering this state.
    */
   CheckingForNextTurnState.prototype.onEntry = function onEntry() {
-    // query the server if the next turn has been played
-    AjaxUtils.callServer('/spectator/checkTurn',
+    // query the server if the next turn has been played, waiting until it has
+    AjaxUtils.callServer('/spectator/checkTurn?waitForTurn=true',
         // the handler method should be run in the context of 'this' State object
         handleResponse, this);
   };
@@ -2,9 +2,10 @@
  * This module exports the SpectatorController class constructor.
  *
  * This component controls the user experience of the Spectator's Game view.
- * There's a simple State model that largely toggles between waiting to
- * check for a game turn to the state that actually performs the check on
- * the server, via an Ajax call.
+ * The server streams each turn to the view as it's played.  Browsers that
+ * can't receive the stream use a simple State model that toggles between
+ * waiting to check for a game turn to the state that actually performs the
+ * check on the server, via an Ajax call.
  *
  * There is also an Exit button that the user may click to formally exit
  * from watching this specific game.
@@ -25,7 +26,7 @@ define(function(require){
   /**
    * Constructor function.
    */
-  function SpectatorController(view, gameState) {
+  function SpectatorController(view, boardController, gameState) {
 
     // expose read-only Game data
     this.getGameID = function () {
@@ -38,7 +39,7 @@ define(function(require){
     this.addStateDefinition(SpectatorModeConstants.STARTING_SPECTATOR_MODE,
         new StartingSpectatorModeState(this, view, gameState));
     this.addStateDefinition(SpectatorModeConstants.WAITING_FOR_NEXT_TURN,
-        new WaitingForNextTurnState(this));
+        new WaitingForNextTurnState(this, boardController, gameState));
     this.addStateDefinition(SpectatorModeConstants.CHECKING_FOR_NEXT_TURN,
         new CheckingForNextTurnState(this));
     
@@ -66,6 +67,20 @@ define(function(require){
       view.displayMessage(message);
     };
 
+    /**
+     * Show the players, and whose turn it is or how the game ended.
+     */
+    this.showGameStatus = function showGameStatus() {
+      let helperText = `${gameState.getRedPlayer()}, Red, is playing ${gameState.getWhitePlayer()}. <br/><br/>`;
+      if (gameState.isGameOver()) {
+        helperText += `<b> ${gameState.getGameOverMessage()} </b>`;
+      } else {
+        helperText += `It's ${gameState.getActivePlayer()} turn.  The board will update as each turn is played.`;
+      }
+      view.setHelperText(helperText);
+      view.setTurnFlasher();
+    };
+
   }
 
   //
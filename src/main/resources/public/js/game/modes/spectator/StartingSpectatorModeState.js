@@ -62,13 +62,7 @@ define(function(require){
    */
   StartingSpectatorModeState.prototype._initializeView = function _initializeView() {
     // Create helper text
-    let helperText = `${this._gameState.getRedPlayer()}, Red, is playing ${this._gameState.getWhitePlayer()}. <br/><br/>`;
-    if (this._gameState.isGameOver()) {
-      helperText += `<b> ${this._gameState.getGameOverMessage()} </b>`;
-    } else {
-      helperText += `It's ${this._gameState.getActivePlayer()} turn.  The page will refresh periodically.`;
-    }
-    this._view.setHelperText(helperText);
+    this._controller.showGameStatus();
   };
 
   // export class constructor
@@ -3,22 +3,38 @@
  * 
  * This component is an concrete implementation of a state
  * for the Game view; this state represents the state in which
- * the view is waiting between calls to the server to check whether
- * the next turn has been made in the game being spectated.
+ * the view is waiting for the next turn of the game being spectated.
+ * The turns are streamed from the server and applied to the board as they
+ * arrive; if the browser can't receive the stream, it asks the server to
+ * tell it once the next turn has been made.
  */
 define(function(require){
   'use strict';
 
   // imports
   const SpectatorModeConstants = require('./SpectatorModeConstants');
+  const GameEvents = require('../../util/GameEvents');
 
   /**
    * Constructor function.
    * 
    * @param {SpectatorController} controller
    *    The Spectator mode controller object.
+   * @param {BoardController} boardController
+   *    The board that turns are applied to.
+   * @param {GameState} gameState
+   *    The state of the game.
    */
-  function WaitingForNextTurnState(controller) {
+  function WaitingForNextTurnState(controller, boardController, gameState) {
+    // private attributes
+    this._controller = controller;
+    this._boardController = boardController;
+    this._gameState = gameState;
+    // the stream of game events; undefined until it has been opened
+    this._events = undefined;
+    // true until the first event after each (re)connection is checked
+    this._resync = true;
+
     // a function to change the Spectator controller's
     // state to perform the 'next turn' check.
     this._checkNextTurn = function () {
@@ -41,10 +57,68 @@ define(function(require){
    * Method when entering this state.
    */
   WaitingForNextTurnState.prototype.onEntry = function onEntry() {
-    // wait five seconds then check my turn
-    setTimeout(this._checkNextTurn, 5000);
+    if (this._gameState.isGameOver()) {
+      // nothing more will happen
+      return;
+    }
+    if (this._events === undefined) {
+      this._events = GameEvents.stream(this._gameState.getGameID(),
+          handleEvent.bind(this), handleOpen.bind(this), handleError.bind(this));
+    }
+    if (this._events === null) {
+      // check the next turn; the server holds the check open until it's played
+      setTimeout(this._checkNextTurn, 0);
+    }
   };
 
+  //
+  // Private methods
+  //
+
+  function handleOpen() {
+    this._resync = true;
+  }
+
+  function handleEvent(event) {
+    const version = this._gameState.getVersion();
+    if (event.version >= 0 && version !== null) {
+      // after (re)connecting, the stream only resumes from the page's
+      // version; otherwise turns must arrive one version at a time.
+      const behind = this._resync
+          ? event.version !== (event.type === 'MOVE' ? version + 1 : version)
+          : event.version > version + 1;
+      this._resync = false;
+      if (behind) {
+        // turns were missed, so redisplay the Game View to catch up
+        window.location.reload(true);
+        return;
+      }
+      this._gameState.setVersion(event.version);
+    }
+    switch (event.type) {
+    case 'MOVE':
+      this._boardController.applyMove(event.move);
+      break;
+    case 'TURN':
+      this._gameState.setActiveColor(event.activeColor);
+      this._controller.showGameStatus();
+      break;
+    case 'GAME_OVER':
+      this._gameState.endGame(event.result);
+      this._controller.showGameStatus();
+      this._events.close();
+      break;
+    }
+  }
+
+  function handleError() {
+    // the browser reconnects by itself unless the stream was refused
+    if (this._events.readyState === EventSource.CLOSED) {
+      this._events = null;
+      setTimeout(this._checkNextTurn, 0);
+    }
+  }
+
   // export class constructor
   return WaitingForNextTurnState;
   
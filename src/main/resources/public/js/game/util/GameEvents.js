@@ -0,0 +1,66 @@
+/**
+ * This module exports a map of functions used to receive game events pushed
+ * by the server.
+ */
+define(function (require) {
+  'use strict';
+
+  /**
+   * Utility object with methods for listening to game events.
+   */
+  const GameEvents = {
+
+    /**
+     * Open a WebSocket that the server pushes the events of a game to.
+     *
+     * @param gameID  the ID of the game to listen to
+     * @param onEvent  the handler for each event received (as an object)
+     * @param onClose  the handler for when the connection is closed, or fails
+     *
+     * @return {WebSocket}  the open WebSocket; or null if the browser
+     *    doesn't support WebSockets
+     */
+    connect: function (gameID, onEvent, onClose) {
+      if (!('WebSocket' in window)) {
+        return null;
+      }
+      const scheme = (window.location.protocol === 'https:') ? 'wss' : 'ws';
+      const socket = new WebSocket(`${scheme}://${window.location.host}/events?gameID=${gameID}`);
+      socket.onmessage = function (message) {
+        onEvent(JSON.parse(message.data));
+      };
+      socket.onclose = onClose;
+      return socket;
+    },
+
+    /**
+     * Open the read-only stream of Server-Sent Events that a spectator is
+     * sent the events of a game on.  The browser reconnects by itself if the
+     * connection drops.
+     *
+     * @param gameID  the ID of the game to watch
+     * @param onEvent  the handler for each event received (as an object)
+     * @param onOpen  the handler for each time the stream is (re)connected
+     * @param onError  the handler for when the connection drops, or fails
+     *
+     * @return {EventSource}  the open stream; or null if the browser
+     *    doesn't support Server-Sent Events
+     */
+    stream: function (gameID, onEvent, onOpen, onError) {
+      if (!('EventSource' in window)) {
+        return null;
+      }
+      const source = new EventSource(`/spectator/events?gameID=${gameID}`);
+      ['MOVE', 'TURN', 'GAME_OVER'].forEach(function (type) {
+        source.addEventListener(type, function (message) {
+          onEvent(JSON.parse(message.data));
+        });
+      });
+      source.onopen = onOpen;
+      source.onerror = onError;
+      return source;
+    }
+  };
+
+  return GameEvents;
+});
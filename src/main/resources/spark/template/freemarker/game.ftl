@@ -2,8 +2,12 @@
 <head>
   <meta http-equiv="Content-Type" content="text/html; charset=UTF-8"></meta>
   <title>${title} | Web Checkers</title>
+  <#if assets??>
+  <link rel="stylesheet" href="${assets.gameCss}">
+  <#else>
   <link rel="stylesheet" href="/css/style.css">
   <link rel="stylesheet" href="/css/game.css">
+  </#if>
   <script src="https://ajax.googleapis.com/ajax/libs/jquery/3.1.1/jquery.min.js"></script>
   <script>
   window.gameData = {
@@ -13,7 +17,8 @@
     "modeOptions" : ${modeOptionsAsJSON!'{}'},
     "redPlayer" : "${redPlayer.name}",
     "whitePlayer" : "${whitePlayer.name}",
-    "activeColor" : "${activeColor}"
+    "activeColor" : "${activeColor}",
+    "version" : ${(version?c)!'null'}
   };
   </script>
 </head>
@@ -90,7 +95,11 @@
 
   <audio id="audio" src="http://www.soundjay.com/button/beep-07.mp3" autostart="false" ></audio>
   
+  <#if assets??>
+  <script src="${assets.gameJs}"></script>
+  <#else>
   <script data-main="/js/game/index" src="/js/require.js"></script>
+  </#if>
   
 </body>
 </html>
@@ -0,0 +1,37 @@
+    <div class="column">
+      <!-- List of all active Games -->
+      <form action="/spectator/game" method="get">
+
+        <#if activeGameList??>
+          <div id="Active Games" class="INFO">Active Checkers Games <br> (click to spectate): </div>
+            <#list activeGameList as game>
+                <button class="game" name="gameID" type="submit"
+                        value="${game.gameID}">Game ${game.gameID}: ${game.redPlayer.name} vs. ${game.whitePlayer.name}
+                </button> <br>
+            </#list>
+            <#if nextActiveGamesAfter??>
+              <a href="/?activeGamesAfter=${nextActiveGamesAfter}">More active games</a>
+            </#if>
+        </#if>
+
+      </form>
+    </div>
+
+    <div class="column">
+      <!-- List of all saved, ended Games -->
+      <form action="/replay/game" method="get">
+
+        <#if endedGameList??>
+          <div id="Stored Games" class="INFO">Stored Games (click to replay):</div>
+          <#list endedGameList as game>
+            <button class="game" name="gameID" type="submit"
+                    value="${game.gameID}">Game ${game.gameID}: ${game.redPlayerName} vs. ${game.whitePlayerName}
+            </button> <br>
+          </#list>
+          <#if nextEndedGamesAfter??>
+            <a href="/?endedGamesAfter=${nextEndedGamesAfter}">More stored games</a>
+          </#if>
+          <a href="/api/games/pdn">Download stored games (PDN)</a>
+        </#if>
+      </form>
+    </div>
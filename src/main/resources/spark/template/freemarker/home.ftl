@@ -4,7 +4,7 @@
   <meta http-equiv="Content-Type" content="text/html; charset=UTF-8"></meta>
   <meta http-equiv="refresh" content="10">
   <title>Web Checkers | ${title}</title>
-  <link rel="stylesheet" type="text/css" href="/css/style.css">
+  <link rel="stylesheet" type="text/css" href="${(assets.styleCss)!'/css/style.css'}">
 </head>
 
 <body>
@@ -22,6 +22,12 @@
 
     <div class="column">
     <!-- List of all active Players -->
+      <#if playerList??>
+        <form action="/quickPlay" method="post">
+          <button class="player" type="submit">Quick Play</button> <br>
+        </form>
+      </#if>
+
       <form action="/game" method="get">
 
         <#if playerList??>
@@ -32,38 +38,16 @@
         </#if>
 
       </form>
-    </div>
-
-    <div class="column">
-      <!-- List of all active Games -->
-      <form action="/spectator/game" method="get">
 
-        <#if activeGameList??>
-          <div id="Active Games" class="INFO">Active Checkers Games <br> (click to spectate): </div>
-            <#list activeGameList as game>
-                <button class="game" name="gameID" type="submit"
-                        value="${game.gameID}">Game ${game.gameID}: ${game.redPlayer.name} vs. ${game.whitePlayer.name}
-                </button> <br>
-            </#list>
-        </#if>
-
-      </form>
+      <#if nextPlayersAfter??>
+        <a href="/?playersAfter=${nextPlayersAfter?url('UTF-8')}">More players</a>
+      </#if>
     </div>
 
-    <div class="column">
-      <!-- List of all saved, ended Games -->
-      <form action="/replay/game" method="get">
-
-        <#if endedGameList??>
-          <div id="Stored Games" class="INFO">Stored Games (click to replay):</div>
-          <#list endedGameList as game>
-            <button class="game" name="gameID" type="submit"
-                    value="${game.gameID}">Game ${game.gameID}: ${game.redPlayer.name} vs. ${game.whitePlayer.name}
-            </button> <br>
-          </#list>
-        </#if>
-      </form>
-    </div>
+    <!-- Lists of active and ended Games, shared by every user -->
+    <#if gameLists??>
+    ${gameLists}
+    </#if>
 
   </div>
 
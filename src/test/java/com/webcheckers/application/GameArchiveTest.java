@@ -0,0 +1,168 @@
+package com.webcheckers.application;
+
+import com.webcheckers.model.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The unit test suite for the {@link GameArchive} component.
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+@Tag("Application-tier")
+public class GameArchiveTest {
+
+    private GameArchive CuT;
+
+    private static final String PLAYER_ONE_NAME = "Player One";
+    private static final String PLAYER_TWO_NAME = "Player Two";
+    private static final String RESIGNED = PLAYER_ONE_NAME + " has resigned.";
+
+    private ArchivedGame firstGame;
+    private ArchivedGame secondGame;
+
+    /**
+     * Before each test, setup two records of ended games, and an archive that
+     * only keeps one record in memory.
+     */
+    @BeforeEach
+    public void setup() {
+        firstGame = new ArchivedGame(1, PLAYER_ONE_NAME, PLAYER_TWO_NAME, RESIGNED,
+                Color.WHITE, 100, 200, Arrays.asList(
+                        new Move(new Position(5, 2), new Position(4, 3)),
+                        new Move(new Position(2, 1), new Position(3, 2))));
+        secondGame = new ArchivedGame(2, PLAYER_ONE_NAME, PLAYER_TWO_NAME, null,
+                Color.RED, 300, 400, Collections.emptyList());
+        CuT = new GameArchive(1);
+    }
+
+    /**
+     * After each test, remove the archive's directory.
+     */
+    @AfterEach
+    public void teardown() {
+        CuT.close();
+    }
+
+    /**
+     * Make sure a record that has been pushed out of memory is read back from
+     * disk unchanged.
+     */
+    @Test
+    public void verify_game_read_back_from_disk() {
+        CuT.store(firstGame);
+        // storing another game pushes the first one out of memory.
+        CuT.store(secondGame);
+
+        ArchivedGame loaded = CuT.load(1);
+        assertNotSame(firstGame, loaded);
+        assertEquals(PLAYER_ONE_NAME, loaded.getRedPlayerName());
+        assertEquals(PLAYER_TWO_NAME, loaded.getWhitePlayerName());
+        assertEquals(RESIGNED, loaded.getResult());
+        assertSame(Color.WHITE, loaded.getFinalTurn());
+        assertEquals(100, loaded.getStartTime());
+        assertEquals(200, loaded.getEndTime());
+        assertEquals(firstGame.getMoveCount(), loaded.getMoveCount());
+        assertEquals(firstGame.getPositionHash(2), loaded.getPositionHash(2));
+    }
+
+    /**
+     * Make sure the summaries of archived games are kept in order, and that
+     * unknown games aren't found.
+     */
+    @Test
+    public void verify_archived_game_summaries() {
+        CuT.store(secondGame);
+        CuT.store(firstGame);
+
+        assertEquals(2, CuT.getArchivedGames().size());
+        GameSummary summary = CuT.getArchivedGames().get(0);
+        assertEquals(1, summary.getGameID());
+        assertEquals(PLAYER_ONE_NAME, summary.getRedPlayerName());
+        assertEquals(PLAYER_TWO_NAME, summary.getWhitePlayerName());
+
+        assertNull(CuT.load(42));
+    }
+
+    /**
+     * Make sure archived games are listed a page at a time, and can be
+     * narrowed to the games of one player.
+     */
+    @Test
+    public void verify_archived_game_page() {
+        CuT.store(firstGame);
+        CuT.store(secondGame);
+        CuT.store(new ArchivedGame(3, "Someone Else", PLAYER_TWO_NAME, null,
+                Color.RED, 500, 600, Collections.emptyList()));
+
+        ArrayList<GameSummary> firstPage = CuT.getArchivedGamePage(null, 2, null);
+        assertEquals(2, firstPage.size());
+        assertEquals(2, firstPage.get(1).getGameID());
+        assertEquals(3, CuT.getArchivedGamePage(2, 2, null).get(0).getGameID());
+
+        assertEquals(2, CuT.getArchivedGamePage(null, 5, PLAYER_ONE_NAME).size());
+        assertEquals(3, CuT.getArchivedGamePage(null, 5, PLAYER_TWO_NAME).size());
+        assertEquals(3, CuT.getArchivedGamePage(null, 5, "Someone Else").get(0).getGameID());
+        assertTrue(CuT.getArchivedGamePage(null, 5, "Nobody").isEmpty());
+    }
+
+    /**
+     * Make sure archives without a directory given each write to their own.
+     */
+    @Test
+    public void verify_own_directories_not_shared() {
+        GameArchive other = new GameArchive(1);
+        CuT.store(firstGame);
+        CuT.store(secondGame);
+        other.store(new ArchivedGame(1, "Someone Else", PLAYER_TWO_NAME, null,
+                Color.RED, 500, 600, Collections.emptyList()));
+        other.store(secondGame);
+        assertEquals(PLAYER_ONE_NAME, CuT.load(1).getRedPlayerName());
+        assertEquals("Someone Else", other.load(1).getRedPlayerName());
+        other.close();
+    }
+
+    /**
+     * Make sure a directory given can only be open in one archive at a time,
+     * and that the games in it are still there when it's opened again.
+     */
+    @Test
+    public void verify_directory_reopened() throws IOException {
+        Path directory = Files.createTempDirectory("webcheckers-test-archive-");
+        try {
+            GameArchive first = new GameArchive(directory, 1);
+            first.store(firstGame);
+            first.store(secondGame);
+            assertEquals(3, first.getNextGameID());
+            assertThrows(IllegalStateException.class, () -> new GameArchive(directory, 1));
+            first.close();
+
+            GameArchive reopened = new GameArchive(directory, 1);
+            assertEquals(2, reopened.getArchivedGames().size());
+            assertEquals(3, reopened.getNextGameID());
+            assertEquals(RESIGNED, reopened.load(1).getResult());
+            reopened.close();
+            // a directory that was given is never removed.
+            assertTrue(Files.exists(directory.resolve("game-1.dat")));
+        } finally {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+                for (Path file : files) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(directory);
+        }
+    }
+}
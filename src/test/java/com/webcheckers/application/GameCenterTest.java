@@ -7,6 +7,10 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import spark.Session;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import static com.webcheckers.application.GameCenter.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.mock;
@@ -213,4 +217,298 @@ public class GameCenterTest {
         assertEquals(BIG_JUMP, moveStatus.getText());
         assertSame(Message.Type.ERROR, moveStatus.getType());
     }
+
+    /**
+     * Set up a double jump for the Red player, from (5, 4) over (4, 5) and
+     * then over (2, 5). The first Piece jumped is a king.
+     *
+     * @param clearLanding: whether the second jump's landing Space is empty.
+     * @return the two hops of the jump.
+     */
+    private List<Move> setupDoubleJump(boolean clearLanding) {
+        BoardView checkersBoard = CuT.getCheckersBoard();
+        Piece whiteKing = new Piece(Type.SINGLE, Color.WHITE);
+        whiteKing.setKing();
+        checkersBoard.getRow(4).getSpace(5).setPiece(whiteKing);
+        if (clearLanding) {
+            checkersBoard.getRow(1).getSpace(4).setPiece(null);
+        }
+        List<Move> hops = new ArrayList<>();
+        hops.add(new Move(new Position(5, 4), new Position(3, 6)));
+        hops.add(new Move(new Position(3, 6), new Position(1, 4)));
+        return hops;
+    }
+
+    /**
+     * Make sure every hop of a jump is committed by a single submission, and
+     * the turn is handed to the other Player.
+     */
+    @Test
+    public void verify_full_turn_submitted() {
+        List<Move> hops = setupDoubleJump(true);
+        long version = CuT.getVersion();
+
+        Message status = CuT.submitFullTurn(testPlayer1, hops);
+        assertEquals(TURN_SUBMITTED, status.getText());
+        assertSame(Message.Type.INFO, status.getType());
+
+        BoardView checkersBoard = CuT.getCheckersBoard();
+        assertNull(checkersBoard.getPiece(5, 4));
+        assertNull(checkersBoard.getPiece(4, 5));
+        assertNull(checkersBoard.getPiece(2, 5));
+        assertSame(Color.RED, checkersBoard.getPiece(1, 4).getColor());
+        assertEquals(2, testPlayer1.getCaptures());
+        assertEquals(2, CuT.getMovesMade().size());
+        assertSame(Color.WHITE, CuT.getCurrentTurn());
+        assertEquals(version + 1, CuT.getVersion());
+    }
+
+    /**
+     * Make sure a simple move can be submitted on its own.
+     */
+    @Test
+    public void verify_full_turn_simple_move() {
+        Message status = CuT.submitFullTurn(testPlayer1,
+                Collections.singletonList(new Move(new Position(5, 4), new Position(4, 5))));
+        assertSame(Message.Type.INFO, status.getType());
+        assertNull(CuT.getCheckersBoard().getPiece(5, 4));
+        assertNotNull(CuT.getCheckersBoard().getPiece(4, 5));
+        assertSame(Color.WHITE, CuT.getCurrentTurn());
+    }
+
+    /**
+     * Make sure that when a later hop is invalid, the earlier ones are taken
+     * back: the jumped king is back as a king, and no captures or moves are
+     * left behind.
+     */
+    @Test
+    public void verify_full_turn_rolled_back() {
+        List<Move> hops = setupDoubleJump(false);
+        long version = CuT.getVersion();
+
+        Message status = CuT.submitFullTurn(testPlayer1, hops);
+        assertEquals(INVALID_JUMP, status.getText());
+        assertSame(Message.Type.ERROR, status.getType());
+
+        BoardView checkersBoard = CuT.getCheckersBoard();
+        assertSame(Color.RED, checkersBoard.getPiece(5, 4).getColor());
+        assertSame(Type.KING, checkersBoard.getPiece(4, 5).getType());
+        assertSame(Color.WHITE, checkersBoard.getPiece(4, 5).getColor());
+        assertNull(checkersBoard.getPiece(3, 6));
+        assertEquals(0, testPlayer1.getCaptures());
+        assertTrue(CuT.getMovesMade().isEmpty());
+        assertSame(Color.RED, CuT.getCurrentTurn());
+        assertEquals(version, CuT.getVersion());
+    }
+
+    /**
+     * Make sure a jump sequence that stops while a further jump is possible,
+     * or that doesn't follow on from the jump before it, is turned away.
+     */
+    @Test
+    public void verify_full_turn_incomplete_path() {
+        List<Move> hops = setupDoubleJump(true);
+
+        Message status = CuT.submitFullTurn(testPlayer1, hops.subList(0, 1));
+        assertEquals(JUMP_REMAINING, status.getText());
+        assertNotNull(CuT.getCheckersBoard().getPiece(4, 5));
+        assertEquals(0, testPlayer1.getCaptures());
+
+        List<Move> broken = new ArrayList<>(hops.subList(0, 1));
+        broken.add(new Move(new Position(3, 6), new Position(2, 7)));
+        status = CuT.submitFullTurn(testPlayer1, broken);
+        assertEquals(BROKEN_PATH, status.getText());
+        assertNull(CuT.getCheckersBoard().getPiece(3, 6));
+        assertSame(Color.RED, CuT.getCurrentTurn());
+    }
+
+    /**
+     * Make sure a turn is only accepted from the Player whose turn it is, and
+     * not while they have moves they validated one at a time.
+     */
+    @Test
+    public void verify_full_turn_refused() {
+        Move whiteMove = new Move(new Position(2, 1), new Position(3, 2));
+        assertEquals(NOT_YOUR_TURN,
+                CuT.submitFullTurn(testPlayer2, Collections.singletonList(whiteMove)).getText());
+        assertEquals(NO_MOVES,
+                CuT.submitFullTurn(testPlayer1, Collections.emptyList()).getText());
+
+        Move redMove = new Move(new Position(5, 4), new Position(4, 5));
+        CuT.getTurnBuffer(testPlayer1).add(redMove);
+        assertEquals(TURN_IN_PROGRESS,
+                CuT.submitFullTurn(testPlayer1, Collections.singletonList(redMove)).getText());
+        assertSame(Color.RED, CuT.getCurrentTurn());
+    }
+
+    /**
+     * Make sure each Player has their own turn buffer, and that clearing one
+     * Player's buffer leaves the other's alone.
+     */
+    @Test
+    public void verify_turn_buffers_per_player() {
+        Move redMove = new Move(new Position(5, 4), new Position(4, 5));
+        Move whiteMove = new Move(new Position(2, 1), new Position(3, 2));
+
+        CuT.getTurnBuffer(testPlayer1).add(redMove);
+        CuT.getTurnBuffer(testPlayer2).add(whiteMove);
+        assertEquals(1, CuT.getTurnBuffer(testPlayer1).size());
+        assertEquals(redMove, CuT.getTurnBuffer(testPlayer1).get(0));
+
+        CuT.clearTurnBuffer(testPlayer1);
+        assertTrue(CuT.getTurnBuffer(testPlayer1).isEmpty());
+        assertEquals(1, CuT.getTurnBuffer(testPlayer2).size());
+    }
+
+    /**
+     * Make sure a snapshot is only published once a turn is over, and that
+     * changes made during a turn don't show up in the published board.
+     */
+    @Test
+    public void verify_snapshot_published_on_turn_change() {
+        GameSnapshot first = CuT.getSnapshot();
+        assertSame(Color.RED, first.getCurrentTurn());
+        assertFalse(first.isGameOver());
+        assertNotSame(CuT.getCheckersBoard(), first.getBoard());
+
+        // a jump in progress changes the board, but not the snapshot.
+        CuT.updateModel(testPlayer1, new Move(new Position(5, 4), new Position(4, 5)), true);
+        assertSame(first, CuT.getSnapshot());
+        assertNotNull(first.getBoard().getRow(5).getSpace(4).getPiece());
+
+        CuT.makeMove();
+        GameSnapshot second = CuT.getSnapshot();
+        assertSame(Color.WHITE, second.getCurrentTurn());
+        assertTrue(second.getVersion() > first.getVersion());
+        assertNull(second.getBoard().getRow(5).getSpace(4).getPiece());
+    }
+
+    /**
+     * Make sure a game won by capturing every piece frees both Players for
+     * another game, with their captures reset, once the result is published.
+     */
+    @Test
+    public void verify_players_freed_when_game_ends() {
+        testPlayer1.setInGame(true);
+        testPlayer2.setInGame(true);
+        for (int i = 0; i < 12; i++) {
+            testPlayer1.capture();
+        }
+        CuT.makeMove();
+
+        assertEquals(String.format(GameCenter.CAPTURED_ALL_PIECES, PLAYER_ONE_NAME),
+                CuT.getSnapshot().getResult());
+        assertFalse(testPlayer1.getInGameStatus());
+        assertFalse(testPlayer2.getInGameStatus());
+        assertEquals(0, testPlayer1.getCaptures());
+    }
+
+    /**
+     * Make sure a resignation is published to readers as the game's result.
+     */
+    @Test
+    public void verify_snapshot_result_on_resign() {
+        CuT.setResignStatus(PLAYER_ONE_NAME + " has resigned.");
+        assertTrue(CuT.getSnapshot().isGameOver());
+        assertEquals(PLAYER_ONE_NAME + " has resigned.", CuT.getSnapshot().getResult());
+    }
+
+    /**
+     * Make sure listeners are told about each published snapshot, along with
+     * the moves of the turn that was just committed.
+     */
+    @Test
+    public void verify_listeners_told_about_snapshots() {
+        List<GameSnapshot> published = new ArrayList<>();
+        GameListener listener = (gameID, snapshot) -> published.add(snapshot);
+        CuT.addGameListener(listener);
+
+        Move move = new Move(new Position(5, 4), new Position(4, 5));
+        CuT.updateModel(testPlayer1, move, true);
+        assertTrue(published.isEmpty());
+
+        CuT.makeMove();
+        assertEquals(1, published.size());
+        assertSame(CuT.getSnapshot(), published.get(0));
+        assertEquals(Collections.singletonList(move), published.get(0).getLastTurn());
+
+        // a resignation has no moves, and removed listeners hear nothing.
+        CuT.setResignStatus(PLAYER_ONE_NAME + " has resigned.");
+        assertEquals(2, published.size());
+        assertTrue(published.get(1).getLastTurn().isEmpty());
+        CuT.removeGameListener(listener);
+        CuT.makeMove();
+        assertEquals(2, published.size());
+    }
+
+    /**
+     * Make sure a resignation on the resigning Player's turn is published
+     * once, with the result and the turn handed over together.
+     */
+    @Test
+    public void verify_resign_published_once() {
+        List<GameSnapshot> published = new ArrayList<>();
+        CuT.addGameListener((gameID, snapshot) -> published.add(snapshot));
+
+        assertTrue(CuT.resign(testPlayer1, PLAYER_ONE_NAME + " has resigned."));
+        assertEquals(1, published.size());
+        assertSame(Color.WHITE, published.get(0).getCurrentTurn());
+        assertEquals(PLAYER_ONE_NAME + " has resigned.", published.get(0).getResult());
+        // a game that's over can't be resigned from again.
+        assertFalse(CuT.resign(testPlayer2, PLAYER_TWO_NAME + " has resigned."));
+        assertEquals(1, published.size());
+        assertEquals(PLAYER_ONE_NAME + " has resigned.", CuT.getResignStatus());
+
+        // resigning on the opponent's turn leaves the turn alone.
+        GameCenter other = new GameCenter(1, testPlayer1, testPlayer2);
+        other.resign(testPlayer2, PLAYER_TWO_NAME + " has resigned.");
+        assertSame(Color.RED, other.getSnapshot().getCurrentTurn());
+        assertTrue(other.getSnapshot().isGameOver());
+    }
+
+    /**
+     * Make sure a client can catch up on the snapshots published since the
+     * version it has seen, as long as they're still kept.
+     */
+    @Test
+    public void verify_snapshots_since() {
+        long first = CuT.getSnapshot().getVersion();
+        assertTrue(CuT.getSnapshotsSince(first).isEmpty());
+        assertNull(CuT.getSnapshotsSince(first + 1));
+
+        CuT.makeMove();
+        CuT.makeMove();
+        List<GameSnapshot> since = CuT.getSnapshotsSince(first);
+        assertEquals(2, since.size());
+        assertSame(CuT.getSnapshot(), since.get(1));
+
+        // only the latest few snapshots are kept.
+        for (int i = 0; i < RECENT_SNAPSHOTS; i++) {
+            CuT.makeMove();
+        }
+        assertNull(CuT.getSnapshotsSince(first));
+        assertEquals(1, CuT.getSnapshotsSince(CuT.getSnapshot().getVersion() - 1).size());
+    }
+
+    /**
+     * Make sure the version goes up with every commit and resignation, and
+     * that a turn in progress is noticed.
+     */
+    @Test
+    public void verify_version_and_turn_in_progress() {
+        long version = CuT.getVersion();
+        assertFalse(CuT.isTurnInProgress());
+
+        CuT.getTurnBuffer(testPlayer1).add(new Move(new Position(5, 4), new Position(4, 5)));
+        assertTrue(CuT.isTurnInProgress());
+        assertEquals(version, CuT.getVersion());
+
+        CuT.clearTurnBuffer(testPlayer1);
+        CuT.makeMove();
+        assertFalse(CuT.isTurnInProgress());
+        assertEquals(version + 1, CuT.getVersion());
+
+        CuT.setResignStatus(PLAYER_ONE_NAME + " has resigned.");
+        assertEquals(version + 2, CuT.getVersion());
+    }
 }
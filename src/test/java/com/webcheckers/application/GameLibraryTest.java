@@ -1,13 +1,18 @@
 package com.webcheckers.application;
 
-import com.webcheckers.model.Color;
-import com.webcheckers.model.Player;
+import com.webcheckers.model.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import spark.Session;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.mock;
@@ -30,12 +35,13 @@ public class GameLibraryTest {
     private Session sessionOne;
     private Session sessionTwo;
 
-    private HashMap<Integer, GameCenter> activeGameMap;
-    private HashMap<Integer, GameCenter> endedGameMap;
+    private ConcurrentSkipListMap<Integer, GameCenter> activeGameMap;
+    private GameArchive endedGameArchive;
 
     /**
      * Before each test, setup two players and sessions for those players,
-     * as well as two maps to hold both active games and games that have ended.
+     * as well as a map to hold active games and an archive for games that
+     * have ended.
      */
     @BeforeEach
     public void setup() {
@@ -44,9 +50,9 @@ public class GameLibraryTest {
         this.testPlayer1 = new Player(PLAYER_ONE_NAME, sessionOne);
         this.testPlayer2 = new Player(PLAYER_TWO_NAME, sessionTwo);
 
-        activeGameMap = new HashMap<>();
-        endedGameMap = new HashMap<>();
-        CuT = new GameLibrary(activeGameMap, endedGameMap);
+        activeGameMap = new ConcurrentSkipListMap<>();
+        endedGameArchive = new GameArchive(4);
+        CuT = new GameLibrary(activeGameMap, endedGameArchive);
     }
 
     /**
@@ -113,6 +119,9 @@ public class GameLibraryTest {
 
         GameCenter game2 = CuT.createGame(testPlayer1, testPlayer2);
         assertEquals(2, CuT.getActiveGameList().size());
+        // games are listed in order of their gameIDs, from the one index.
+        assertSame(game1, CuT.getActiveGameList().get(0));
+        assertSame(game2, activeGameMap.get(game2.getGameID()));
 
         // ended game list should still be empty.
         assertEquals(0, CuT.getEndedGameList().size());
@@ -122,4 +131,100 @@ public class GameLibraryTest {
         assertEquals(1, CuT.getActiveGameList().size());
         assertEquals(1, CuT.getEndedGameList().size());
     }
+
+    /**
+     * Make sure that games created from many threads at once all receive a
+     * unique gameID, and that none of them are lost from the active list.
+     */
+    @Test
+    public void verify_concurrent_game_creation() throws InterruptedException {
+        final int gameCount = 200;
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < gameCount; i++) {
+            pool.execute(() -> CuT.createGame(testPlayer1, testPlayer2));
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+        // every game should be stored, and every gameID should be unique.
+        assertEquals(gameCount, CuT.getActiveGameList().size());
+        Set<Integer> gameIDs = new HashSet<>();
+        for (GameCenter game : CuT.getActiveGameList()) {
+            gameIDs.add(game.getGameID());
+        }
+        assertEquals(gameCount, gameIDs.size());
+    }
+
+    /**
+     * Make sure that ending the same game twice doesn't lose or duplicate it.
+     */
+    @Test
+    public void verify_game_ended_twice() {
+        GameCenter gameCenter = CuT.createGame(testPlayer1, testPlayer2);
+
+        CuT.gameHasEnded(gameCenter.getGameID());
+        CuT.gameHasEnded(gameCenter.getGameID());
+
+        assertEquals(0, CuT.getActiveGameList().size());
+        assertEquals(1, CuT.getEndedGameList().size());
+        assertEquals(gameCenter.getGameID(), CuT.getGameByID(gameCenter.getGameID()).getGameID());
+    }
+
+    /**
+     * Make sure that a game that has ended is rebuilt from its record, with
+     * the same players, board, and result.
+     */
+    @Test
+    public void verify_ended_game_rebuilt_from_record() {
+        GameCenter gameCenter = CuT.createGame(testPlayer1, testPlayer2);
+        gameCenter.updateModel(testPlayer1, new Move(new Position(5, 2), new Position(4, 3)), true);
+        gameCenter.setResignStatus(PLAYER_ONE_NAME + " has resigned.");
+        CuT.gameHasEnded(gameCenter.getGameID());
+
+        ArchivedGame record = CuT.getArchivedGame(gameCenter.getGameID());
+        assertEquals(1, record.getMoveCount());
+        assertEquals(PLAYER_ONE_NAME + " has resigned.", record.getResult());
+
+        GameCenter rebuilt = CuT.getGameByID(gameCenter.getGameID());
+        assertNotSame(gameCenter, rebuilt);
+        assertEquals(testPlayer1, rebuilt.getRedPlayer());
+        assertEquals(testPlayer2, rebuilt.getWhitePlayer());
+        assertEquals(PLAYER_ONE_NAME + " has resigned.", rebuilt.getResignStatus());
+        assertNotNull(rebuilt.getCheckersBoard().getPiece(4, 3));
+        assertNull(rebuilt.getCheckersBoard().getPiece(5, 2));
+        // the rebuilt game is kept with the record, not replayed again.
+        assertSame(rebuilt, CuT.getGameByID(gameCenter.getGameID()));
+        assertNull(CuT.getActiveGameByID(gameCenter.getGameID()));
+    }
+
+    /**
+     * Make sure that active games are listed a page at a time, can be
+     * narrowed to the games of one player, and leave the pages once they've
+     * ended.
+     */
+    @Test
+    public void verify_game_pages() {
+        Player testPlayer3 = new Player("Player Three", null);
+        Player testPlayer4 = new Player("Player Four", null);
+        GameCenter first = CuT.createGame(testPlayer1, testPlayer2);
+        GameCenter second = CuT.createGame(testPlayer3, testPlayer4);
+        GameCenter third = CuT.createGame(testPlayer1, testPlayer3);
+
+        ArrayList<GameCenter> firstPage = CuT.getActiveGamePage(null, 2, null);
+        assertEquals(2, firstPage.size());
+        assertSame(first, firstPage.get(0));
+        assertSame(second, firstPage.get(1));
+        assertSame(third, CuT.getActiveGamePage(second.getGameID(), 2, null).get(0));
+
+        ArrayList<GameCenter> playerOnesGames = CuT.getActiveGamePage(null, 5, PLAYER_ONE_NAME);
+        assertEquals(2, playerOnesGames.size());
+        assertSame(third, playerOnesGames.get(1));
+
+        CuT.gameHasEnded(first.getGameID());
+        assertEquals(1, CuT.getActiveGamePage(null, 5, PLAYER_ONE_NAME).size());
+        assertTrue(CuT.getActiveGamePage(null, 5, PLAYER_TWO_NAME).isEmpty());
+        assertEquals(first.getGameID(),
+                CuT.getEndedGamePage(null, 5, PLAYER_TWO_NAME).get(0).getGameID());
+        assertTrue(CuT.getEndedGamePage(null, 5, "Player Four").isEmpty());
+    }
 }
@@ -0,0 +1,82 @@
+package com.webcheckers.application;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The unit test suite for the {@link GameMailbox} component.
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+@Tag("Application-tier")
+public class GameMailboxTest {
+
+    private GameMailbox CuT;
+
+    /** A plain, unsynchronized counter that only the mailbox should touch. */
+    private int counter;
+
+    /**
+     * Before each test, setup a new mailbox and reset the counter.
+     */
+    @BeforeEach
+    public void setup() {
+        CuT = new GameMailbox();
+        counter = 0;
+    }
+
+    /**
+     * Make sure that the value returned by a command is handed back to the
+     * caller.
+     */
+    @Test
+    public void verify_result_returned() {
+        assertEquals("done", CuT.submit(() -> "done"));
+    }
+
+    /**
+     * Make sure that commands submitted from many threads at once never
+     * interleave, so no update to the counter is lost.
+     */
+    @Test
+    public void verify_commands_never_interleave() throws InterruptedException {
+        final int commandCount = 10000;
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < commandCount; i++) {
+            pool.execute(() -> CuT.execute(() -> counter++));
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(commandCount, (int) CuT.submit(() -> counter));
+    }
+
+    /**
+     * Make sure that a command which submits another command to the same
+     * mailbox runs it in place instead of waiting on itself.
+     */
+    @Test
+    public void verify_nested_submit() {
+        int result = CuT.submit(() -> CuT.submit(() -> 42));
+        assertEquals(42, result);
+    }
+
+    /**
+     * Make sure that an exception thrown by a command reaches the caller,
+     * and that the mailbox keeps working afterwards.
+     */
+    @Test
+    public void verify_exception_propagated() {
+        assertThrows(IllegalArgumentException.class, () -> CuT.execute(() -> {
+            throw new IllegalArgumentException();
+        }));
+        assertEquals("still running", CuT.submit(() -> "still running"));
+    }
+}
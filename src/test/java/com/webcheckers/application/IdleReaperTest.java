@@ -0,0 +1,162 @@
+package com.webcheckers.application;
+
+import com.webcheckers.model.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import spark.Session;
+
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * The unit test suite for the {@link IdleReaper} component.
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+@Tag("Application-tier")
+public class IdleReaperTest {
+
+    private IdleReaper CuT;
+
+    private static final String PLAYER_ONE_NAME = "Player One";
+    private static final String PLAYER_TWO_NAME = "Player Two";
+    private static final long PLAYER_TIMEOUT = 1000;
+    private static final long GAME_TIMEOUT = 100;
+
+    /** The time the wheel reads, moved forward by each test. */
+    private AtomicLong clock;
+    private TimingWheel timingWheel;
+    private PlayerLobby playerLobby;
+    private MatchmakingQueue matchmakingQueue;
+    private ConcurrentSkipListMap<Integer, GameCenter> activeGameMap;
+    private Player testPlayer1;
+    private Player testPlayer2;
+
+    /**
+     * Before each test, setup two signed in players, and a reaper whose
+     * wheel reads a clock the test controls.
+     */
+    @BeforeEach
+    public void setup() {
+        clock = new AtomicLong(1000);
+        timingWheel = new TimingWheel(10, 64, clock::get);
+        playerLobby = new PlayerLobby(new ConcurrentSkipListMap<>());
+        matchmakingQueue = new MatchmakingQueue();
+        activeGameMap = new ConcurrentSkipListMap<>();
+        new GameLibrary(activeGameMap, new GameArchive(4));
+
+        testPlayer1 = new Player(PLAYER_ONE_NAME, mock(Session.class));
+        testPlayer2 = new Player(PLAYER_TWO_NAME, mock(Session.class));
+        playerLobby.signIn(PLAYER_ONE_NAME, testPlayer1);
+        playerLobby.signIn(PLAYER_TWO_NAME, testPlayer2);
+
+        CuT = new IdleReaper(timingWheel, playerLobby, matchmakingQueue,
+                PLAYER_TIMEOUT, GAME_TIMEOUT);
+    }
+
+    /**
+     * Move the clock forward and let the wheel catch up.
+     */
+    private void advance(long millis) {
+        clock.addAndGet(millis);
+        timingWheel.tick();
+    }
+
+    /**
+     * Make sure a player who stops making requests is signed out and taken
+     * out of the matchmaking queue, while an active player stays.
+     */
+    @Test
+    public void verify_idle_player_signed_out() {
+        CuT.playerActive(testPlayer1);
+        CuT.playerActive(testPlayer2);
+        matchmakingQueue.quickPlay(testPlayer1);
+
+        advance(PLAYER_TIMEOUT / 2);
+        CuT.playerActive(testPlayer2);
+        advance(PLAYER_TIMEOUT / 2 + 50);
+
+        assertFalse(CuT.isActive(testPlayer1));
+        assertNull(playerLobby.getPlayerByName(PLAYER_ONE_NAME));
+        assertFalse(matchmakingQueue.isWaiting(testPlayer1));
+        assertTrue(CuT.isActive(testPlayer2));
+        assertSame(testPlayer2, playerLobby.getPlayerByName(PLAYER_TWO_NAME));
+    }
+
+    /**
+     * Make sure a player who abandons a game on their turn is resigned, and
+     * the game is archived.
+     */
+    @Test
+    public void verify_abandoned_game_resigned() {
+        GameCenter gameCenter = GameLibrary.createGame(testPlayer1, testPlayer2);
+        int gameID = gameCenter.getGameID();
+        CuT.playerActive(testPlayer1);
+        CuT.playerActive(testPlayer2);
+        CuT.watchGame(gameID);
+
+        // RED leaves, while WHITE keeps checking for their turn.
+        for (int i = 0; i < 3; i++) {
+            advance(GAME_TIMEOUT);
+            CuT.playerActive(testPlayer2);
+        }
+        advance(GAME_TIMEOUT);
+
+        assertFalse(activeGameMap.containsKey(gameID));
+        assertEquals(String.format(IdleReaper.ABANDONED_MSG, PLAYER_ONE_NAME),
+                GameLibrary.getArchivedGame(gameID).getResult());
+        assertFalse(testPlayer1.getInGameStatus());
+        assertFalse(testPlayer2.getInGameStatus());
+    }
+
+    /**
+     * Make sure a game is left alone while the player whose turn it is keeps
+     * making requests.
+     */
+    @Test
+    public void verify_active_game_kept() {
+        GameCenter gameCenter = GameLibrary.createGame(testPlayer1, testPlayer2);
+        CuT.watchGame(gameCenter.getGameID());
+
+        for (int i = 0; i < 5; i++) {
+            CuT.playerActive(testPlayer1);
+            advance(GAME_TIMEOUT / 2);
+        }
+
+        assertTrue(activeGameMap.containsKey(gameCenter.getGameID()));
+        assertNull(gameCenter.getSnapshot().getResult());
+    }
+
+    /**
+     * Make sure a player thinking about their turn, who makes no requests but
+     * still has their game's events open, is neither resigned nor signed out,
+     * and is only resigned once they've been gone a while after closing it.
+     */
+    @Test
+    public void verify_connected_player_kept() {
+        GameCenter gameCenter = GameLibrary.createGame(testPlayer1, testPlayer2);
+        int gameID = gameCenter.getGameID();
+        CuT.playerConnected(testPlayer1);
+        CuT.playerConnected(testPlayer2);
+        CuT.watchGame(gameID);
+
+        advance(PLAYER_TIMEOUT + GAME_TIMEOUT);
+
+        assertTrue(activeGameMap.containsKey(gameID));
+        assertNull(gameCenter.getSnapshot().getResult());
+        assertTrue(CuT.isActive(testPlayer1));
+        assertSame(testPlayer1, playerLobby.getPlayerByName(PLAYER_ONE_NAME));
+
+        CuT.playerDisconnected(testPlayer1);
+        advance(GAME_TIMEOUT / 2);
+        assertTrue(activeGameMap.containsKey(gameID));
+        advance(GAME_TIMEOUT * 2);
+        assertFalse(activeGameMap.containsKey(gameID));
+        assertEquals(String.format(IdleReaper.ABANDONED_MSG, PLAYER_ONE_NAME),
+                GameLibrary.getArchivedGame(gameID).getResult());
+    }
+}
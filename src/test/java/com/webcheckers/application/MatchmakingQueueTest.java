@@ -0,0 +1,179 @@
+package com.webcheckers.application;
+
+import com.webcheckers.model.Color;
+import com.webcheckers.model.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import spark.Session;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * The unit test suite for the {@link MatchmakingQueue} component.
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+@Tag("Application-tier")
+public class MatchmakingQueueTest {
+
+    private MatchmakingQueue CuT;
+
+    private static final String PLAYER_ONE_NAME = "Player One";
+    private static final String PLAYER_TWO_NAME = "Player Two";
+
+    private Player testPlayer1;
+    private Player testPlayer2;
+    private ConcurrentSkipListMap<Integer, GameCenter> activeGameMap;
+
+    /**
+     * Before each test, setup two players and an empty library for the games
+     * the queue creates.
+     */
+    @BeforeEach
+    public void setup() {
+        testPlayer1 = new Player(PLAYER_ONE_NAME, mock(Session.class));
+        testPlayer2 = new Player(PLAYER_TWO_NAME, mock(Session.class));
+
+        activeGameMap = new ConcurrentSkipListMap<>();
+        new GameLibrary(activeGameMap, new GameArchive(4));
+        CuT = new MatchmakingQueue();
+    }
+
+    /**
+     * Make sure the first player to arrive is left waiting, and is only
+     * queued once.
+     */
+    @Test
+    public void verify_first_player_waits() {
+        assertNull(CuT.quickPlay(testPlayer1));
+        assertTrue(CuT.isWaiting(testPlayer1));
+        assertFalse(testPlayer1.getInGameStatus());
+
+        // asking again doesn't pair the player with themselves.
+        assertNull(CuT.quickPlay(testPlayer1));
+        assertTrue(CuT.isWaiting(testPlayer1));
+        assertEquals(0, activeGameMap.size());
+    }
+
+    /**
+     * Make sure the second player to arrive is paired with the waiting
+     * player, and plays RED.
+     */
+    @Test
+    public void verify_second_player_paired() {
+        CuT.quickPlay(testPlayer1);
+        GameCenter gameCenter = CuT.quickPlay(testPlayer2);
+
+        assertNotNull(gameCenter);
+        assertSame(testPlayer2, gameCenter.getRedPlayer());
+        assertSame(testPlayer1, gameCenter.getWhitePlayer());
+        assertSame(Color.RED, testPlayer2.getColor());
+        assertTrue(testPlayer1.getInGameStatus());
+        assertTrue(testPlayer2.getInGameStatus());
+        assertFalse(CuT.isWaiting(testPlayer1));
+        assertEquals(1, activeGameMap.size());
+    }
+
+    /**
+     * Make sure a player who is already in a game isn't queued, and that a
+     * waiting player who has since been challenged is skipped.
+     */
+    @Test
+    public void verify_players_in_game_skipped() {
+        testPlayer1.setInGame(true);
+        assertNull(CuT.quickPlay(testPlayer1));
+        assertFalse(CuT.isWaiting(testPlayer1));
+
+        testPlayer1.setInGame(false);
+        CuT.quickPlay(testPlayer1);
+        // testPlayer1 accepts a challenge while waiting.
+        testPlayer1.setInGame(true);
+
+        assertNull(CuT.quickPlay(testPlayer2));
+        assertTrue(CuT.isWaiting(testPlayer2));
+        assertEquals(0, activeGameMap.size());
+    }
+
+    /**
+     * Make sure a waiting player isn't lost when the player they were about
+     * to be paired with is challenged, even if someone else has joined the
+     * queue in the meantime.
+     */
+    @Test
+    public void verify_waiting_player_kept() {
+        final Player testPlayer3 = new Player("Player Three", mock(Session.class));
+        Player challenged = new Player(PLAYER_TWO_NAME, mock(Session.class)) {
+            @Override
+            public boolean tryEnterGame() {
+                // another player queues up, then this one accepts a challenge.
+                CuT.quickPlay(testPlayer3);
+                setInGame(true);
+                return false;
+            }
+        };
+
+        CuT.quickPlay(testPlayer1);
+        assertNull(CuT.quickPlay(challenged));
+
+        assertEquals(1, activeGameMap.size());
+        GameCenter gameCenter = activeGameMap.firstEntry().getValue();
+        assertSame(testPlayer1, gameCenter.getRedPlayer());
+        assertSame(testPlayer3, gameCenter.getWhitePlayer());
+        assertFalse(CuT.isWaiting(testPlayer1));
+        assertFalse(CuT.isWaiting(testPlayer3));
+    }
+
+    /**
+     * Make sure a player who leaves the queue is no longer waiting.
+     */
+    @Test
+    public void verify_leave() {
+        CuT.quickPlay(testPlayer1);
+        // someone who isn't waiting can't take the place of who is.
+        CuT.leave(testPlayer2);
+        assertTrue(CuT.isWaiting(testPlayer1));
+
+        CuT.leave(testPlayer1);
+        assertFalse(CuT.isWaiting(testPlayer1));
+    }
+
+    /**
+     * Make sure that when many players ask for a game at once, every player
+     * ends up in at most one game.
+     */
+    @Test
+    public void verify_concurrent_pairing() throws InterruptedException {
+        final int playerCount = 64;
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < playerCount; i++) {
+            players.add(new Player("Player " + i, mock(Session.class)));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (Player player : players) {
+            executor.submit(() -> CuT.quickPlay(player));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // an even number of players means no one should be left waiting.
+        assertEquals(playerCount / 2, activeGameMap.size());
+        List<Player> seated = new ArrayList<>();
+        for (GameCenter gameCenter : activeGameMap.values()) {
+            assertFalse(seated.contains(gameCenter.getRedPlayer()));
+            seated.add(gameCenter.getRedPlayer());
+            assertFalse(seated.contains(gameCenter.getWhitePlayer()));
+            seated.add(gameCenter.getWhitePlayer());
+        }
+        assertEquals(playerCount, seated.size());
+    }
+}
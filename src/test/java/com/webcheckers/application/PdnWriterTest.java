@@ -0,0 +1,123 @@
+package com.webcheckers.application;
+
+import com.webcheckers.model.ArchivedGame;
+import com.webcheckers.model.Color;
+import com.webcheckers.model.Move;
+import com.webcheckers.model.Position;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static com.webcheckers.application.PdnWriter.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The unit test suite for the {@link PdnWriter} component.
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+@Tag("Application-tier")
+public class PdnWriterTest {
+
+    private static final String RED = "Red";
+    private static final String WHITE = "White";
+
+    private static ArchivedGame game(String result, Move... moves) {
+        return new ArchivedGame(7, RED, WHITE, result, Color.RED,
+                0, 1000, Arrays.asList(moves));
+    }
+
+    private static Move move(int startRow, int startCell, int endRow, int endCell) {
+        return new Move(new Position(startRow, startCell), new Position(endRow, endCell));
+    }
+
+    /**
+     * Test that the squares are numbered from the Red player's side, which
+     * PDN calls Black.
+     */
+    @Test
+    public void verify_square_numbers() {
+        assertEquals(1, square(7, 6));
+        assertEquals(4, square(7, 0));
+        assertEquals(12, square(5, 0));
+        assertEquals(21, square(2, 7));
+        assertEquals(29, square(0, 7));
+        assertEquals(32, square(0, 1));
+    }
+
+    /**
+     * Test that a game is written with its tags, numbered moves and result.
+     */
+    @Test
+    public void verify_game_written() throws IOException {
+        StringWriter out = new StringWriter();
+        new PdnWriter(out).write(game(String.format(GameCenter.RESIGNED, RED),
+                move(5, 2, 4, 3), move(2, 1, 3, 2)));
+
+        assertEquals("[Event \"Web Checkers game 7\"]\n"
+                + "[Site \"Web Checkers\"]\n"
+                + "[Date \"1970.01.01\"]\n"
+                + "[Round \"-\"]\n"
+                + "[Black \"Red\"]\n"
+                + "[White \"White\"]\n"
+                + "[Result \"0-1\"]\n"
+                + "[GameType \"21\"]\n"
+                + "\n"
+                + "1. 11-15 24-19 {Red has resigned.} 0-1\n"
+                + "\n", out.toString());
+    }
+
+    /**
+     * Test that every jump of a turn is written as one move, and that long
+     * games are wrapped.
+     */
+    @Test
+    public void verify_moves_grouped_and_wrapped() throws IOException {
+        StringWriter out = new StringWriter();
+        new PdnWriter(out).write(game(null,
+                move(5, 4, 3, 6), move(3, 6, 1, 4), move(0, 3, 1, 2)));
+        assertTrue(out.toString().endsWith("\n1. 10x17x26 31-27 *\n\n"));
+
+        Move[] moves = new Move[40];
+        for (int i = 0; i < moves.length; i += 2) {
+            moves[i] = move(5, 2, 4, 3);
+            moves[i + 1] = move(2, 1, 3, 2);
+        }
+        out = new StringWriter();
+        new PdnWriter(out).write(game(null, moves));
+        for (String line : out.toString().split("\n")) {
+            assertTrue(line.length() <= 79, line);
+        }
+        assertTrue(out.toString().contains("20. 11-15 24-19"));
+    }
+
+    /**
+     * Test that the winner is worked out from how the game ended.
+     */
+    @Test
+    public void verify_result() {
+        assertEquals(BLACK_WINS, result(game(String.format(GameCenter.CAPTURED_ALL_PIECES, RED))));
+        assertEquals(WHITE_WINS, result(game(String.format(GameCenter.CAPTURED_ALL_PIECES, WHITE))));
+        assertEquals(WHITE_WINS, result(game(String.format(GameCenter.PIECES_BLOCKED, RED))));
+        assertEquals(BLACK_WINS, result(game(String.format(GameCenter.RESIGNED, WHITE))));
+        assertEquals(BLACK_WINS, result(game(String.format(IdleReaper.ABANDONED_MSG, WHITE))));
+        assertEquals(UNKNOWN_RESULT, result(game(null)));
+        assertEquals(UNKNOWN_RESULT, result(game("Something else happened.")));
+    }
+
+    /**
+     * Test that quotes in a name can't break out of its tag.
+     */
+    @Test
+    public void verify_tags_escaped() throws IOException {
+        StringWriter out = new StringWriter();
+        new PdnWriter(out).write(new ArchivedGame(1, "a\"b", "c\\d", null, Color.RED,
+                0, 0, Collections.emptyList()));
+        assertTrue(out.toString().contains("[Black \"a\\\"b\"]\n"));
+        assertTrue(out.toString().contains("[White \"c\\\\d\"]\n"));
+    }
+}
@@ -8,8 +8,8 @@ import org.junit.jupiter.api.Test;
 
 import spark.Session;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.mock;
@@ -27,7 +27,7 @@ public class PlayerLobbyTest {
     private static final String PLAYER_ONE_NAME = "Player One";
     private static final String PLAYER_TWO_NAME = "Player Two";
 
-    private Map<String, Player> playerList;
+    private ConcurrentSkipListMap<String, Player> playerList;
     private Session sessionOne;
     private Session sessionTwo;
     private Player testPlayer1;
@@ -41,7 +41,7 @@ public class PlayerLobbyTest {
     public void setup() {
         this.sessionOne = mock(Session.class);
         this.sessionTwo = mock(Session.class);
-        this.playerList = new HashMap<>();
+        this.playerList = new ConcurrentSkipListMap<>();
         this.testPlayer1 = new Player(PLAYER_ONE_NAME, sessionOne);
         this.testPlayer2 = new Player(PLAYER_TWO_NAME, sessionTwo);
 
@@ -139,4 +139,70 @@ public class PlayerLobbyTest {
         assertEquals(0, playerList.size(),
                 "The player list should have zero players in it");
     }
+
+    /**
+     * Test that a username can only be signed in once, and that the number
+     * of active players is kept up to date.
+     */
+    @Test
+    public void sign_in_duplicate_name() {
+        assertTrue(CuT.signIn(PLAYER_ONE_NAME, testPlayer1));
+        assertFalse(CuT.signIn(PLAYER_ONE_NAME, new Player(PLAYER_ONE_NAME, sessionTwo)));
+        assertSame(testPlayer1, CuT.getPlayerByName(PLAYER_ONE_NAME));
+        assertEquals(1, CuT.getNumberOfPlayers());
+
+        // signing out someone who isn't signed in doesn't change the count.
+        CuT.signOut(PLAYER_TWO_NAME, testPlayer2);
+        assertEquals(1, CuT.getNumberOfPlayers());
+        CuT.signOut(PLAYER_ONE_NAME, testPlayer1);
+        assertEquals(0, CuT.getNumberOfPlayers());
+    }
+
+    /**
+     * Test that players are listed a page at a time, in order of their
+     * usernames, leaving out the excluded player.
+     */
+    @Test
+    public void get_player_page() {
+        for (char name = 'E'; name >= 'A'; name--) {
+            CuT.signIn(String.valueOf(name), new Player(String.valueOf(name), sessionOne));
+        }
+        Player excluded = CuT.getPlayerByName("B");
+
+        ArrayList<Player> firstPage = CuT.getPlayerPage(null, 2, excluded);
+        assertEquals(2, firstPage.size());
+        assertEquals("A", firstPage.get(0).getName());
+        assertEquals("C", firstPage.get(1).getName());
+
+        ArrayList<Player> secondPage = CuT.getPlayerPage("C", 2, excluded);
+        assertEquals(2, secondPage.size());
+        assertEquals("D", secondPage.get(0).getName());
+        assertEquals("E", secondPage.get(1).getName());
+
+        assertTrue(CuT.getPlayerPage("E", 2, excluded).isEmpty());
+    }
+
+    /**
+     * Test that a page of players can be narrowed to the usernames starting
+     * with a prefix, and to the players who are or aren't in a game.
+     */
+    @Test
+    public void get_filtered_player_page() {
+        for (String name : new String[] {"Al", "Alex", "Amy", "Bob"}) {
+            CuT.signIn(name, new Player(name, sessionOne));
+        }
+        CuT.getPlayerByName("Alex").setInGame(true);
+
+        ArrayList<Player> prefixed = CuT.getPlayerPage(null, 10, null, "Al", null);
+        assertEquals(2, prefixed.size());
+        assertEquals("Al", prefixed.get(0).getName());
+        assertEquals("Alex", prefixed.get(1).getName());
+        assertEquals("Alex", CuT.getPlayerPage("Al", 10, null, "Al", null).get(0).getName());
+
+        ArrayList<Player> available = CuT.getPlayerPage(null, 10, null, "A", false);
+        assertEquals(2, available.size());
+        assertEquals("Amy", available.get(1).getName());
+        assertEquals("Alex", CuT.getPlayerPage(null, 10, null, null, true).get(0).getName());
+        assertTrue(CuT.getPlayerPage(null, 10, null, "C", null).isEmpty());
+    }
 }
@@ -0,0 +1,113 @@
+package com.webcheckers.application;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The unit test suite for the {@link TimingWheel} component.
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+@Tag("Application-tier")
+public class TimingWheelTest {
+
+    private TimingWheel CuT;
+
+    private static final long TICK = 10;
+    private static final int SLOTS = 8;
+
+    /** The time the wheel reads, moved forward by each test. */
+    private AtomicLong clock;
+    private List<TimingWheel.Timeout> expired;
+
+    /**
+     * Before each test, setup a small wheel that reads a clock the test
+     * controls.
+     */
+    @BeforeEach
+    public void setup() {
+        clock = new AtomicLong(1000);
+        expired = new ArrayList<>();
+        CuT = new TimingWheel(TICK, SLOTS, clock::get);
+    }
+
+    /**
+     * Move the clock forward and let the wheel catch up.
+     */
+    private void advance(long millis) {
+        clock.addAndGet(millis);
+        CuT.tick();
+    }
+
+    /**
+     * Make sure a timeout expires once its delay has passed, and only once.
+     */
+    @Test
+    public void verify_timeout_expires() {
+        TimingWheel.Timeout timeout = CuT.schedule(50, expired::add);
+
+        advance(40);
+        assertTrue(expired.isEmpty());
+
+        advance(20);
+        assertEquals(1, expired.size());
+        assertSame(timeout, expired.get(0));
+        assertFalse(timeout.touch());
+
+        advance(200);
+        assertEquals(1, expired.size());
+    }
+
+    /**
+     * Make sure touching a timeout pushes its deadline back.
+     */
+    @Test
+    public void verify_touch_delays_expiry() {
+        TimingWheel.Timeout timeout = CuT.schedule(50, expired::add);
+
+        advance(40);
+        assertTrue(timeout.touch());
+        assertEquals(clock.get(), timeout.getLastTouched());
+
+        advance(40);
+        assertTrue(expired.isEmpty());
+
+        advance(20);
+        assertEquals(1, expired.size());
+    }
+
+    /**
+     * Make sure a timeout further away than one turn of the wheel doesn't
+     * expire early.
+     */
+    @Test
+    public void verify_long_timeout() {
+        CuT.schedule(TICK * SLOTS * 3, expired::add);
+
+        advance(TICK * SLOTS * 2);
+        assertTrue(expired.isEmpty());
+
+        advance(TICK * SLOTS + TICK);
+        assertEquals(1, expired.size());
+    }
+
+    /**
+     * Make sure a cancelled timeout never expires.
+     */
+    @Test
+    public void verify_cancel() {
+        TimingWheel.Timeout timeout = CuT.schedule(50, expired::add);
+        assertTrue(timeout.cancel());
+        assertTrue(timeout.isCancelled());
+
+        advance(100);
+        assertTrue(expired.isEmpty());
+    }
+}
@@ -0,0 +1,106 @@
+package com.webcheckers.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The unit test suite for the {@link ArchivedGame} component.
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+@Tag("Model-tier")
+public class ArchivedGameTest {
+
+    private ArchivedGame CuT;
+
+    private Move redMove;
+    private Move whiteMove;
+
+    @BeforeEach
+    public void setUp() {
+        redMove = new Move(new Position(5, 2), new Position(4, 3));
+        whiteMove = new Move(new Position(2, 1), new Position(3, 2));
+        CuT = new ArchivedGame(7, "Red", "White", "Red has resigned.", Color.RED,
+                100, 200, Arrays.asList(redMove, whiteMove));
+    }
+
+    /**
+     * Test that a move survives being packed and unpacked.
+     */
+    @Test
+    public void testPackMove() {
+        assertEquals(redMove, ArchivedGame.unpack(ArchivedGame.pack(redMove)));
+        assertEquals(whiteMove, ArchivedGame.unpack(CuT.getMove(1)));
+        assertEquals(2, CuT.getMoveCount());
+    }
+
+    /**
+     * Test the {@link ArchivedGame#getBoard(int)} method
+     */
+    @Test
+    public void testGetBoard() {
+        BoardView board = CuT.getBoard(2);
+        assertNull(board.getPiece(5, 2));
+        assertSame(Color.RED, board.getPiece(4, 3).getColor());
+        assertNull(board.getPiece(2, 1));
+        assertSame(Color.WHITE, board.getPiece(3, 2).getColor());
+        // the starting position is left alone.
+        assertNotNull(CuT.getBoard(0).getPiece(5, 2));
+    }
+
+    /**
+     * Test that a jump captures the piece jumped over, and a piece reaching
+     * the far row is crowned.
+     */
+    @Test
+    public void testApplyJumpAndPromotion() {
+        BoardView board = new BoardView();
+        board.getRow(0).getSpace(1).setPiece(null);
+        board.getRow(2).getSpace(3).setPiece(new Piece(Type.SINGLE, Color.RED));
+
+        ArchivedGame.applyMove(board, ArchivedGame.pack(
+                new Move(new Position(2, 3), new Position(0, 1))));
+
+        assertNull(board.getPiece(2, 3));
+        assertNull(board.getPiece(1, 2));
+        assertSame(Type.KING, board.getPiece(0, 1).getType());
+    }
+
+    /**
+     * Test that position hashes change with the position, and that equal
+     * positions hash the same way.
+     */
+    @Test
+    public void testPositionHashes() {
+        assertNotEquals(CuT.getPositionHash(0), CuT.getPositionHash(1));
+        assertNotEquals(CuT.getPositionHash(1), CuT.getPositionHash(2));
+
+        ArchivedGame other = new ArchivedGame(8, "Red", "White", null, Color.WHITE,
+                0, 0, Arrays.asList(redMove));
+        assertEquals(CuT.getPositionHash(1), other.getPositionHash(1));
+    }
+
+    /**
+     * Test that the turn is worked out for every position, with the jumps
+     * of one turn kept together.
+     */
+    @Test
+    public void testGetTurn() {
+        assertEquals(Color.RED, CuT.getTurn(0));
+        assertEquals(Color.WHITE, CuT.getTurn(1));
+        assertEquals(Color.RED, CuT.getTurn(2));
+
+        ArchivedGame jumps = new ArchivedGame(9, "Red", "White", null, Color.RED,
+                0, 0, Arrays.asList(new Move(new Position(5, 4), new Position(3, 6)),
+                new Move(new Position(3, 6), new Position(1, 4)),
+                new Move(new Position(0, 3), new Position(1, 2))));
+        assertEquals(Color.RED, jumps.getTurn(1));
+        assertEquals(Color.WHITE, jumps.getTurn(2));
+        assertEquals(Color.RED, jumps.getTurn(3));
+    }
+}
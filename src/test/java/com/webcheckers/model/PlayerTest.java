@@ -79,6 +79,16 @@ class PlayerTest {
         assertEquals(GAME_STATUS, CuT.getInGameStatus(), "Should return false as the InGameStatus");
     }
 
+    /**
+     * Test the {@link Player#tryEnterGame()} method.
+     */
+    @Test
+    public void tryEnterGameTest(){
+        assertTrue(CuT.tryEnterGame(), "Should enter the game, since the player isn't in one");
+        assertTrue(CuT.getInGameStatus(), "Should now be in a game");
+        assertFalse(CuT.tryEnterGame(), "Should not enter a second game");
+    }
+
     /**
      * Test the {@link Player#equals(Object)}  method.
      * Object will be not be a player
@@ -0,0 +1,97 @@
+package com.webcheckers.ui;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The unit test suite for the {@link AssetPipeline} component.
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+@Tag("UI-tier")
+public class AssetPipelineTest {
+
+    /**
+     * The component under test.
+     */
+    private AssetPipeline CuT;
+
+    @BeforeEach
+    public void setup() {
+        CuT = new AssetPipeline(getClass().getClassLoader());
+    }
+
+    private AssetPipeline.Asset asset(String key) {
+        String url = CuT.getUrls().get(key);
+        assertTrue(url.startsWith(WebServer.ASSETS_URL + "/"));
+        return CuT.get(url.substring(WebServer.ASSETS_URL.length() + 1));
+    }
+
+    /**
+     * Test that imported modules are named the way RequireJS names them.
+     */
+    @Test
+    public void resolve_module_names() {
+        assertEquals("model/GameState", AssetPipeline.resolve("GameView", "./model/GameState"));
+        assertEquals("util/AjaxUtils",
+                AssetPipeline.resolve("modes/play/PlayController", "../../util/AjaxUtils"));
+        assertEquals("model/Position", AssetPipeline.resolve("model/Move", "./Position"));
+        assertEquals("jquery", AssetPipeline.resolve("main", "jquery"));
+    }
+
+    /**
+     * Test that the Game page's script holds RequireJS, every module named,
+     * each one after the modules it imports, and the script that starts it.
+     */
+    @Test
+    public void game_script_bundled() {
+        AssetPipeline.Asset script = asset(AssetPipeline.GAME_JS);
+        assertEquals(AssetPipeline.JS_TYPE, script.getContentType());
+        String source = new String(script.getBytes(), StandardCharsets.UTF_8);
+
+        assertTrue(source.startsWith("/** vim: et:ts=4:sw=4:sts=4\n * @license RequireJS"));
+        int position = source.indexOf("define('model/Position', ");
+        int move = source.indexOf("define('model/Move', ");
+        int main = source.indexOf("define('main', ");
+        assertTrue(position > 0);
+        assertTrue(move > position);
+        assertTrue(main > move);
+        assertTrue(source.contains("define('modes/spectator/SpectatorController', "));
+        assertTrue(source.indexOf("requirejs([\"main\"]);") > main);
+        assertFalse(source.contains("define(function"));
+    }
+
+    /**
+     * Test that bundles are named for their contents, and gzipped.
+     */
+    @Test
+    public void fingerprinted_and_gzipped() throws IOException {
+        AssetPipeline.Asset styles = asset(AssetPipeline.STYLE_CSS);
+        String url = CuT.getUrls().get(AssetPipeline.STYLE_CSS);
+        assertTrue(url.contains(styles.getETag().replace("\"", "")));
+        assertEquals(url, new AssetPipeline(getClass().getClassLoader()).getUrls()
+                .get(AssetPipeline.STYLE_CSS));
+        assertNotEquals(url, CuT.getUrls().get(AssetPipeline.GAME_CSS));
+
+        ByteArrayOutputStream unzipped = new ByteArrayOutputStream();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(styles.getGzipped()))) {
+            byte[] buffer = new byte[1024];
+            for (int read; (read = in.read(buffer)) != -1; ) {
+                unzipped.write(buffer, 0, read);
+            }
+        }
+        assertArrayEquals(styles.getBytes(), unzipped.toByteArray());
+        assertTrue(styles.getGzipped().length < styles.getBytes().length);
+
+        assertNull(CuT.get("style.000000000000.css"));
+    }
+}
@@ -0,0 +1,153 @@
+package com.webcheckers.ui;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import spark.Request;
+import spark.Response;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static com.webcheckers.ui.CompressionFilter.CONTENT_ENCODING_HEADER;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * The unit test suite for the {@link CompressionFilter} component.
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+@Tag("UI-tier")
+public class CompressionFilterTest {
+
+    /**
+     * The component under test.
+     */
+    private CompressionFilter CuT;
+
+    private static final int MINIMUM_SIZE = 64;
+
+    private Request request;
+    private Response response;
+    private HttpServletResponse rawResponse;
+    private ByteArrayOutputStream written;
+    private String page;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        request = mock(Request.class);
+        response = mock(Response.class);
+        rawResponse = mock(HttpServletResponse.class);
+        written = new ByteArrayOutputStream();
+        when(response.raw()).thenReturn(rawResponse);
+        when(rawResponse.getOutputStream()).thenReturn(new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+
+            @Override
+            public void write(int b) {
+                written.write(b);
+            }
+        });
+        when(request.headers(GetAssetRoute.ACCEPT_ENCODING_HEADER)).thenReturn("gzip, deflate");
+
+        StringBuilder html = new StringBuilder("<html><body>");
+        for (int i = 0; i < 50; i++) {
+            html.append("<div class=\"Space\" data-row=\"").append(i).append("\">♔</div>");
+        }
+        page = html.append("</body></html>").toString();
+        when(response.body()).thenReturn(page);
+
+        CuT = new CompressionFilter(MINIMUM_SIZE, 5, 1);
+    }
+
+    private String gunzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            byte[] buffer = new byte[1024];
+            for (int read; (read = in.read(buffer)) != -1; ) {
+                out.write(buffer, 0, read);
+            }
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Test that a large page is gzipped, and that its compressor is reused.
+     */
+    @Test
+    public void large_page_gzipped() throws IOException {
+        CuT.handle(request, response);
+
+        verify(rawResponse).setHeader(CONTENT_ENCODING_HEADER, GetAssetRoute.GZIP);
+        verify(rawResponse).addHeader("Vary", GetAssetRoute.ACCEPT_ENCODING_HEADER);
+        verify(rawResponse).flushBuffer();
+        assertTrue(written.size() < page.length());
+        assertEquals(page, gunzip(written.toByteArray()));
+        assertEquals(1, CuT.getPooledCount());
+
+        // a second response is compressed from scratch by the same compressor.
+        written.reset();
+        CuT.handle(request, response);
+        assertEquals(page, gunzip(written.toByteArray()));
+        assertEquals(1, CuT.getPooledCount());
+    }
+
+    /**
+     * Test that small bodies, clients that don't accept gzip, and responses
+     * that are already written or encoded are left alone.
+     */
+    @Test
+    public void left_alone() throws IOException {
+        when(request.headers(GetAssetRoute.ACCEPT_ENCODING_HEADER)).thenReturn("identity");
+        CuT.handle(request, response);
+        verify(rawResponse).addHeader("Vary", GetAssetRoute.ACCEPT_ENCODING_HEADER);
+
+        when(request.headers(GetAssetRoute.ACCEPT_ENCODING_HEADER)).thenReturn("gzip");
+        when(response.body()).thenReturn("{\"text\":\"true\",\"type\":\"INFO\"}");
+        CuT.handle(request, response);
+
+        when(response.body()).thenReturn(page);
+        when(rawResponse.isCommitted()).thenReturn(true);
+        CuT.handle(request, response);
+
+        when(rawResponse.isCommitted()).thenReturn(false);
+        when(rawResponse.getContentType()).thenReturn(GetSpectatorEventsRoute.EVENT_STREAM_TYPE);
+        CuT.handle(request, response);
+
+        when(rawResponse.getContentType()).thenReturn("text/html");
+        when(rawResponse.getHeader(CONTENT_ENCODING_HEADER)).thenReturn(GetAssetRoute.GZIP);
+        CuT.handle(request, response);
+
+        verify(rawResponse, never()).setHeader(eq(CONTENT_ENCODING_HEADER), anyString());
+        assertEquals(0, written.size());
+    }
+
+    /**
+     * Test which types of response are compressed.
+     */
+    @Test
+    public void compressible_types() {
+        assertTrue(CompressionFilter.isCompressible(null));
+        assertTrue(CompressionFilter.isCompressible("text/html;charset=utf-8"));
+        assertTrue(CompressionFilter.isCompressible(GetPlayerListRoute.JSON_TYPE));
+        assertFalse(CompressionFilter.isCompressible("image/svg+xml"));
+        assertFalse(CompressionFilter.isCompressible(GetSpectatorEventsRoute.EVENT_STREAM_TYPE));
+        assertThrows(IllegalArgumentException.class, () -> new CompressionFilter(0, 10, 1));
+    }
+}
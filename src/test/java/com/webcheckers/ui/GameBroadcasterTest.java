@@ -0,0 +1,140 @@
+package com.webcheckers.ui;
+
+import com.google.gson.Gson;
+import com.webcheckers.application.GameArchive;
+import com.webcheckers.application.GameCenter;
+import com.webcheckers.application.GameLibrary;
+import com.webcheckers.model.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The unit test suite for the {@link GameBroadcaster} component.
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+@Tag("UI-tier")
+public class GameBroadcasterTest {
+
+    /**
+     * The component under test.
+     */
+    private GameBroadcaster CuT;
+
+    private static final String PLAYER_ONE_NAME = "Player One";
+    private static final String PLAYER_TWO_NAME = "Player Two";
+    private static final int QUEUE_CAPACITY = 2;
+
+    private GameCenter gameCenter;
+
+    /**
+     * A connection that only finishes writing a broadcast when told to.
+     */
+    private static class TestConnection implements GameBroadcaster.Connection {
+        private final List<GameBroadcaster.Broadcast> sent = new ArrayList<>();
+        private Runnable finishWriting;
+        private boolean ended;
+
+        @Override
+        public void send(GameBroadcaster.Broadcast broadcast, Runnable sent) {
+            this.sent.add(broadcast);
+            this.finishWriting = sent;
+        }
+
+        @Override
+        public void end() {
+            ended = true;
+        }
+
+        void finishWriting() {
+            Runnable written = finishWriting;
+            finishWriting = null;
+            written.run();
+        }
+    }
+
+    @BeforeEach
+    public void setup() {
+        new GameLibrary(new ConcurrentSkipListMap<>(), new GameArchive(4));
+        gameCenter = GameLibrary.createGame(new Player(PLAYER_ONE_NAME, null),
+                new Player(PLAYER_TWO_NAME, null));
+        CuT = new GameBroadcaster(new Gson(), QUEUE_CAPACITY);
+    }
+
+    /**
+     * Test that every connection is handed the very same broadcast of a
+     * turn, and that a connection still writing doesn't hold up the others.
+     */
+    @Test
+    public void turn_shared_by_every_connection() {
+        TestConnection slow = new TestConnection();
+        TestConnection fast = new TestConnection();
+        CuT.subscribe(gameCenter, slow);
+        CuT.subscribe(gameCenter, fast);
+        assertEquals(2, CuT.getSubscriberCount(gameCenter.getGameID()));
+        fast.finishWriting();
+
+        gameCenter.makeMove();
+
+        assertEquals(1, slow.sent.size());
+        assertEquals(2, fast.sent.size());
+        GameBroadcaster.Broadcast turn = fast.sent.get(1);
+        assertEquals(gameCenter.getSnapshot().getVersion(), turn.getVersion());
+
+        slow.finishWriting();
+        assertSame(turn, slow.sent.get(1));
+    }
+
+    /**
+     * Test that a connection that falls behind is only sent the latest
+     * turns, and is ended once it has been told the game is over.
+     */
+    @Test
+    public void slow_connection_drops_oldest_turn() {
+        TestConnection slow = new TestConnection();
+        CuT.subscribe(gameCenter, slow);
+
+        // three turns while the greeting is still being written.
+        gameCenter.makeMove();
+        gameCenter.makeMove();
+        gameCenter.makeMove();
+        long latest = gameCenter.getSnapshot().getVersion();
+
+        slow.finishWriting();
+        slow.finishWriting();
+        assertEquals(3, slow.sent.size());
+        assertEquals(latest - 1, slow.sent.get(1).getVersion());
+        assertEquals(latest, slow.sent.get(2).getVersion());
+
+        gameCenter.setResignStatus(PLAYER_ONE_NAME + " has resigned.");
+        slow.finishWriting();
+        assertTrue(slow.sent.get(3).isGameOver());
+        assertFalse(slow.ended);
+        slow.finishWriting();
+        assertTrue(slow.ended);
+    }
+
+    /**
+     * Test that a cancelled subscription is sent nothing more, and that the
+     * game stops being watched once nobody is subscribed.
+     */
+    @Test
+    public void cancelled_subscription() {
+        TestConnection connection = new TestConnection();
+        GameBroadcaster.Subscription subscription = CuT.subscribe(gameCenter, connection);
+        connection.finishWriting();
+
+        subscription.cancel();
+        gameCenter.makeMove();
+
+        assertEquals(1, connection.sent.size());
+        assertEquals(0, CuT.getSubscriberCount(gameCenter.getGameID()));
+    }
+}
@@ -0,0 +1,73 @@
+package com.webcheckers.ui;
+
+import com.webcheckers.application.GameCenter;
+import com.webcheckers.model.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import spark.Request;
+import spark.Response;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * The unit test suite for the {@link GameETag} component.
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+@Tag("UI-tier")
+public class GameETagTest {
+
+    private static final String PLAYER_ONE_NAME = "Player One";
+    private static final String PLAYER_TWO_NAME = "Player Two";
+
+    private Request request;
+    private Response response;
+    private Player viewer;
+    private GameCenter gameCenter;
+
+    @BeforeEach
+    public void setup() {
+        request = mock(Request.class);
+        response = mock(Response.class);
+        viewer = new Player(PLAYER_ONE_NAME, null);
+        gameCenter = new GameCenter(0, viewer, new Player(PLAYER_TWO_NAME, null));
+    }
+
+    /**
+     * Test that the tag changes with the version of the game, whether it's
+     * over, and who is viewing it.
+     */
+    @Test
+    public void tag_follows_version_and_viewer() {
+        String etag = GameETag.of(0, gameCenter.getSnapshot(), viewer);
+        assertEquals(etag, GameETag.of(0, gameCenter.getSnapshot(), viewer));
+        assertNotEquals(etag, GameETag.of(0, gameCenter.getSnapshot(), null));
+
+        gameCenter.makeMove();
+        String nextTurn = GameETag.of(0, gameCenter.getSnapshot(), viewer);
+        assertNotEquals(etag, nextTurn);
+        gameCenter.setResignStatus(PLAYER_ONE_NAME + " has resigned.");
+        assertTrue(GameETag.of(0, gameCenter.getSnapshot(), viewer).contains(".over"));
+    }
+
+    /**
+     * Test that a matching If-None-Match header, including a weak tag or one
+     * of a list, is answered with 304, and that anything else isn't.
+     */
+    @Test
+    public void not_modified_only_when_matched() {
+        String etag = GameETag.of(0, gameCenter.getSnapshot(), viewer);
+
+        assertFalse(GameETag.notModified(request, response, etag));
+        verify(response).header(GameETag.ETAG_HEADER, etag);
+
+        when(request.headers(GameETag.IF_NONE_MATCH_HEADER)).thenReturn("\"stale\"");
+        assertFalse(GameETag.notModified(request, response, etag));
+
+        when(request.headers(GameETag.IF_NONE_MATCH_HEADER)).thenReturn("\"stale\", W/" + etag);
+        assertTrue(GameETag.notModified(request, response, etag));
+        verify(response).status(304);
+    }
+}
@@ -0,0 +1,172 @@
+package com.webcheckers.ui;
+
+import com.google.gson.Gson;
+import com.webcheckers.application.GameArchive;
+import com.webcheckers.application.GameCenter;
+import com.webcheckers.application.GameLibrary;
+import com.webcheckers.application.IdleReaper;
+import com.webcheckers.model.Move;
+import com.webcheckers.model.Player;
+import com.webcheckers.model.Position;
+import org.eclipse.jetty.websocket.api.RemoteEndpoint;
+import org.eclipse.jetty.websocket.api.Session;
+import org.eclipse.jetty.websocket.api.StatusCode;
+import org.eclipse.jetty.websocket.api.UpgradeRequest;
+import org.eclipse.jetty.websocket.api.WriteCallback;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.net.HttpCookie;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * The unit test suite for the {@link GameEventSocket} component.
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+@Tag("UI-tier")
+public class GameEventSocketTest {
+
+    /**
+     * The component under test.
+     */
+    private GameEventSocket CuT;
+
+    private static final String PLAYER_ONE_NAME = "Player One";
+    private static final String PLAYER_TWO_NAME = "Player Two";
+    private static final String PLAYER_TWO_SESSION_ID = "node0abc";
+
+    private Session session;
+    private List<HttpCookie> cookies;
+    private RemoteEndpoint remote;
+    private IdleReaper idleReaper;
+    private Map<String, List<String>> parameters;
+    private GameCenter gameCenter;
+
+    @BeforeEach
+    public void setup() {
+        session = mock(Session.class);
+        remote = mock(RemoteEndpoint.class);
+        UpgradeRequest upgradeRequest = mock(UpgradeRequest.class);
+        parameters = new HashMap<>();
+        when(session.getUpgradeRequest()).thenReturn(upgradeRequest);
+        when(upgradeRequest.getParameterMap()).thenReturn(parameters);
+        cookies = new ArrayList<>();
+        when(upgradeRequest.getCookies()).thenReturn(cookies);
+        when(session.getRemote()).thenReturn(remote);
+        when(session.isOpen()).thenReturn(true);
+        // every message is written straight away.
+        doAnswer(invocation -> {
+            invocation.<WriteCallback>getArgument(1).writeSuccess();
+            return null;
+        }).when(remote).sendString(anyString(), any(WriteCallback.class));
+
+        new GameLibrary(new ConcurrentSkipListMap<>(), new GameArchive(4));
+        spark.Session playerTwoSession = mock(spark.Session.class);
+        when(playerTwoSession.id()).thenReturn(PLAYER_TWO_SESSION_ID);
+        gameCenter = GameLibrary.createGame(new Player(PLAYER_ONE_NAME, null),
+                new Player(PLAYER_TWO_NAME, playerTwoSession));
+
+        idleReaper = mock(IdleReaper.class);
+        CuT = new GameEventSocket(new GameBroadcaster(new Gson(), 8), idleReaper, new Gson());
+    }
+
+    private void connect(String gameID) {
+        parameters.put(GetGameRoute.GAME_ID_ATTR, Collections.singletonList(gameID));
+        CuT.connected(session);
+    }
+
+    /**
+     * Test that a client is told whose turn it is as soon as it connects.
+     */
+    @Test
+    public void sent_turn_on_connect() {
+        connect(String.valueOf(gameCenter.getGameID()));
+
+        verify(remote).sendString(contains("\"activeColor\":\"RED\""), any(WriteCallback.class));
+        verify(session, never()).close(anyInt(), anyString());
+    }
+
+    /**
+     * Test that a connected client is sent each move of a committed turn,
+     * and whose turn it is next, until it disconnects.
+     */
+    @Test
+    public void sent_committed_turn() {
+        connect(String.valueOf(gameCenter.getGameID()));
+
+        gameCenter.updateModel(gameCenter.getRedPlayer(),
+                new Move(new Position(5, 4), new Position(4, 5)), true);
+        gameCenter.makeMove();
+
+        verify(remote).sendString(contains("\"type\":\"MOVE\""), any(WriteCallback.class));
+        verify(remote).sendString(contains("\"activeColor\":\"WHITE\""), any(WriteCallback.class));
+
+        CuT.closed(session, StatusCode.NORMAL, null);
+        gameCenter.makeMove();
+        verify(remote, times(1)).sendString(contains("\"activeColor\":\"WHITE\""),
+                any(WriteCallback.class));
+    }
+
+    /**
+     * Test that a connected client is told how the game ended, and is then
+     * disconnected.
+     */
+    @Test
+    public void closed_on_game_over() {
+        connect(String.valueOf(gameCenter.getGameID()));
+
+        gameCenter.setResignStatus(PLAYER_ONE_NAME + " has resigned.");
+
+        verify(remote).sendString(contains("GAME_OVER"), any(WriteCallback.class));
+        verify(session).close(StatusCode.NORMAL, GameEventSocket.GAME_OVER_REASON);
+    }
+
+    /**
+     * Test that a client asking for a game that has ended is told how it
+     * ended, and that a client asking for no game is turned away.
+     */
+    @Test
+    public void ended_or_missing_game() {
+        gameCenter.setResignStatus(PLAYER_ONE_NAME + " has resigned.");
+        GameLibrary.gameHasEnded(gameCenter.getGameID());
+        connect(String.valueOf(gameCenter.getGameID()));
+
+        verify(remote).sendStringByFuture(contains("GAME_OVER"));
+        verify(session).close(eq(StatusCode.NORMAL), anyString());
+
+        connect("not a number");
+        verify(session).close(eq(StatusCode.POLICY_VIOLATION), anyString());
+    }
+
+    /**
+     * Test that a Player of the game is counted as present while they're
+     * connected, and that anyone else connecting isn't.
+     */
+    @Test
+    public void player_presence_recorded() {
+        cookies.add(new HttpCookie(GameEventSocket.SESSION_COOKIE, PLAYER_TWO_SESSION_ID + ".node0"));
+        connect(String.valueOf(gameCenter.getGameID()));
+        verify(idleReaper).playerConnected(gameCenter.getWhitePlayer());
+
+        CuT.closed(session, StatusCode.NORMAL, null);
+        verify(idleReaper).playerDisconnected(gameCenter.getWhitePlayer());
+
+        cookies.set(0, new HttpCookie(GameEventSocket.SESSION_COOKIE, "node0def.node0"));
+        connect(String.valueOf(gameCenter.getGameID()));
+        CuT.closed(session, StatusCode.NORMAL, null);
+        verify(idleReaper, times(1)).playerConnected(any(Player.class));
+        verify(idleReaper, times(1)).playerDisconnected(any(Player.class));
+    }
+}
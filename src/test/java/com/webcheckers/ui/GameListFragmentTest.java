@@ -0,0 +1,66 @@
+package com.webcheckers.ui;
+
+import com.webcheckers.application.GameArchive;
+import com.webcheckers.application.GameCenter;
+import com.webcheckers.application.GameLibrary;
+import com.webcheckers.model.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import spark.ModelAndView;
+import spark.TemplateEngine;
+
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * The unit test suite for the {@link GameListFragment} component.
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+@Tag("UI-tier")
+public class GameListFragmentTest {
+
+    /**
+     * The component under test.
+     */
+    private GameListFragment CuT;
+
+    private static final String PLAYER_ONE_NAME = "Player One";
+    private static final String PLAYER_TWO_NAME = "Player Two";
+
+    private TemplateEngine engine;
+
+    @BeforeEach
+    public void setup() {
+        engine = mock(TemplateEngine.class);
+        new GameLibrary(new ConcurrentSkipListMap<>(), new GameArchive(4));
+        CuT = new GameListFragment(engine);
+    }
+
+    /**
+     * Test that the lists are only rendered again once a game has started
+     * or ended, and that the same HTML is handed out until then.
+     */
+    @Test
+    public void rendered_once_per_version() {
+        when(engine.render(any(ModelAndView.class))).thenReturn("no games", "one game", "one ended");
+
+        assertEquals("no games", CuT.render());
+        assertEquals("no games", CuT.render());
+        verify(engine, times(1)).render(any(ModelAndView.class));
+
+        GameCenter game = GameLibrary.createGame(new Player(PLAYER_ONE_NAME, null),
+                new Player(PLAYER_TWO_NAME, null));
+        assertEquals("one game", CuT.render());
+
+        game.setResignStatus(PLAYER_ONE_NAME + " has resigned.");
+        GameLibrary.gameHasEnded(game.getGameID());
+        assertEquals("one ended", CuT.render());
+        assertEquals("one ended", CuT.render());
+        verify(engine, times(3)).render(any(ModelAndView.class));
+    }
+}
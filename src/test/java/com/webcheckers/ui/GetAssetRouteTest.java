@@ -0,0 +1,127 @@
+package com.webcheckers.ui;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import spark.HaltException;
+import spark.Request;
+import spark.Response;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * The unit test suite for the {@link GetAssetRoute} component.
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+@Tag("UI-tier")
+public class GetAssetRouteTest {
+
+    /**
+     * The component under test.
+     */
+    private GetAssetRoute CuT;
+
+    private AssetPipeline assets;
+    private AssetPipeline.Asset styles;
+    private Request request;
+    private Response response;
+    private HttpServletResponse rawResponse;
+    private ByteArrayOutputStream written;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        assets = new AssetPipeline(getClass().getClassLoader());
+        String url = assets.getUrls().get(AssetPipeline.STYLE_CSS);
+        String name = url.substring(url.lastIndexOf('/') + 1);
+        styles = assets.get(name);
+
+        request = mock(Request.class);
+        response = mock(Response.class);
+        rawResponse = mock(HttpServletResponse.class);
+        written = new ByteArrayOutputStream();
+        when(request.params(GetAssetRoute.NAME_PARAM)).thenReturn(name);
+        when(response.raw()).thenReturn(rawResponse);
+        when(rawResponse.getOutputStream()).thenReturn(new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+
+            @Override
+            public void write(int b) {
+                written.write(b);
+            }
+        });
+
+        CuT = new GetAssetRoute(assets);
+    }
+
+    /**
+     * Test that a bundle is sent to be cached for good, gzipped when the
+     * client accepts it.
+     */
+    @Test
+    public void sent_gzipped() throws IOException {
+        when(request.headers(GetAssetRoute.ACCEPT_ENCODING_HEADER)).thenReturn("gzip, deflate, br");
+
+        assertEquals("", CuT.handle(request, response));
+        verify(rawResponse).setContentType(AssetPipeline.CSS_TYPE);
+        verify(rawResponse).setHeader("Cache-Control", GetAssetRoute.CACHE_CONTROL);
+        verify(rawResponse).setHeader(GameETag.ETAG_HEADER, styles.getETag());
+        verify(rawResponse).setHeader("Content-Encoding", GetAssetRoute.GZIP);
+        assertArrayEquals(styles.getGzipped(), written.toByteArray());
+    }
+
+    /**
+     * Test that a client that doesn't accept gzip is sent the bundle as it
+     * is, and that one that already has it is sent nothing.
+     */
+    @Test
+    public void sent_plain_or_not_at_all() throws IOException {
+        CuT.handle(request, response);
+        verify(rawResponse, never()).setHeader(eq("Content-Encoding"), anyString());
+        assertArrayEquals(styles.getBytes(), written.toByteArray());
+
+        written.reset();
+        when(request.headers(GameETag.IF_NONE_MATCH_HEADER)).thenReturn("W/" + styles.getETag());
+        CuT.handle(request, response);
+        verify(rawResponse).setStatus(304);
+        assertEquals(0, written.size());
+    }
+
+    /**
+     * Test that a bundle that doesn't exist isn't found.
+     */
+    @Test
+    public void unknown_asset() {
+        when(request.params(GetAssetRoute.NAME_PARAM)).thenReturn("game.000000000000.js");
+        assertThrows(HaltException.class, () -> CuT.handle(request, response));
+        verify(rawResponse, never()).setContentLength(anyInt());
+    }
+
+    /**
+     * Test which Accept-Encoding headers allow gzip.
+     */
+    @Test
+    public void accepts_gzip() {
+        assertTrue(GetAssetRoute.acceptsGzip("gzip"));
+        assertTrue(GetAssetRoute.acceptsGzip("deflate, GZIP;q=0.5"));
+        assertTrue(GetAssetRoute.acceptsGzip("*"));
+        assertFalse(GetAssetRoute.acceptsGzip("gzip;q=0"));
+        assertFalse(GetAssetRoute.acceptsGzip("br, deflate"));
+        assertFalse(GetAssetRoute.acceptsGzip(null));
+    }
+}
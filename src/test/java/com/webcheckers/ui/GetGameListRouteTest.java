@@ -0,0 +1,137 @@
+package com.webcheckers.ui;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.webcheckers.application.GameArchive;
+import com.webcheckers.application.GameCenter;
+import com.webcheckers.application.GameLibrary;
+import com.webcheckers.model.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import spark.HaltException;
+import spark.Request;
+import spark.Response;
+import spark.Session;
+
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import static com.webcheckers.ui.GetGameListRoute.PLAYER_PARAM;
+import static com.webcheckers.ui.GetGameListRoute.STATUS_PARAM;
+import static com.webcheckers.ui.ListPage.AFTER_PARAM;
+import static com.webcheckers.ui.ListPage.LIMIT_PARAM;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * The unit test suite for the {@link GetGameListRoute} component.
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+@Tag("UI-tier")
+public class GetGameListRouteTest {
+
+    /**
+     * The component under test.
+     */
+    private GetGameListRoute CuT;
+
+    private static final String PLAYER_ONE_NAME = "Player One";
+    private static final String PLAYER_TWO_NAME = "Player Two";
+    private static final String PLAYER_THREE_NAME = "Player Three";
+
+    private Gson gson;
+    private Request request;
+    private Response response;
+    private Session session;
+    private GameCenter firstGame;
+    private GameCenter secondGame;
+
+    @BeforeEach
+    public void setup() {
+        gson = new Gson();
+        request = mock(Request.class);
+        response = mock(Response.class);
+        session = mock(Session.class);
+        when(request.session()).thenReturn(session);
+
+        Player playerOne = new Player(PLAYER_ONE_NAME, null);
+        when(session.attribute(GetHomeRoute.CURRENT_USER_ATTR)).thenReturn(playerOne);
+        new GameLibrary(new ConcurrentSkipListMap<>(), new GameArchive(4));
+        firstGame = GameLibrary.createGame(playerOne, new Player(PLAYER_TWO_NAME, null));
+        secondGame = GameLibrary.createGame(new Player(PLAYER_THREE_NAME, null),
+                new Player(PLAYER_TWO_NAME, null));
+
+        CuT = new GetGameListRoute(gson);
+    }
+
+    private JsonObject page() {
+        return gson.fromJson((String) CuT.handle(request, response), JsonObject.class);
+    }
+
+    /**
+     * Test that active games are listed a page at a time, with the cursor of
+     * the next page.
+     */
+    @Test
+    public void active_games_paged() {
+        when(request.queryParams(LIMIT_PARAM)).thenReturn("1");
+
+        JsonObject first = page();
+        JsonArray items = first.getAsJsonArray("items");
+        assertEquals(1, items.size());
+        assertEquals(firstGame.getGameID(), items.get(0).getAsJsonObject().get("gameID").getAsInt());
+        assertEquals(PLAYER_ONE_NAME, items.get(0).getAsJsonObject().get("redPlayer").getAsString());
+        assertEquals(String.valueOf(firstGame.getGameID()), first.get("next").getAsString());
+
+        when(request.queryParams(AFTER_PARAM)).thenReturn(first.get("next").getAsString());
+        JsonObject second = page();
+        assertEquals(secondGame.getGameID(),
+                second.getAsJsonArray("items").get(0).getAsJsonObject().get("gameID").getAsInt());
+        assertNull(second.get("next"));
+    }
+
+    /**
+     * Test that the lists can be narrowed to one player's games, and that
+     * ended games are listed once a game ends.
+     */
+    @Test
+    public void filtered_by_player_and_status() {
+        when(request.queryParams(PLAYER_PARAM)).thenReturn(PLAYER_THREE_NAME);
+        assertEquals(1, page().getAsJsonArray("items").size());
+
+        firstGame.setResignStatus(PLAYER_ONE_NAME + " has resigned.");
+        GameLibrary.gameHasEnded(firstGame.getGameID());
+        when(request.queryParams(PLAYER_PARAM)).thenReturn(PLAYER_ONE_NAME);
+        assertEquals(0, page().getAsJsonArray("items").size());
+
+        when(request.queryParams(STATUS_PARAM)).thenReturn(GetGameListRoute.ENDED);
+        JsonArray ended = page().getAsJsonArray("items");
+        assertEquals(1, ended.size());
+        assertEquals(GetGameListRoute.ENDED, ended.get(0).getAsJsonObject().get("status").getAsString());
+    }
+
+    /**
+     * Test that bad parameters, and users who haven't signed in, are turned
+     * away.
+     */
+    @Test
+    public void bad_requests() {
+        when(request.queryParams(LIMIT_PARAM)).thenReturn(String.valueOf(ListPage.MAX_PAGE_SIZE + 1));
+        assertThrows(HaltException.class, () -> CuT.handle(request, response));
+
+        when(request.queryParams(LIMIT_PARAM)).thenReturn(null);
+        when(request.queryParams(STATUS_PARAM)).thenReturn("paused");
+        assertThrows(HaltException.class, () -> CuT.handle(request, response));
+
+        when(request.queryParams(STATUS_PARAM)).thenReturn(null);
+        when(request.queryParams(AFTER_PARAM)).thenReturn("not a number");
+        assertThrows(HaltException.class, () -> CuT.handle(request, response));
+
+        when(request.queryParams(AFTER_PARAM)).thenReturn(null);
+        when(session.attribute(GetHomeRoute.CURRENT_USER_ATTR)).thenReturn(null);
+        assertThrows(HaltException.class, () -> CuT.handle(request, response));
+    }
+}
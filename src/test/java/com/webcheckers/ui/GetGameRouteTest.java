@@ -1,9 +1,11 @@
 package com.webcheckers.ui;
 
 import com.google.gson.Gson;
+import com.webcheckers.application.GameArchive;
 import com.webcheckers.application.GameCenter;
 import com.webcheckers.application.GameLibrary;
 import com.webcheckers.application.PlayerLobby;
+import com.webcheckers.model.BoardView;
 import com.webcheckers.model.Color;
 import com.webcheckers.model.Player;
 
@@ -15,10 +17,11 @@ import org.junit.jupiter.api.Test;
 import spark.*;
 
 import java.util.HashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.Map;
 
 import static com.webcheckers.ui.GetGameRoute.GAME_ID_ATTR;
-import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -67,7 +70,7 @@ public class GetGameRouteTest {
         testPlayer2 = new Player(PLAYER_TWO_NAME, sessionTwo);
 
         // set up the CuT dependencies
-        playerLobby = new PlayerLobby(new HashMap<>());
+        playerLobby = new PlayerLobby(new ConcurrentSkipListMap<>());
         engine = mock(TemplateEngine.class);
 
         // sign-in the players
@@ -77,9 +80,9 @@ public class GetGameRouteTest {
 
         CuT = new GetGameRoute(playerLobby, engine, gson);
 
-        HashMap<Integer, GameCenter> activeGameList = new HashMap<>();
-        HashMap<Integer, GameCenter> endedGameList = new HashMap<>();
-        dependant = new GameLibrary(activeGameList, endedGameList);
+        ConcurrentSkipListMap<Integer, GameCenter> activeGameList = new ConcurrentSkipListMap<>();
+        GameArchive endedGameArchive = new GameArchive(4);
+        dependant = new GameLibrary(activeGameList, endedGameArchive);
     }
 
     /**
@@ -182,7 +185,10 @@ public class GetGameRouteTest {
         testHelper.assertViewModelAttribute(GetGameRoute.WHITE_PLAYER, testPlayer1);
         testHelper.assertViewModelAttribute("viewMode", ViewMode.PLAY);
         testHelper.assertViewModelAttribute("activeColor", Color.RED);
-        testHelper.assertViewModelAttribute("board", gameCenter.getRotatedBoard());
+        // the board is rotated for the White player, into a board of its own.
+        BoardView board = (BoardView) testHelper.getViewModelAttribute("board");
+        assertSame(gameCenter.getCheckersBoard().getRow(7).getSpace(7), board.getRow(0).getSpace(0));
+        assertNotSame(board, gameCenter.getRotatedBoard());
         //  * test view name
         testHelper.assertViewName("game.ftl");
     }
@@ -218,6 +224,35 @@ public class GetGameRouteTest {
         testHelper.assertViewName("game.ftl");
     }
 
+    /**
+     * Test that the page of an ended game, shared by every request for it,
+     * is built without changing the game.
+     */
+    @Test
+    public void ended_game_not_changed(){
+        when(sessionOne.attribute(GetHomeRoute.CURRENT_USER_ATTR)).thenReturn(testPlayer2);
+        GameCenter gameCenter = dependant.createGame(testPlayer1, testPlayer2);
+        when(request.queryParams(GAME_ID_ATTR)).thenReturn(String.valueOf(gameCenter.getGameID()));
+        gameCenter.setResignStatus(PLAYER_ONE_NAME + " has resigned.");
+        GameLibrary.gameHasEnded(gameCenter.getGameID());
+        GameCenter endedGame = GameLibrary.getGameByID(gameCenter.getGameID());
+        long version = endedGame.getSnapshot().getVersion();
+
+        final TemplateEngineTester testHelper = new TemplateEngineTester();
+        when(engine.render(any(ModelAndView.class))).thenAnswer(testHelper.makeAnswer());
+
+        CuT.handle(request, response);
+        BoardView first = (BoardView) testHelper.getViewModelAttribute("board");
+        CuT.handle(request, response);
+        BoardView second = (BoardView) testHelper.getViewModelAttribute("board");
+
+        assertNotSame(first, second);
+        assertSame(endedGame, GameLibrary.getGameByID(gameCenter.getGameID()));
+        assertEquals(version, endedGame.getSnapshot().getVersion());
+        assertTrue(testHelper.getViewModelAttribute("modeOptionsAsJSON").toString()
+                .contains(PLAYER_ONE_NAME + " has resigned."));
+    }
+
     /**
      * Test that the view model is build correctly if a player resigns
      */
@@ -267,10 +302,12 @@ public class GetGameRouteTest {
         for (int i = 0; i < 12; i++){
             testPlayer1.capture();
         }
+        // the end of the game is published when the last turn is committed.
+        gameCenter.publishSnapshot();
 
         final Map<String, Object> modeOptions = new HashMap<>(2);
         modeOptions.put("isGameOver", true);
-        modeOptions.put("gameOverMessage", "Player Two has captured all of the pieces");
+        modeOptions.put("gameOverMessage", "Player One has captured all of the pieces");
 
         final TemplateEngineTester testHelper = new TemplateEngineTester();
         when(engine.render(any(ModelAndView.class))).thenAnswer(testHelper.makeAnswer());
@@ -307,6 +344,7 @@ public class GetGameRouteTest {
         for (int i = 0; i < 12; i++){
             testPlayer2.capture();
         }
+        gameCenter.publishSnapshot();
 
         final Map<String, Object> modeOptions = new HashMap<>(2);
         modeOptions.put("isGameOver", true);
@@ -345,6 +383,7 @@ public class GetGameRouteTest {
         when(request.queryParams(GAME_ID_ATTR)).thenReturn(String.valueOf(gameCenter.getGameID()));
 
         gameCenter.getSimpleMoveValidator().clearRedList();
+        gameCenter.publishSnapshot();
 
         final Map<String, Object> modeOptions = new HashMap<>(2);
         modeOptions.put("isGameOver", true);
@@ -384,6 +423,7 @@ public class GetGameRouteTest {
         when(request.queryParams(GAME_ID_ATTR)).thenReturn(String.valueOf(gameCenter.getGameID()));
 
         gameCenter.getSimpleMoveValidator().clearWhiteList();
+        gameCenter.publishSnapshot();
 
         final Map<String, Object> modeOptions = new HashMap<>(2);
         modeOptions.put("isGameOver", true);
@@ -1,5 +1,6 @@
 package com.webcheckers.ui;
 
+import com.webcheckers.application.GameArchive;
 import com.webcheckers.application.GameCenter;
 import com.webcheckers.application.GameLibrary;
 import com.webcheckers.util.Message;
@@ -10,7 +11,7 @@ import spark.*;
 import com.webcheckers.application.PlayerLobby;
 import com.webcheckers.model.Player;
 import org.junit.jupiter.api.BeforeEach;
-import java.util.HashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 import static com.webcheckers.ui.GetHomeRoute.CURRENT_USER_ATTR;
 import static com.webcheckers.ui.GetHomeRoute.TITLE_ATTR;
@@ -61,15 +62,15 @@ class GetHomeRouteTest {
         testPlayer1 = new Player(PLAYER_ONE_NAME, sessionOne);
         testPlayer2 = new Player(PLAYER_TWO_NAME, sessionTwo);
 
-        playerLobby = new PlayerLobby(new HashMap<>());
+        playerLobby = new PlayerLobby(new ConcurrentSkipListMap<>());
         engine = mock(TemplateEngine.class);
 
         playerLobby.signIn(PLAYER_ONE_NAME, testPlayer1);
         playerLobby.signIn(PLAYER_TWO_NAME, testPlayer2);
 
-        HashMap<Integer, GameCenter> activeGameList = new HashMap<>();
-        HashMap<Integer, GameCenter> endedGameList = new HashMap<>();
-        gameLibrary = new GameLibrary(activeGameList, endedGameList);
+        ConcurrentSkipListMap<Integer, GameCenter> activeGameList = new ConcurrentSkipListMap<>();
+        GameArchive endedGameArchive = new GameArchive(4);
+        gameLibrary = new GameLibrary(activeGameList, endedGameArchive);
 
         CuT = new GetHomeRoute(playerLobby, engine);
 }
@@ -109,4 +110,25 @@ class GetHomeRouteTest {
         //  * test view name
         testHelper.assertViewName("home.ftl");
     }
-}
\ No newline at end of file
+
+    /**
+     * Test that only one page of players is listed, along with where the
+     * next page starts.
+     */
+    @Test
+    public void test_player_list_paged() {
+        for (int i = 0; i < GetHomeRoute.PLAYER_PAGE_SIZE; i++) {
+            String name = String.format("Player %03d", i);
+            playerLobby.signIn(name, new Player(name, sessionTwo));
+        }
+        when(sessionOne.attribute(CURRENT_USER_ATTR)).thenReturn(testPlayer1);
+
+        final TemplateEngineTester testHelper = new TemplateEngineTester();
+        when(engine.render(any(ModelAndView.class))).thenAnswer(testHelper.makeAnswer());
+
+        CuT.handle(request, response);
+
+        testHelper.assertViewModelAttribute(GetHomeRoute.NEXT_PLAYERS_ATTR,
+                String.format("Player %03d", GetHomeRoute.PLAYER_PAGE_SIZE - 1));
+    }
+}
@@ -0,0 +1,172 @@
+package com.webcheckers.ui;
+
+import com.webcheckers.application.GameArchive;
+import com.webcheckers.application.GameCenter;
+import com.webcheckers.application.GameLibrary;
+import com.webcheckers.model.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import spark.HaltException;
+import spark.Request;
+import spark.Response;
+import spark.Session;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.zip.GZIPInputStream;
+
+import static com.webcheckers.ui.CompressionFilter.CONTENT_ENCODING_HEADER;
+import static com.webcheckers.ui.GetGameRoute.GAME_ID_ATTR;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * The unit test suite for the {@link GetPdnExportRoute} component.
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+@Tag("UI-tier")
+public class GetPdnExportRouteTest {
+
+    /**
+     * The component under test.
+     */
+    private GetPdnExportRoute CuT;
+
+    private static final String PLAYER_ONE_NAME = "Player One";
+    private static final String PLAYER_TWO_NAME = "Player Two";
+    private static final String PLAYER_THREE_NAME = "Player Three";
+
+    private Request request;
+    private Response response;
+    private Session session;
+    private HttpServletResponse rawResponse;
+    private ByteArrayOutputStream written;
+    private GameCenter firstGame;
+    private GameCenter secondGame;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        request = mock(Request.class);
+        response = mock(Response.class);
+        session = mock(Session.class);
+        rawResponse = mock(HttpServletResponse.class);
+        written = new ByteArrayOutputStream();
+        when(request.session()).thenReturn(session);
+        when(response.raw()).thenReturn(rawResponse);
+        when(rawResponse.getOutputStream()).thenReturn(new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+
+            @Override
+            public void write(int b) {
+                written.write(b);
+            }
+        });
+
+        Player playerOne = new Player(PLAYER_ONE_NAME, null);
+        when(session.attribute(GetHomeRoute.CURRENT_USER_ATTR)).thenReturn(playerOne);
+        new GameLibrary(new ConcurrentSkipListMap<>(), new GameArchive(4));
+        firstGame = GameLibrary.createGame(playerOne, new Player(PLAYER_TWO_NAME, null));
+        secondGame = GameLibrary.createGame(new Player(PLAYER_THREE_NAME, null),
+                new Player(PLAYER_TWO_NAME, null));
+        firstGame.setResignStatus(String.format(GameCenter.RESIGNED, PLAYER_ONE_NAME));
+        GameLibrary.gameHasEnded(firstGame.getGameID());
+        secondGame.setResignStatus(String.format(GameCenter.RESIGNED, PLAYER_TWO_NAME));
+        GameLibrary.gameHasEnded(secondGame.getGameID());
+
+        CuT = new GetPdnExportRoute();
+    }
+
+    private String gunzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            byte[] buffer = new byte[1024];
+            for (int read; (read = in.read(buffer)) != -1; ) {
+                out.write(buffer, 0, read);
+            }
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Test that one game is sent as a file of its own, gzipped for clients
+     * that accept it.
+     */
+    @Test
+    public void one_game_exported() throws IOException {
+        when(request.queryParams(GAME_ID_ATTR)).thenReturn(String.valueOf(firstGame.getGameID()));
+        when(request.headers(GetAssetRoute.ACCEPT_ENCODING_HEADER)).thenReturn("gzip, deflate");
+
+        assertEquals("", CuT.handle(request, response));
+
+        verify(rawResponse).setContentType(GetPdnExportRoute.PDN_TYPE);
+        verify(rawResponse).setHeader("Content-Disposition",
+                "attachment; filename=\"game-" + firstGame.getGameID() + ".pdn\"");
+        verify(rawResponse).setHeader(CONTENT_ENCODING_HEADER, GetAssetRoute.GZIP);
+        String pdn = gunzip(written.toByteArray());
+        assertTrue(pdn.startsWith("[Event \"Web Checkers game " + firstGame.getGameID() + "\"]\n"));
+        assertTrue(pdn.contains("[Black \"" + PLAYER_ONE_NAME + "\"]\n"));
+        assertTrue(pdn.contains("[Result \"0-1\"]\n"));
+        assertFalse(pdn.contains(PLAYER_THREE_NAME));
+    }
+
+    /**
+     * Test that every ended game is sent, or those of one player, uncompressed
+     * for clients that don't accept gzip.
+     */
+    @Test
+    public void all_games_exported() throws IOException {
+        CuT.handle(request, response);
+
+        verify(rawResponse).setHeader("Content-Disposition", "attachment; filename=\"games.pdn\"");
+        verify(rawResponse, never()).setHeader(eq(CONTENT_ENCODING_HEADER), anyString());
+        String pdn = new String(written.toByteArray(), StandardCharsets.UTF_8);
+        assertTrue(pdn.indexOf("game " + firstGame.getGameID() + "\"")
+                < pdn.indexOf("game " + secondGame.getGameID() + "\""));
+        assertTrue(pdn.contains("[Black \"" + PLAYER_THREE_NAME + "\"]\n"));
+        assertTrue(pdn.contains("[Result \"1-0\"]\n"));
+
+        written.reset();
+        when(request.queryParams(GetGameListRoute.PLAYER_PARAM)).thenReturn(PLAYER_THREE_NAME);
+        CuT.handle(request, response);
+        pdn = new String(written.toByteArray(), StandardCharsets.UTF_8);
+        assertFalse(pdn.contains(PLAYER_ONE_NAME));
+        assertTrue(pdn.contains(PLAYER_THREE_NAME));
+    }
+
+    /**
+     * Test that users who haven't signed in, bad gameIDs and games that
+     * haven't ended are turned away.
+     */
+    @Test
+    public void bad_requests() {
+        when(request.queryParams(GAME_ID_ATTR)).thenReturn("not a number");
+        assertThrows(HaltException.class, () -> CuT.handle(request, response));
+
+        GameCenter activeGame = GameLibrary.createGame(new Player("Player Four", null),
+                new Player("Player Five", null));
+        when(request.queryParams(GAME_ID_ATTR)).thenReturn(String.valueOf(activeGame.getGameID()));
+        assertThrows(HaltException.class, () -> CuT.handle(request, response));
+
+        when(request.queryParams(GAME_ID_ATTR)).thenReturn(null);
+        when(session.attribute(GetHomeRoute.CURRENT_USER_ATTR)).thenReturn(null);
+        assertThrows(HaltException.class, () -> CuT.handle(request, response));
+        assertEquals(0, written.size());
+    }
+}
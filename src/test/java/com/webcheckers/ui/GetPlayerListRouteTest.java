@@ -0,0 +1,116 @@
+package com.webcheckers.ui;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.webcheckers.application.PlayerLobby;
+import com.webcheckers.model.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import spark.HaltException;
+import spark.Request;
+import spark.Response;
+import spark.Session;
+
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import static com.webcheckers.ui.GetPlayerListRoute.NAME_PARAM;
+import static com.webcheckers.ui.GetPlayerListRoute.STATUS_PARAM;
+import static com.webcheckers.ui.ListPage.AFTER_PARAM;
+import static com.webcheckers.ui.ListPage.LIMIT_PARAM;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * The unit test suite for the {@link GetPlayerListRoute} component.
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+@Tag("UI-tier")
+public class GetPlayerListRouteTest {
+
+    /**
+     * The component under test.
+     */
+    private GetPlayerListRoute CuT;
+
+    private Gson gson;
+    private Request request;
+    private Response response;
+    private Session session;
+    private PlayerLobby playerLobby;
+
+    @BeforeEach
+    public void setup() {
+        gson = new Gson();
+        request = mock(Request.class);
+        response = mock(Response.class);
+        session = mock(Session.class);
+        when(request.session()).thenReturn(session);
+
+        playerLobby = new PlayerLobby(new ConcurrentSkipListMap<>());
+        for (String name : new String[] {"Ann", "Anna", "Ben", "Cal"}) {
+            playerLobby.signIn(name, new Player(name, null));
+        }
+        playerLobby.getPlayerByName("Anna").setInGame(true);
+        when(session.attribute(GetHomeRoute.CURRENT_USER_ATTR))
+                .thenReturn(playerLobby.getPlayerByName("Cal"));
+
+        CuT = new GetPlayerListRoute(playerLobby, gson);
+    }
+
+    private JsonObject page() {
+        return gson.fromJson((String) CuT.handle(request, response), JsonObject.class);
+    }
+
+    /**
+     * Test that the other players are listed a page at a time, leaving out
+     * the current user.
+     */
+    @Test
+    public void players_paged() {
+        when(request.queryParams(LIMIT_PARAM)).thenReturn("2");
+
+        JsonObject first = page();
+        JsonArray items = first.getAsJsonArray("items");
+        assertEquals(2, items.size());
+        assertEquals("Ann", items.get(0).getAsJsonObject().get("name").getAsString());
+        assertEquals(GetPlayerListRoute.PLAYING,
+                items.get(1).getAsJsonObject().get("status").getAsString());
+        assertEquals("Anna", first.get("next").getAsString());
+        verify(response).type(GetPlayerListRoute.JSON_TYPE);
+
+        when(request.queryParams(AFTER_PARAM)).thenReturn("Anna");
+        JsonObject second = page();
+        assertEquals(1, second.getAsJsonArray("items").size());
+        assertNull(second.get("next"));
+    }
+
+    /**
+     * Test that players can be narrowed by the start of their usernames and
+     * by whether they're in a game.
+     */
+    @Test
+    public void filtered_by_name_and_status() {
+        when(request.queryParams(NAME_PARAM)).thenReturn("An");
+        assertEquals(2, page().getAsJsonArray("items").size());
+
+        when(request.queryParams(STATUS_PARAM)).thenReturn(GetPlayerListRoute.AVAILABLE);
+        JsonArray items = page().getAsJsonArray("items");
+        assertEquals(1, items.size());
+        assertEquals("Ann", items.get(0).getAsJsonObject().get("name").getAsString());
+
+        when(request.queryParams(STATUS_PARAM)).thenReturn("away");
+        assertThrows(HaltException.class, () -> CuT.handle(request, response));
+    }
+
+    /**
+     * Test that users who haven't signed in are turned away.
+     */
+    @Test
+    public void signed_out() {
+        when(session.attribute(GetHomeRoute.CURRENT_USER_ATTR)).thenReturn(null);
+        assertThrows(HaltException.class, () -> CuT.handle(request, response));
+    }
+}
@@ -1,24 +1,28 @@
 package com.webcheckers.ui;
 
 import com.google.gson.Gson;
+import com.webcheckers.application.GameArchive;
 import com.webcheckers.application.GameCenter;
 import com.webcheckers.application.GameLibrary;
-import com.webcheckers.model.BoardView;
-import com.webcheckers.model.Color;
-import com.webcheckers.model.Player;
-import com.webcheckers.model.ViewMode;
+import com.webcheckers.model.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import spark.*;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 import static com.webcheckers.ui.GetGameRoute.GAME_ID_ATTR;
 import static com.webcheckers.ui.GetHomeRoute.CURRENT_USER_ATTR;
-import static com.webcheckers.ui.GetReplayGameRoute.NEW_BOARD;
+import static com.webcheckers.ui.GetReplayGameRoute.*;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -45,7 +49,7 @@ public class GetReplayGameRouteTest {
 
     private GameCenter gameCenter;
     private GameLibrary gameLibrary;
-    private BoardView newBoardState;
+    private Move redMove;
 
     /**
      * Set up two players, sessions for both Players, put them in a game,
@@ -66,15 +70,17 @@ public class GetReplayGameRouteTest {
 
         CuT = new GetReplayGameRoute(engine, gson);
 
-        HashMap<Integer, GameCenter> activeGameList = new HashMap<>();
-        HashMap<Integer, GameCenter> endedGameList = new HashMap<>();
-        gameLibrary = new GameLibrary(activeGameList, endedGameList);
+        ConcurrentSkipListMap<Integer, GameCenter> activeGameList = new ConcurrentSkipListMap<>();
+        GameArchive endedGameArchive = new GameArchive(4);
+        gameLibrary = new GameLibrary(activeGameList, endedGameArchive);
         gameCenter = gameLibrary.createGame(testPlayer1, testPlayer2);
-        newBoardState = new BoardView();
+        redMove = new Move(new Position(5, 4), new Position(4, 5));
+        gameCenter.submitFullTurn(testPlayer1, Collections.singletonList(redMove));
+        // only games that have ended can be replayed.
+        gameLibrary.gameHasEnded(gameCenter.getGameID());
 
         when(sessionOne.attribute(CURRENT_USER_ATTR)).thenReturn(testPlayer1);
         when(request.queryParams(GAME_ID_ATTR)).thenReturn(String.valueOf(gameCenter.getGameID()));
-        when(sessionOne.attribute(NEW_BOARD)).thenReturn(newBoardState);
     }
 
     /**
@@ -99,8 +105,55 @@ public class GetReplayGameRouteTest {
         testHelper.assertViewModelAttribute(GetGameRoute.WHITE_PLAYER, testPlayer2);
         testHelper.assertViewModelAttribute("viewMode", ViewMode.REPLAY);
         testHelper.assertViewModelAttribute("activeColor", Color.RED);
-        testHelper.assertViewModelAttribute("board", newBoardState);
+        // * the whole game is sent for the page to step through
+        Map<String, Object> modeOptions = new HashMap<>(3);
+        modeOptions.put(MOVES, new short[]{ArchivedGame.pack(redMove)});
+        modeOptions.put(MOVE_INDEX, 0);
+        modeOptions.put(FINAL_TURN, Color.WHITE);
+        testHelper.assertViewModelAttribute("modeOptionsAsJSON", gson.toJson(modeOptions));
         // * test view name
         testHelper.assertViewName("game.ftl");
     }
+
+    /**
+     * Make sure the page starts at the move it asks for, so a reload shows
+     * the same turn, and at the beginning if there's no such move.
+     */
+    @Test
+    public void load_replay_view_at_move() {
+        when(request.queryParams(MOVE_PARAM)).thenReturn("1");
+        assertSame(Color.RED, renderedBoard().getPiece(4, 5).getColor());
+        assertNull(renderedBoard().getPiece(5, 4));
+
+        when(request.queryParams(MOVE_PARAM)).thenReturn("2");
+        assertNotNull(renderedBoard().getPiece(5, 4));
+        assertNull(renderedBoard().getPiece(4, 5));
+    }
+
+    /**
+     * Test that a gameID no ended game has is turned away, and that a
+     * gameID that isn't a number is refused.
+     */
+    @Test
+    public void unknown_game_not_found() {
+        when(request.queryParams(GAME_ID_ATTR)).thenReturn(String.valueOf(gameCenter.getGameID() + 1));
+        HaltException halt = assertThrows(HaltException.class, () -> CuT.handle(request, response));
+        assertEquals(404, halt.statusCode());
+
+        when(request.queryParams(GAME_ID_ATTR)).thenReturn("first");
+        halt = assertThrows(HaltException.class, () -> CuT.handle(request, response));
+        assertEquals(400, halt.statusCode());
+    }
+
+    /**
+     * Render the page and get the board it was rendered with.
+     */
+    private BoardView renderedBoard() {
+        engine = mock(TemplateEngine.class);
+        CuT = new GetReplayGameRoute(engine, gson);
+        CuT.handle(request, response);
+        ArgumentCaptor<ModelAndView> modelAndView = ArgumentCaptor.forClass(ModelAndView.class);
+        verify(engine).render(modelAndView.capture());
+        return (BoardView) ((Map<?, ?>) modelAndView.getValue().getModel()).get("board");
+    }
 }
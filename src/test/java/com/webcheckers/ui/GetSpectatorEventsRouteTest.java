@@ -0,0 +1,163 @@
+package com.webcheckers.ui;
+
+import com.google.gson.Gson;
+import com.webcheckers.application.GameArchive;
+import com.webcheckers.application.GameCenter;
+import com.webcheckers.application.GameLibrary;
+import com.webcheckers.model.Move;
+import com.webcheckers.model.Player;
+import com.webcheckers.model.Position;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import spark.HaltException;
+import spark.Request;
+import spark.Response;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import static com.webcheckers.ui.GetGameRoute.GAME_ID_ATTR;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * The unit test suite for the {@link GetSpectatorEventsRoute} component.
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+@Tag("UI-tier")
+public class GetSpectatorEventsRouteTest {
+
+    /**
+     * The component under test.
+     */
+    private GetSpectatorEventsRoute CuT;
+
+    private static final String PLAYER_ONE_NAME = "Player One";
+    private static final String PLAYER_TWO_NAME = "Player Two";
+
+    private Request request;
+    private Response response;
+    private AsyncContext asyncContext;
+    private ByteArrayOutputStream written;
+    private GameCenter gameCenter;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        request = mock(Request.class);
+        response = mock(Response.class);
+        HttpServletRequest rawRequest = mock(HttpServletRequest.class);
+        HttpServletResponse rawResponse = mock(HttpServletResponse.class);
+        asyncContext = mock(AsyncContext.class);
+        written = new ByteArrayOutputStream();
+        when(request.raw()).thenReturn(rawRequest);
+        when(response.raw()).thenReturn(rawResponse);
+        when(rawRequest.startAsync()).thenReturn(asyncContext);
+        when(rawResponse.getOutputStream()).thenReturn(new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+
+            @Override
+            public void write(int b) {
+                written.write(b);
+            }
+        });
+
+        new GameLibrary(new ConcurrentSkipListMap<>(), new GameArchive(4));
+        gameCenter = GameLibrary.createGame(new Player(PLAYER_ONE_NAME, null),
+                new Player(PLAYER_TWO_NAME, null));
+        when(request.queryParams(GAME_ID_ATTR)).thenReturn(String.valueOf(gameCenter.getGameID()));
+
+        CuT = new GetSpectatorEventsRoute(new GameBroadcaster(new Gson(), 8), new Gson());
+    }
+
+    private String written() {
+        return new String(written.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Test that the stream is held open, and a spectator is told whose turn
+     * it is as soon as they connect.
+     */
+    @Test
+    public void sent_turn_on_open() throws IOException {
+        assertEquals("", CuT.handle(request, response));
+
+        verify(asyncContext).setTimeout(0);
+        assertTrue(written().startsWith("retry: " + GetSpectatorEventsRoute.RETRY_MILLIS));
+        assertTrue(written().contains("event: TURN\n"));
+        assertTrue(written().contains("\"activeColor\":\"RED\""));
+        assertFalse(written().contains("event: MOVE\n"));
+        verify(asyncContext, never()).complete();
+    }
+
+    /**
+     * Test that each move of a committed turn is streamed, followed by whose
+     * turn it is next.
+     */
+    @Test
+    public void sent_committed_turn() throws IOException {
+        CuT.handle(request, response);
+        written.reset();
+
+        gameCenter.updateModel(gameCenter.getRedPlayer(),
+                new Move(new Position(5, 4), new Position(4, 5)), true);
+        gameCenter.makeMove();
+
+        String version = "id: " + gameCenter.getSnapshot().getVersion() + "\n";
+        assertTrue(written().startsWith(version + "event: MOVE\n"));
+        assertTrue(written().contains(version + "event: TURN\n"));
+        assertTrue(written().contains("\"activeColor\":\"WHITE\""));
+    }
+
+    /**
+     * Test that the stream is closed once the game is over, and nothing more
+     * is written to it.
+     */
+    @Test
+    public void closed_on_game_over() throws IOException {
+        CuT.handle(request, response);
+
+        gameCenter.setResignStatus(PLAYER_ONE_NAME + " has resigned.");
+        assertTrue(written().contains("event: GAME_OVER\n"));
+        verify(asyncContext).complete();
+
+        written.reset();
+        gameCenter.makeMove();
+        assertEquals("", written());
+    }
+
+    /**
+     * Test that a spectator asking for a game that has ended is sent how it
+     * ended, and that one asking for no game is turned away.
+     */
+    @Test
+    public void ended_or_missing_game() throws IOException {
+        gameCenter.setResignStatus(PLAYER_ONE_NAME + " has resigned.");
+        GameLibrary.gameHasEnded(gameCenter.getGameID());
+
+        Object body = CuT.handle(request, response);
+        assertTrue(body.toString().startsWith("event: GAME_OVER\n"));
+        verify(response).type(GetSpectatorEventsRoute.EVENT_STREAM_TYPE);
+        verify(request.raw(), never()).startAsync();
+
+        when(request.queryParams(GAME_ID_ATTR)).thenReturn("not a number");
+        assertThrows(HaltException.class, () -> CuT.handle(request, response));
+        verify(asyncContext, never()).addListener(any());
+    }
+}
@@ -1,6 +1,7 @@
 package com.webcheckers.ui;
 
 import com.google.gson.Gson;
+import com.webcheckers.application.GameArchive;
 import com.webcheckers.application.GameCenter;
 import com.webcheckers.application.GameLibrary;
 import com.webcheckers.model.Color;
@@ -13,11 +14,16 @@ import spark.*;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 import static com.webcheckers.ui.GetGameRoute.*;
 import static com.webcheckers.ui.GetHomeRoute.CURRENT_USER_ATTR;
 import static org.mockito.ArgumentMatchers.any;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -70,9 +76,9 @@ public class GetSpectatorGameRouteTest {
 
         CuT = new GetSpectatorGameRoute(engine, gson);
 
-        HashMap<Integer, GameCenter> activeGameList = new HashMap<>();
-        HashMap<Integer, GameCenter> endedGameList = new HashMap<>();
-        gameLibrary = new GameLibrary(activeGameList, endedGameList);
+        ConcurrentSkipListMap<Integer, GameCenter> activeGameList = new ConcurrentSkipListMap<>();
+        GameArchive endedGameArchive = new GameArchive(4);
+        gameLibrary = new GameLibrary(activeGameList, endedGameArchive);
         gameCenter = gameLibrary.createGame(testPlayer1, testPlayer2);
 
         when(spectatorSession.attribute(CURRENT_USER_ATTR)).thenReturn(spectator);
@@ -101,7 +107,7 @@ public class GetSpectatorGameRouteTest {
         testHelper.assertViewModelAttribute(GetGameRoute.WHITE_PLAYER, testPlayer2);
         testHelper.assertViewModelAttribute("viewMode", ViewMode.SPECTATOR);
         testHelper.assertViewModelAttribute("activeColor", Color.RED);
-        testHelper.assertViewModelAttribute("board", gameCenter.getCheckersBoard());
+        testHelper.assertViewModelAttribute("board", gameCenter.getSnapshot().getBoard());
         // * test view name
         testHelper.assertViewName("game.ftl");
     }
@@ -135,7 +141,7 @@ public class GetSpectatorGameRouteTest {
         testHelper.assertViewModelAttribute(GetGameRoute.WHITE_PLAYER, testPlayer2);
         testHelper.assertViewModelAttribute("viewMode", ViewMode.SPECTATOR);
         testHelper.assertViewModelAttribute("activeColor", Color.RED);
-        testHelper.assertViewModelAttribute("board", gameCenter.getCheckersBoard());
+        testHelper.assertViewModelAttribute("board", gameCenter.getSnapshot().getBoard());
         testHelper.assertViewModelAttribute("modeOptionsAsJSON", gson.toJson(modeOptions));
         // * test view name
         testHelper.assertViewName("game.ftl");
@@ -151,10 +157,11 @@ public class GetSpectatorGameRouteTest {
         for (int i = 0; i < 12; i++) {
             testPlayer1.capture();
         }
+        gameCenter.publishSnapshot();
 
         final Map<String, Object> modeOptions = new HashMap<>(2);
         modeOptions.put("isGameOver", true);
-        modeOptions.put("gameOverMessage", String.format(CAPTURED_ALL_PIECES, PLAYER_TWO_NAME));
+        modeOptions.put("gameOverMessage", String.format(CAPTURED_ALL_PIECES, PLAYER_ONE_NAME));
 
         final TemplateEngineTester testHelper = new TemplateEngineTester();
         when(engine.render(any(ModelAndView.class))).thenAnswer(testHelper.makeAnswer());
@@ -173,7 +180,7 @@ public class GetSpectatorGameRouteTest {
         testHelper.assertViewModelAttribute(GetGameRoute.WHITE_PLAYER, testPlayer2);
         testHelper.assertViewModelAttribute("viewMode", ViewMode.SPECTATOR);
         testHelper.assertViewModelAttribute("activeColor", Color.RED);
-        testHelper.assertViewModelAttribute("board", gameCenter.getCheckersBoard());
+        testHelper.assertViewModelAttribute("board", gameCenter.getSnapshot().getBoard());
         testHelper.assertViewModelAttribute("modeOptionsAsJSON", gson.toJson(modeOptions));
         // * test view name
         testHelper.assertViewName("game.ftl");
@@ -187,6 +194,7 @@ public class GetSpectatorGameRouteTest {
     public void spectator_view_player_won_by_blocking() {
         // simulate a player's pieces being blocked.
         gameCenter.getSimpleMoveValidator().clearWhiteList();
+        gameCenter.publishSnapshot();
 
         final Map<String, Object> modeOptions = new HashMap<>(2);
         modeOptions.put("isGameOver", true);
@@ -209,9 +217,31 @@ public class GetSpectatorGameRouteTest {
         testHelper.assertViewModelAttribute(GetGameRoute.WHITE_PLAYER, testPlayer2);
         testHelper.assertViewModelAttribute("viewMode", ViewMode.SPECTATOR);
         testHelper.assertViewModelAttribute("activeColor", Color.RED);
-        testHelper.assertViewModelAttribute("board", gameCenter.getCheckersBoard());
+        testHelper.assertViewModelAttribute("board", gameCenter.getSnapshot().getBoard());
         testHelper.assertViewModelAttribute("modeOptionsAsJSON", gson.toJson(modeOptions));
         // * test view name
         testHelper.assertViewName("game.ftl");
     }
+
+    /**
+     * Make sure the page is tagged with the version of the game, and isn't
+     * rendered again for a browser that already has that version.
+     */
+    @Test
+    public void not_modified_until_next_turn() {
+        String etag = GameETag.of(gameCenter.getGameID(), gameCenter.getSnapshot(), spectator);
+        when(request.headers(GameETag.IF_NONE_MATCH_HEADER)).thenReturn(etag);
+
+        assertEquals("", CuT.handle(request, response));
+        verify(response).header(GameETag.ETAG_HEADER, etag);
+        verify(response).status(304);
+        verify(engine, never()).render(any(ModelAndView.class));
+
+        gameCenter.makeMove();
+        when(engine.render(any(ModelAndView.class))).thenReturn("rendered");
+        assertEquals("rendered", CuT.handle(request, response));
+        verify(response, times(1)).status(304);
+        verify(response).header(GameETag.ETAG_HEADER,
+                GameETag.of(gameCenter.getGameID(), gameCenter.getSnapshot(), spectator));
+    }
 }
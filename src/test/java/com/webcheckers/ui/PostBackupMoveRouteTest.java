@@ -1,6 +1,7 @@
 package com.webcheckers.ui;
 
 import com.google.gson.Gson;
+import com.webcheckers.application.GameArchive;
 import com.webcheckers.application.GameCenter;
 import com.webcheckers.application.GameLibrary;
 import com.webcheckers.model.Move;
@@ -14,8 +15,7 @@ import spark.Request;
 import spark.Response;
 import spark.Session;
 
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 import static com.webcheckers.ui.GetGameRoute.GAME_ID_ATTR;
 import static com.webcheckers.ui.PostBackupMoveRoute.MOVE_CANCELLED;
@@ -70,27 +70,21 @@ public class PostBackupMoveRouteTest {
 
         CuT = new PostBackupMoveRoute(gson);
 
-        HashMap<Integer, GameCenter> activeGameList = new HashMap<>();
-        HashMap<Integer, GameCenter> endedGameList = new HashMap<>();
-        dependant = new GameLibrary(activeGameList, endedGameList);
+        ConcurrentSkipListMap<Integer, GameCenter> activeGameList = new ConcurrentSkipListMap<>();
+        GameArchive endedGameArchive = new GameArchive(4);
+        dependant = new GameLibrary(activeGameList, endedGameArchive);
         gameCenter = dependant.createGame(testPlayer1, testPlayer2);
     }
 
     /**
-     * Check that the move gets removed from the HTTP session, when a move is
-     * attached to the session.
+     * Check that the move gets removed from the player's turn buffer, when a
+     * move is in the buffer.
      */
     @Test
-    public void verify_move_removed_from_session() {
-        ArrayList<Move> moveList = new ArrayList<>(1);
-        moveList.add(currentMove);
-
+    public void verify_move_removed_from_turn_buffer() {
         // simulate gameCenter has already accepted a move, and it's stored in the linked list.
         gameCenter.updateModel(testPlayer1, currentMove, false);
-        // setup the session attributes, with currentMove being a special case.
-        // currentMove needs the object returned the first time it's called,
-        // then null the second time.
-        when(sessionOne.attribute(PostValidateMoveRoute.CURRENT_MOVE_ATTR)).thenReturn(moveList).thenReturn(null);
+        gameCenter.getTurnBuffer(testPlayer1).add(currentMove);
         when(sessionOne.attribute(GetHomeRoute.CURRENT_USER_ATTR)).thenReturn(testPlayer1);
         when(request.queryParams(GAME_ID_ATTR)).thenReturn(String.valueOf(gameCenter.getGameID()));
         Object removalStatusJson = CuT.handle(request, response);
@@ -100,7 +94,7 @@ public class PostBackupMoveRouteTest {
         assertEquals(MOVE_CANCELLED, removalStatus.getText());
         assertSame(Message.Type.INFO, removalStatus.getType());
 
-        // make sure the move was removed from the session
-        assertNull(sessionOne.attribute(PostValidateMoveRoute.CURRENT_MOVE_ATTR));
+        // make sure the move was removed from the turn buffer
+        assertTrue(gameCenter.getTurnBuffer(testPlayer1).isEmpty());
     }
 }
@@ -0,0 +1,130 @@
+package com.webcheckers.ui;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.webcheckers.application.GameArchive;
+import com.webcheckers.application.GameCenter;
+import com.webcheckers.application.GameLibrary;
+import com.webcheckers.model.Move;
+import com.webcheckers.model.Player;
+import com.webcheckers.model.Position;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import spark.HaltException;
+import spark.Request;
+import spark.Response;
+import spark.Session;
+
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import static com.webcheckers.ui.GetGameRoute.GAME_ID_ATTR;
+import static com.webcheckers.ui.PostBoardUpdateRoute.VERSION_PARAM;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * The unit test suite for the {@link PostBoardUpdateRoute} component.
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+@Tag("UI-tier")
+public class PostBoardUpdateRouteTest {
+
+    /**
+     * The component under test.
+     */
+    private PostBoardUpdateRoute CuT;
+
+    private static final String PLAYER_ONE_NAME = "Player One";
+    private static final String PLAYER_TWO_NAME = "Player Two";
+
+    private Gson gson;
+    private Request request;
+    private Session session;
+    private Player redPlayer;
+    private Player whitePlayer;
+    private GameCenter gameCenter;
+
+    @BeforeEach
+    public void setup() {
+        gson = new Gson();
+        request = mock(Request.class);
+        session = mock(Session.class);
+        when(request.session()).thenReturn(session);
+
+        redPlayer = new Player(PLAYER_ONE_NAME, null);
+        whitePlayer = new Player(PLAYER_TWO_NAME, null);
+        new GameLibrary(new ConcurrentSkipListMap<>(), new GameArchive(4));
+        gameCenter = GameLibrary.createGame(redPlayer, whitePlayer);
+        when(request.queryParams(GAME_ID_ATTR)).thenReturn(String.valueOf(gameCenter.getGameID()));
+
+        CuT = new PostBoardUpdateRoute(gson);
+    }
+
+    private JsonObject update(Player player, long version) {
+        when(session.attribute(GetHomeRoute.CURRENT_USER_ATTR)).thenReturn(player);
+        when(request.queryParams(VERSION_PARAM)).thenReturn(String.valueOf(version));
+        return gson.fromJson((String) CuT.handle(request, mock(Response.class)), JsonObject.class);
+    }
+
+    /**
+     * Test that only the squares a turn moved between are sent, in the
+     * positions of the White player's flipped board.
+     */
+    @Test
+    public void sent_only_changed_squares() {
+        long version = gameCenter.getSnapshot().getVersion();
+        gameCenter.updateModel(redPlayer, new Move(new Position(5, 4), new Position(4, 5)), true);
+        gameCenter.makeMove();
+
+        JsonObject update = update(whitePlayer, version);
+        assertEquals(gameCenter.getSnapshot().getVersion(), update.get("version").getAsLong());
+        assertEquals("WHITE", update.get("activeColor").getAsString());
+        assertFalse(update.get("gameOver").getAsBoolean());
+
+        JsonArray spaces = update.getAsJsonArray("spaces");
+        assertEquals(2, spaces.size());
+        // the moved piece, at model row 4, then the emptied square at row 5.
+        JsonObject moved = spaces.get(0).getAsJsonObject();
+        assertEquals(3, moved.get("row").getAsInt());
+        assertEquals(5, moved.get("cell").getAsInt());
+        assertEquals("RED", moved.getAsJsonObject("piece").get("color").getAsString());
+        JsonObject emptied = spaces.get(1).getAsJsonObject();
+        assertEquals(2, emptied.get("row").getAsInt());
+        assertEquals(4, emptied.get("cell").getAsInt());
+        assertFalse(emptied.has("piece"));
+    }
+
+    /**
+     * Test that a client too far behind is told to reload, and that a
+     * request without a version is turned away.
+     */
+    @Test
+    public void reload_when_too_far_behind() {
+        long version = gameCenter.getSnapshot().getVersion();
+        assertEquals(0, update(redPlayer, version).getAsJsonArray("spaces").size());
+
+        for (int i = 0; i <= 8; i++) {
+            gameCenter.makeMove();
+        }
+        assertFalse(update(redPlayer, version).has("spaces"));
+
+        when(request.queryParams(VERSION_PARAM)).thenReturn(null);
+        assertThrows(HaltException.class, () -> CuT.handle(request, mock(Response.class)));
+    }
+
+    /**
+     * Test that a gameID no game has is turned away.
+     */
+    @Test
+    public void unknown_game_not_found() {
+        when(request.queryParams(GAME_ID_ATTR)).thenReturn(String.valueOf(gameCenter.getGameID() + 1));
+        when(request.queryParams(VERSION_PARAM)).thenReturn("0");
+        HaltException halt = assertThrows(HaltException.class,
+                () -> CuT.handle(request, mock(Response.class)));
+        assertEquals(404, halt.statusCode());
+    }
+}
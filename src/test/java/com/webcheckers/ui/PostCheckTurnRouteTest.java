@@ -1,6 +1,7 @@
 package com.webcheckers.ui;
 
 import com.google.gson.Gson;
+import com.webcheckers.application.GameArchive;
 import com.webcheckers.application.GameCenter;
 import com.webcheckers.application.GameLibrary;
 import com.webcheckers.model.Color;
@@ -9,16 +10,28 @@ import com.webcheckers.util.Message;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import spark.Request;
 import spark.Response;
 import spark.Session;
 
-import java.util.HashMap;
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 import static com.webcheckers.ui.GetGameRoute.ACTIVE_COLOR;
 import static com.webcheckers.ui.GetGameRoute.GAME_ID_ATTR;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -47,6 +60,9 @@ public class PostCheckTurnRouteTest {
     private Player testPlayer2;
     private Player spectator;
     private GameCenter gameCenter;
+    /** Whether a waiting response will take more bytes without blocking. */
+    private boolean ready;
+    private WriteListener writeListener;
 
     /**
      * Setup two Players, Sessions for those players, and a GameCenter for the
@@ -67,9 +83,9 @@ public class PostCheckTurnRouteTest {
 
         CuT = new PostCheckTurnRoute(gson);
 
-        HashMap<Integer, GameCenter> activeGameList = new HashMap<>();
-        HashMap<Integer, GameCenter> endedGameList = new HashMap<>();
-        dependant = new GameLibrary(activeGameList, endedGameList);
+        ConcurrentSkipListMap<Integer, GameCenter> activeGameList = new ConcurrentSkipListMap<>();
+        GameArchive endedGameArchive = new GameArchive(4);
+        dependant = new GameLibrary(activeGameList, endedGameArchive);
         gameCenter = dependant.createGame(testPlayer1, testPlayer2);
     }
 
@@ -154,4 +170,117 @@ public class PostCheckTurnRouteTest {
         assertEquals("false", checkTurnMessage.getText());
         assertEquals(Message.Type.INFO, checkTurnMessage.getType());
     }
+
+    /**
+     * Set up the raw request and response of a check that waits for the
+     * turn to change, with the response's body written to the stream given
+     * whenever it's {@link #ready}.
+     */
+    private AsyncContext waitForTurn(ByteArrayOutputStream written) throws IOException {
+        HttpServletRequest rawRequest = mock(HttpServletRequest.class);
+        HttpServletResponse rawResponse = mock(HttpServletResponse.class);
+        AsyncContext asyncContext = mock(AsyncContext.class);
+        when(request.raw()).thenReturn(rawRequest);
+        when(response.raw()).thenReturn(rawResponse);
+        when(rawRequest.startAsync()).thenReturn(asyncContext);
+        ready = true;
+        when(rawResponse.getOutputStream()).thenReturn(new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return ready;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener listener) {
+                writeListener = listener;
+            }
+
+            @Override
+            public void write(int b) {
+                written.write(b);
+            }
+        });
+        when(request.queryParams(PostCheckTurnRoute.WAIT_PARAM)).thenReturn("true");
+        return asyncContext;
+    }
+
+    /**
+     * Make sure that a Player waiting for their turn is held open until the
+     * turn changes, then told it's their turn.
+     */
+    @Test
+    public void verify_wait_for_my_turn() throws IOException {
+        ByteArrayOutputStream written = new ByteArrayOutputStream();
+        AsyncContext asyncContext = waitForTurn(written);
+        when(request.session()).thenReturn(sessionTwo);
+        when(sessionTwo.attribute(GetHomeRoute.CURRENT_USER_ATTR)).thenReturn(testPlayer2);
+        when(request.queryParams(GAME_ID_ATTR)).thenReturn(String.valueOf(gameCenter.getGameID()));
+
+        assertEquals("", CuT.handle(request, response));
+        assertEquals(0, written.size());
+        verify(asyncContext, never()).complete();
+
+        // Red's turn ends, so it's now White's turn.
+        gameCenter.makeMove();
+
+        Message checkTurnMessage = gson.fromJson(
+                new String(written.toByteArray(), StandardCharsets.UTF_8), Message.class);
+        assertEquals("true", checkTurnMessage.getText());
+        verify(asyncContext).complete();
+    }
+
+    /**
+     * Make sure that a Player waiting for their turn is told it isn't their
+     * turn yet once the wait times out.
+     */
+    @Test
+    public void verify_wait_times_out() throws IOException {
+        ByteArrayOutputStream written = new ByteArrayOutputStream();
+        AsyncContext asyncContext = waitForTurn(written);
+        when(request.session()).thenReturn(sessionTwo);
+        when(sessionTwo.attribute(GetHomeRoute.CURRENT_USER_ATTR)).thenReturn(testPlayer2);
+        when(request.queryParams(GAME_ID_ATTR)).thenReturn(String.valueOf(gameCenter.getGameID()));
+
+        CuT.handle(request, response);
+        verify(asyncContext).setTimeout(PostCheckTurnRoute.LONG_POLL_TIMEOUT);
+        ArgumentCaptor<AsyncListener> listener = ArgumentCaptor.forClass(AsyncListener.class);
+        verify(asyncContext).addListener(listener.capture());
+        listener.getValue().onTimeout(null);
+
+        Message checkTurnMessage = gson.fromJson(
+                new String(written.toByteArray(), StandardCharsets.UTF_8), Message.class);
+        assertEquals("false", checkTurnMessage.getText());
+        verify(asyncContext).complete();
+
+        // the request has been answered, so the next turn is ignored.
+        written.reset();
+        gameCenter.makeMove();
+        assertEquals(0, written.size());
+    }
+
+    /**
+     * Make sure that a client that isn't taking its answer doesn't hold up
+     * the game, and is answered once it's ready.
+     */
+    @Test
+    public void verify_stalled_client_answered_later() throws IOException {
+        ByteArrayOutputStream written = new ByteArrayOutputStream();
+        AsyncContext asyncContext = waitForTurn(written);
+        when(request.session()).thenReturn(sessionTwo);
+        when(sessionTwo.attribute(GetHomeRoute.CURRENT_USER_ATTR)).thenReturn(testPlayer2);
+        when(request.queryParams(GAME_ID_ATTR)).thenReturn(String.valueOf(gameCenter.getGameID()));
+        CuT.handle(request, response);
+
+        ready = false;
+        gameCenter.makeMove();
+        assertEquals(0, written.size());
+        verify(asyncContext, never()).complete();
+
+        ready = true;
+        writeListener.onWritePossible();
+        Message checkTurnMessage = gson.fromJson(
+                new String(written.toByteArray(), StandardCharsets.UTF_8), Message.class);
+        assertEquals("true", checkTurnMessage.getText());
+        verify(asyncContext).complete();
+    }
 }
@@ -0,0 +1,126 @@
+package com.webcheckers.ui;
+
+import com.webcheckers.application.GameArchive;
+import com.webcheckers.application.GameCenter;
+import com.webcheckers.application.GameLibrary;
+import com.webcheckers.application.MatchmakingQueue;
+import com.webcheckers.model.Player;
+import com.webcheckers.util.Message;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import spark.*;
+
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import static com.webcheckers.ui.GetGameRoute.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * The unit test suite for the {@link PostQuickPlayRoute} component.
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+@Tag("UI-tier")
+public class PostQuickPlayRouteTest {
+
+    /**
+     * The component under test.
+     */
+    private PostQuickPlayRoute CuT;
+
+    /**
+     * The {@link MatchmakingQueue} (friendly entity) that the CuT depends on.
+     */
+    private MatchmakingQueue matchmakingQueue;
+
+    private static final String PLAYER_ONE_NAME = "Player One";
+    private static final String PLAYER_TWO_NAME = "Player Two";
+
+    private Request request;
+    private Session sessionOne;
+    private Session sessionTwo;
+    private Response response;
+    private Player testPlayer1;
+    private Player testPlayer2;
+    private ConcurrentSkipListMap<Integer, GameCenter> activeGameMap;
+
+    @BeforeEach
+    public void setup() {
+        request = mock(Request.class);
+        sessionOne = mock(Session.class);
+        sessionTwo = mock(Session.class);
+        when(request.session()).thenReturn(sessionOne);
+        response = mock(Response.class);
+
+        testPlayer1 = new Player(PLAYER_ONE_NAME, sessionOne);
+        testPlayer2 = new Player(PLAYER_TWO_NAME, sessionTwo);
+
+        activeGameMap = new ConcurrentSkipListMap<>();
+        new GameLibrary(activeGameMap, new GameArchive(4));
+        matchmakingQueue = new MatchmakingQueue();
+        CuT = new PostQuickPlayRoute(matchmakingQueue);
+    }
+
+    /**
+     * Test that a player with no one to play is told to wait, and sent back
+     * to the Home page.
+     */
+    @Test
+    public void player_waits_for_opponent() {
+        when(sessionOne.attribute(GetHomeRoute.CURRENT_USER_ATTR)).thenReturn(testPlayer1);
+
+        try {
+            CuT.handle(request, response);
+            fail("Redirects invoke halt exceptions.");
+        } catch (HaltException he) {
+            // expected
+        }
+
+        assertTrue(matchmakingQueue.isWaiting(testPlayer1));
+        verify(sessionOne).attribute(eq(GAME_STATUS_MSG), any(Message.class));
+        verify(response).redirect(WebServer.HOME_URL);
+    }
+
+    /**
+     * Test that a player is sent straight to a new game when someone is
+     * already waiting, and that the waiting player is told about it.
+     */
+    @Test
+    public void player_paired_with_waiting_player() {
+        matchmakingQueue.quickPlay(testPlayer2);
+        when(sessionOne.attribute(GetHomeRoute.CURRENT_USER_ATTR)).thenReturn(testPlayer1);
+
+        try {
+            CuT.handle(request, response);
+            fail("Redirects invoke halt exceptions.");
+        } catch (HaltException he) {
+            // expected
+        }
+
+        assertEquals(1, activeGameMap.size());
+        GameCenter gameCenter = activeGameMap.values().iterator().next();
+        assertSame(testPlayer1, gameCenter.getRedPlayer());
+        verify(sessionTwo).attribute(CHALLENGER_ATTR, PLAYER_ONE_NAME);
+        verify(sessionTwo).attribute(GAME_ID_ATTR, gameCenter.getGameID());
+        verify(sessionOne).attribute(OPPONENT_NAME, testPlayer2);
+        verify(response).redirect(WebServer.GAME_URL + "?" + GAME_ID_ATTR + "=" + gameCenter.getGameID());
+    }
+
+    /**
+     * Test that a user who hasn't signed in is sent back to the Home page.
+     */
+    @Test
+    public void signed_out_user_redirected() {
+        try {
+            CuT.handle(request, response);
+            fail("Redirects invoke halt exceptions.");
+        } catch (HaltException he) {
+            // expected
+        }
+
+        verify(response).redirect(WebServer.HOME_URL);
+    }
+}
@@ -1,6 +1,7 @@
 package com.webcheckers.ui;
 
 import com.google.gson.Gson;
+import com.webcheckers.application.GameArchive;
 import com.webcheckers.application.GameCenter;
 import com.webcheckers.application.GameLibrary;
 import com.webcheckers.model.Color;
@@ -13,7 +14,7 @@ import spark.Request;
 import spark.Response;
 import spark.Session;
 
-import java.util.HashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 import static com.webcheckers.ui.GetGameRoute.GAME_ID_ATTR;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -66,9 +67,9 @@ public class PostResignGameRouteTest {
         testPlayer2.setInGame(true);
 
         CuT = new PostResignGameRoute(gson);
-        HashMap<Integer, GameCenter> activeGameList = new HashMap<>();
-        HashMap<Integer, GameCenter> endedGameList = new HashMap<>();
-        dependant = new GameLibrary(activeGameList, endedGameList);
+        ConcurrentSkipListMap<Integer, GameCenter> activeGameList = new ConcurrentSkipListMap<>();
+        GameArchive endedGameArchive = new GameArchive(4);
+        dependant = new GameLibrary(activeGameList, endedGameArchive);
         gameCenter = dependant.createGame(testPlayer1, testPlayer2);
     }
 
@@ -115,4 +116,39 @@ public class PostResignGameRouteTest {
         // make sure the gameCenter keeps it on RED's turn.
         assertEquals(Color.RED, gameCenter.getCurrentTurn());
     }
+
+    /**
+     * Make sure a Player can't resign from a game their opponent has already
+     * resigned from, before it's archived.
+     */
+    @Test
+    public void resigned_game_not_resigned_again() {
+        gameCenter.resign(testPlayer2, PLAYER_TWO_NAME + " has resigned.");
+        when(request.session()).thenReturn(sessionOne);
+        when(request.queryParams(GAME_ID_ATTR)).thenReturn(String.valueOf(gameCenter.getGameID()));
+        when(sessionOne.attribute(GetHomeRoute.CURRENT_USER_ATTR)).thenReturn(testPlayer1);
+
+        Message resignMessage = gson.fromJson((String) CuT.handle(request, response), Message.class);
+        assertEquals(GameCenter.GAME_ENDED, resignMessage.getText());
+        assertSame(Message.Type.ERROR, resignMessage.getType());
+        assertEquals(PLAYER_TWO_NAME + " has resigned.", gameCenter.getResignStatus());
+    }
+
+    /**
+     * Make sure a game that has already ended can't be resigned from again.
+     */
+    @Test
+    public void ended_game_not_changed() {
+        gameCenter.setResignStatus(PLAYER_TWO_NAME + " has resigned.");
+        GameLibrary.gameHasEnded(gameCenter.getGameID());
+        when(request.session()).thenReturn(sessionOne);
+        when(request.queryParams(GAME_ID_ATTR)).thenReturn(String.valueOf(gameCenter.getGameID()));
+        when(sessionOne.attribute(GetHomeRoute.CURRENT_USER_ATTR)).thenReturn(testPlayer1);
+
+        Message resignMessage = gson.fromJson((String) CuT.handle(request, response), Message.class);
+        assertEquals(GameCenter.GAME_ENDED, resignMessage.getText());
+        assertSame(Message.Type.ERROR, resignMessage.getType());
+        assertEquals(PLAYER_TWO_NAME + " has resigned.",
+                GameLibrary.getArchivedGame(gameCenter.getGameID()).getResult());
+    }
 }
@@ -7,7 +7,7 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import spark.*;
 
-import java.util.HashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 import static com.webcheckers.ui.PostSignInRoute.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -31,7 +31,7 @@ public class PostSignInRouteTest {
 
     @BeforeEach
     public void setUp() {
-        HashMap<String, Player> playerList = new HashMap<>();
+        ConcurrentSkipListMap<String, Player> playerList = new ConcurrentSkipListMap<>();
         lobby = new PlayerLobby(playerList);
         session = mock(Session.class);
         CuT = new PostSignInRoute(lobby);
@@ -1,5 +1,6 @@
 package com.webcheckers.ui;
 
+import com.webcheckers.application.MatchmakingQueue;
 import com.webcheckers.application.PlayerLobby;
 import com.webcheckers.model.Player;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,7 +9,7 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import com.webcheckers.ui.PostSignOutRoute;
 import com.webcheckers.ui.PostSignInRoute;
-import java.util.HashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -31,6 +32,11 @@ class PostSignOutRouteTest {
      */
     private PlayerLobby playerLobby;
 
+    /**
+     * The {@link MatchmakingQueue} (friendly entity) that the CuT depends on.
+     */
+    private MatchmakingQueue matchmakingQueue;
+
     private static final String PLAYER_NAME = "Player";
 
     private Request request;
@@ -51,14 +57,15 @@ class PostSignOutRouteTest {
         testPlayer = new Player(PLAYER_NAME, session);
 
         // set up the CuT dependencies
-        playerLobby = new PlayerLobby(new HashMap<>());
+        playerLobby = new PlayerLobby(new ConcurrentSkipListMap<>());
         engine = mock(TemplateEngine.class);
 
         // sign-in the player
         playerLobby.signIn(PLAYER_NAME, testPlayer);
         when(session.attribute("currentUser")).thenReturn(testPlayer);
 
-        CuT = new PostSignOutRoute(playerLobby);
+        matchmakingQueue = new MatchmakingQueue();
+        CuT = new PostSignOutRoute(playerLobby, matchmakingQueue);
     }
 
     /**
@@ -75,4 +82,18 @@ class PostSignOutRouteTest {
 
     }
 
+    /**
+     * Test that a player waiting for a quick play game stops waiting when
+     * they sign out.
+     */
+    @Test
+    public void signOutWhileWaiting(){
+        matchmakingQueue.quickPlay(testPlayer);
+        assertTrue(matchmakingQueue.isWaiting(testPlayer));
+
+        CuT.handle(request, response);
+
+        assertFalse(matchmakingQueue.isWaiting(testPlayer));
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,129 @@
+package com.webcheckers.ui;
+
+import com.google.gson.Gson;
+import com.webcheckers.application.GameArchive;
+import com.webcheckers.application.GameCenter;
+import com.webcheckers.application.GameLibrary;
+import com.webcheckers.model.*;
+import com.webcheckers.util.Message;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import spark.HaltException;
+import spark.Request;
+import spark.Response;
+import spark.Session;
+
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import static com.webcheckers.ui.GetGameRoute.GAME_ID_ATTR;
+import static com.webcheckers.ui.PostValidateMoveRoute.ACTION_DATA_ATTR;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * The unit test suite for the {@link PostSubmitFullTurnRoute} component.
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+@Tag("UI-tier")
+public class PostSubmitFullTurnRouteTest {
+
+    private PostSubmitFullTurnRoute CuT;
+    private GameLibrary dependant;
+
+    private static final String PLAYER_ONE_NAME = "Player One";
+    private static final String PLAYER_TWO_NAME = "Player Two";
+
+    private Gson gson;
+    private Request request;
+    private Response response;
+
+    private Session sessionOne;
+    private Player testPlayer1;
+    private Player testPlayer2;
+    private GameCenter gameCenter;
+
+    /**
+     * Setup two Players, a Session for the Red player, and a GameCenter for
+     * the players before each test.
+     */
+    @BeforeEach
+    public void setup() {
+        this.gson = new Gson();
+        request = mock(Request.class);
+        response = mock(Response.class);
+
+        this.sessionOne = mock(Session.class);
+        this.testPlayer1 = new Player(PLAYER_ONE_NAME, sessionOne);
+        this.testPlayer2 = new Player(PLAYER_TWO_NAME, mock(Session.class));
+
+        when(request.session()).thenReturn(sessionOne);
+        when(sessionOne.attribute(GetHomeRoute.CURRENT_USER_ATTR)).thenReturn(testPlayer1);
+
+        CuT = new PostSubmitFullTurnRoute(gson);
+        ConcurrentSkipListMap<Integer, GameCenter> activeGameList = new ConcurrentSkipListMap<>();
+        GameArchive endedGameArchive = new GameArchive(4);
+        dependant = new GameLibrary(activeGameList, endedGameArchive);
+        gameCenter = dependant.createGame(testPlayer1, testPlayer2);
+
+        when(request.queryParams(GAME_ID_ATTR)).thenReturn(String.valueOf(gameCenter.getGameID()));
+    }
+
+    /**
+     * Make sure both hops of a double jump are committed by one request.
+     */
+    @Test
+    public void verify_double_jump_submitted() {
+        BoardView checkersBoard = gameCenter.getCheckersBoard();
+        checkersBoard.getRow(4).getSpace(5).setPiece(new Piece(Type.SINGLE, Color.WHITE));
+        checkersBoard.getRow(1).getSpace(4).setPiece(null);
+        Move[] hops = {
+                new Move(new Position(5, 4), new Position(3, 6)),
+                new Move(new Position(3, 6), new Position(1, 4))
+        };
+        when(request.queryParams(ACTION_DATA_ATTR)).thenReturn(gson.toJson(hops));
+
+        // invoke the test
+        Message turnSubmitted = gson.fromJson((String) CuT.handle(request, response), Message.class);
+        assertEquals("Turn Submitted.", turnSubmitted.getText());
+        assertSame(Message.Type.INFO, turnSubmitted.getType());
+
+        assertSame(Color.RED, checkersBoard.getPiece(1, 4).getColor());
+        assertNull(checkersBoard.getPiece(4, 5));
+        assertNull(checkersBoard.getPiece(2, 5));
+        assertSame(Color.WHITE, gameCenter.getCurrentTurn());
+    }
+
+    /**
+     * Make sure a turn with an invalid move leaves the game as it was.
+     */
+    @Test
+    public void verify_invalid_turn_refused() {
+        Move[] moves = {new Move(new Position(5, 4), new Position(5, 6))};
+        when(request.queryParams(ACTION_DATA_ATTR)).thenReturn(gson.toJson(moves));
+
+        // invoke the test
+        Message turnSubmitted = gson.fromJson((String) CuT.handle(request, response), Message.class);
+        assertEquals("You must move diagonally.", turnSubmitted.getText());
+        assertSame(Message.Type.ERROR, turnSubmitted.getType());
+        assertNotNull(gameCenter.getCheckersBoard().getPiece(5, 4));
+        assertSame(Color.RED, gameCenter.getCurrentTurn());
+    }
+
+    /**
+     * Make sure a request without a readable list of moves is turned away.
+     */
+    @Test
+    public void verify_bad_request() {
+        when(request.queryParams(ACTION_DATA_ATTR)).thenReturn("{not json");
+        assertThrows(HaltException.class, () -> CuT.handle(request, response));
+
+        when(request.queryParams(ACTION_DATA_ATTR)).thenReturn("[{\"start\":{\"row\":5,\"cell\":4}}]");
+        assertThrows(HaltException.class, () -> CuT.handle(request, response));
+
+        when(request.queryParams(ACTION_DATA_ATTR)).thenReturn(null);
+        assertThrows(HaltException.class, () -> CuT.handle(request, response));
+    }
+}
@@ -1,6 +1,7 @@
 package com.webcheckers.ui;
 
 import com.google.gson.Gson;
+import com.webcheckers.application.GameArchive;
 import com.webcheckers.application.GameCenter;
 import com.webcheckers.application.GameLibrary;
 import com.webcheckers.model.*;
@@ -12,8 +13,7 @@ import spark.Request;
 import spark.Response;
 import spark.Session;
 
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 import static com.webcheckers.ui.GetGameRoute.GAME_ID_ATTR;
 import static org.junit.jupiter.api.Assertions.*;
@@ -29,8 +29,7 @@ import static org.mockito.Mockito.when;
 public class PostSubmitTurnTest {
 
     private PostSubmitTurn CuT;
-    private PostValidateMoveRoute dependant;
-    private GameLibrary dependant2;
+    private GameLibrary dependant;
 
     private static final String PLAYER_ONE_NAME = "Player One";
     private static final String PLAYER_TWO_NAME = "Player Two";
@@ -67,11 +66,10 @@ public class PostSubmitTurnTest {
         this.whiteMove = new Move(new Position(2, 1), new Position(3, 2));
 
         CuT = new PostSubmitTurn(gson);
-        dependant = new PostValidateMoveRoute(gson);
-        HashMap<Integer, GameCenter> activeGameList = new HashMap<>();
-        HashMap<Integer, GameCenter> endedGameList = new HashMap<>();
-        dependant2 = new GameLibrary(activeGameList, endedGameList);
-        gameCenter = dependant2.createGame(testPlayer1, testPlayer2);
+        ConcurrentSkipListMap<Integer, GameCenter> activeGameList = new ConcurrentSkipListMap<>();
+        GameArchive endedGameArchive = new GameArchive(4);
+        dependant = new GameLibrary(activeGameList, endedGameArchive);
+        gameCenter = dependant.createGame(testPlayer1, testPlayer2);
     }
 
     /**
@@ -82,11 +80,9 @@ public class PostSubmitTurnTest {
      */
     @Test
     public void verify_red_submission() {
-        ArrayList<Move> moveList = new ArrayList<>(1);
-        moveList.add(redMove);
+        gameCenter.getTurnBuffer(testPlayer1).add(redMove);
         when(request.session()).thenReturn(sessionOne);
         when(sessionOne.attribute(GetHomeRoute.CURRENT_USER_ATTR)).thenReturn(testPlayer1);
-        when(sessionOne.attribute(PostValidateMoveRoute.CURRENT_MOVE_ATTR)).thenReturn(moveList);
         when(request.queryParams(GAME_ID_ATTR)).thenReturn(String.valueOf(gameCenter.getGameID()));
 
         // check that current turn is RED
@@ -108,7 +104,7 @@ public class PostSubmitTurnTest {
         // start space should no longer have a piece on it (null)
         assertNull(gameCenter.getCheckersBoard().getRow(5).getSpace(4).getPiece());
         assertEquals(pieceToMove, gameCenter.getCheckersBoard().getRow(4).getSpace(5).getPiece());
-        assertTrue(dependant.consecutiveMoves.size() == 0);
+        assertTrue(gameCenter.getTurnBuffer(testPlayer1).isEmpty());
     }
 
     /**
@@ -119,14 +115,12 @@ public class PostSubmitTurnTest {
      */
     @Test
     public void verify_white_submission() {
-        ArrayList<Move> moveList = new ArrayList<>(1);
-        moveList.add(whiteMove);
+        gameCenter.getTurnBuffer(testPlayer2).add(whiteMove);
         // simulate white turn
         gameCenter.makeMove();
 
         when(request.session()).thenReturn(sessionTwo);
         when(sessionTwo.attribute(GetHomeRoute.CURRENT_USER_ATTR)).thenReturn(testPlayer2);
-        when(sessionTwo.attribute(PostValidateMoveRoute.CURRENT_MOVE_ATTR)).thenReturn(moveList);
         when(request.queryParams(GAME_ID_ATTR)).thenReturn(String.valueOf(gameCenter.getGameID()));
 
 
@@ -149,6 +143,6 @@ public class PostSubmitTurnTest {
         // start space should no longer have a piece on it (null)
         assertNull(gameCenter.getCheckersBoard().getRow(5).getSpace(1).getPiece());
         assertEquals(pieceToMove, gameCenter.getCheckersBoard().getRow(4).getSpace(2).getPiece());
-        assertTrue(dependant.consecutiveMoves.size() == 0);
+        assertTrue(gameCenter.getTurnBuffer(testPlayer2).isEmpty());
     }
 }
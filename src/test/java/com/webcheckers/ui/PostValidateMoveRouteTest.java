@@ -1,6 +1,7 @@
 package com.webcheckers.ui;
 
 import com.google.gson.Gson;
+import com.webcheckers.application.GameArchive;
 import com.webcheckers.application.GameCenter;
 import com.webcheckers.application.GameLibrary;
 import com.webcheckers.model.*;
@@ -12,12 +13,13 @@ import spark.Request;
 import spark.Response;
 import spark.Session;
 
-import java.util.HashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 import static com.webcheckers.ui.GetGameRoute.GAME_ID_ATTR;
 import static com.webcheckers.ui.PostValidateMoveRoute.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -64,9 +66,9 @@ public class PostValidateMoveRouteTest {
         when(sessionOne.attribute(GetHomeRoute.CURRENT_USER_ATTR)).thenReturn(testPlayer1);
 
         CuT = new PostValidateMoveRoute(gson);
-        HashMap<Integer, GameCenter> activeGameList = new HashMap<>();
-        HashMap<Integer, GameCenter> endedGameList = new HashMap<>();
-        dependant = new GameLibrary(activeGameList, endedGameList);
+        ConcurrentSkipListMap<Integer, GameCenter> activeGameList = new ConcurrentSkipListMap<>();
+        GameArchive endedGameArchive = new GameArchive(4);
+        dependant = new GameLibrary(activeGameList, endedGameArchive);
         gameCenter = dependant.createGame(testPlayer1, testPlayer2);
 
         when(request.queryParams(GAME_ID_ATTR)).thenReturn(String.valueOf(gameCenter.getGameID()));
@@ -93,6 +95,10 @@ public class PostValidateMoveRouteTest {
         Message checkValidMessage = gson.fromJson((String) checkValidJson, Message.class);
         assertEquals(VALID_MOVE, checkValidMessage.getText());
         assertSame(Message.Type.INFO, checkValidMessage.getType());
+
+        // the valid move should be waiting in the player's turn buffer.
+        assertEquals(1, gameCenter.getTurnBuffer(testPlayer1).size());
+        assertEquals(move, gameCenter.getTurnBuffer(testPlayer1).get(0));
     }
 
     /**
@@ -117,6 +123,9 @@ public class PostValidateMoveRouteTest {
         Message checkValidMessage = gson.fromJson((String) checkValidJson, Message.class);
         assertEquals("You must move diagonally.", checkValidMessage.getText());
         assertSame(Message.Type.ERROR, checkValidMessage.getType());
+
+        // an invalid move should never reach the player's turn buffer.
+        assertTrue(gameCenter.getTurnBuffer(testPlayer1).isEmpty());
     }
 
     /**
@@ -64,6 +64,15 @@ public class TemplateEngineTester {
     assertEquals(expectedValue, vm.get(attrName));
   }
 
+  /**
+   * Get a View-Model attribute, to look inside it.
+   */
+  public Object getViewModelAttribute(final String attrName) {
+    @SuppressWarnings("unchecked")
+    final Map<String, Object> vm = (Map<String, Object>) model;
+    return vm.get(attrName);
+  }
+
   /**
    * Assert that the View-Model attribute is absent.
    */
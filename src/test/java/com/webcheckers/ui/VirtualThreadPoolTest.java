@@ -0,0 +1,87 @@
+package com.webcheckers.ui;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * The unit test suite for the {@link VirtualThreadPool} component.
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+@Tag("UI-tier")
+public class VirtualThreadPoolTest {
+
+    /**
+     * Make sure a pool is only created when the JVM has virtual threads.
+     */
+    @Test
+    public void verify_created_when_supported() {
+        boolean supported;
+        try {
+            Thread.class.getMethod("ofVirtual");
+            supported = true;
+        } catch (NoSuchMethodException e) {
+            supported = false;
+        }
+        if (supported) {
+            assertNotNull(VirtualThreadPool.create());
+        } else {
+            assertNull(VirtualThreadPool.create());
+        }
+    }
+
+    /**
+     * Make sure tasks are run, each on a virtual thread, and that the pool
+     * stops cleanly.
+     */
+    @Test
+    public void verify_tasks_run() throws Exception {
+        VirtualThreadPool CuT = VirtualThreadPool.create();
+        assumeTrue(CuT != null, "Virtual threads need Java 21 or newer.");
+        runTask(CuT);
+    }
+
+    /**
+     * Make sure the pool runs tasks and stops cleanly on any JVM, by giving
+     * it platform threads to run them on.
+     */
+    @Test
+    public void verify_tasks_run_on_platform_threads() throws Exception {
+        runTask(new VirtualThreadPool(Executors.defaultThreadFactory()));
+    }
+
+    /**
+     * Start the pool, check it counts a task while it runs, then stop it.
+     */
+    private void runTask(VirtualThreadPool CuT) throws Exception {
+        CuT.start();
+
+        final CountDownLatch running = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        CuT.execute(() -> {
+            running.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        assertEquals(1, CuT.getThreads());
+        assertEquals(0, CuT.getIdleThreads());
+        assertFalse(CuT.isLowOnThreads());
+
+        release.countDown();
+        CuT.stop();
+        assertTrue(CuT.isStopped());
+        // joining a stopped pool returns straight away.
+        CuT.join();
+    }
+}
@@ -0,0 +1,70 @@
+package com.webcheckers.util;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.webcheckers.model.Move;
+import com.webcheckers.model.Position;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The unit test suite for the {@link JsonAdapters} component.
+ *
+ * @author Andrew Frank, ajf8248@rit.edu
+ */
+@Tag("Model-tier")
+public class JsonAdaptersTest {
+
+    /**
+     * A Gson using the adapters under test.
+     */
+    private Gson CuT;
+
+    /**
+     * A Gson using reflection, which the adapters must agree with.
+     */
+    private Gson reflective;
+
+    @BeforeEach
+    public void setup() {
+        CuT = JsonAdapters.register(new GsonBuilder()).create();
+        reflective = new Gson();
+    }
+
+    /**
+     * Test that a Move is written just as Gson would write it, and read back.
+     */
+    @Test
+    public void move_round_trip() {
+        Move move = new Move(new Position(5, 4), new Position(3, 2));
+
+        String json = CuT.toJson(move);
+        assertEquals(reflective.toJson(move), json);
+        assertEquals(move, CuT.fromJson(json, Move.class));
+        // the client may send the fields in any order, along with others.
+        assertEquals(move, CuT.fromJson(
+                "{\"end\":{\"cell\":2,\"row\":3},\"extra\":[1],\"start\":{\"row\":5,\"cell\":4}}",
+                Move.class));
+        assertNull(CuT.fromJson("null", Move.class));
+    }
+
+    /**
+     * Test that a Message is written just as Gson would write it, and read
+     * back with its type.
+     */
+    @Test
+    public void message_round_trip() {
+        Message info = Message.info("true");
+        Message error = Message.error("This isn't a valid \"jump\" move.");
+
+        assertEquals(reflective.toJson(info), CuT.toJson(info));
+        assertEquals(reflective.toJson(error), CuT.toJson(error));
+
+        Message read = CuT.fromJson(CuT.toJson(error), Message.class);
+        assertEquals(Message.Type.ERROR, read.getType());
+        assertEquals(error.getText(), read.getText());
+    }
+}